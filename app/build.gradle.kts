@@ -44,6 +44,10 @@ android {
     buildFeatures {
         buildConfig = true
     }
+    // 🧪 로컬 단위 테스트에서 android.util.Log 등은 기본값 반환
+    testOptions {
+        unitTests.isReturnDefaultValues = true
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_17
         targetCompatibility = JavaVersion.VERSION_17
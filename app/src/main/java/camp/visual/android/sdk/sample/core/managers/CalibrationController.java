@@ -4,6 +4,7 @@ import android.app.Activity;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.view.View;
 import android.widget.Toast;
 
@@ -12,15 +13,22 @@ import camp.visual.android.sdk.sample.core.security.SecurityManager;
 import camp.visual.android.sdk.sample.core.utils.PerformanceLogger;
 import camp.visual.android.sdk.sample.core.utils.ResourceManager;
 import camp.visual.android.sdk.sample.domain.calibration.AdaptiveCalibrationManager;
+import camp.visual.android.sdk.sample.domain.calibration.CalibrationFixationGate;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 import camp.visual.android.sdk.sample.service.tracking.GazeTrackingService;
 import camp.visual.android.sdk.sample.ui.views.CalibrationViewer;
 import camp.visual.eyedid.gazetracker.GazeTracker;
 import camp.visual.eyedid.gazetracker.callback.CalibrationCallback;
 import camp.visual.eyedid.gazetracker.callback.InitializationCallback;
+import camp.visual.eyedid.gazetracker.callback.TrackingCallback;
 import camp.visual.eyedid.gazetracker.constant.AccuracyCriteria;
 import camp.visual.eyedid.gazetracker.constant.CalibrationModeType;
 import camp.visual.eyedid.gazetracker.constant.InitializationErrorType;
+import camp.visual.eyedid.gazetracker.metrics.BlinkInfo;
+import camp.visual.eyedid.gazetracker.metrics.FaceInfo;
+import camp.visual.eyedid.gazetracker.metrics.GazeInfo;
+import camp.visual.eyedid.gazetracker.metrics.UserStatusInfo;
+import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
 
 import java.lang.ref.WeakReference;
 
@@ -54,6 +62,16 @@ public class CalibrationController {
     private CalibrationModeType currentMode = CalibrationModeType.DEFAULT;
     private AccuracyCriteria currentAccuracy = AccuracyCriteria.DEFAULT;
     
+    // 🆕 보정 지점별 샘플 수집 시작 게이트 (고정 시선 감지, 타임아웃은 폴백)
+    private final CalibrationFixationGate fixationGate = new CalibrationFixationGate();
+    private static final long FIRST_POINT_GATE_TIMEOUT_MS = 2500;
+    private static final long POINT_GATE_TIMEOUT_MS = 1200;
+    private final Runnable gateTimeout = () -> {
+        if (fixationGate.forceOpen(SystemClock.uptimeMillis())) {
+            beginSampleCollection();
+        }
+    };
+    
     public CalibrationController(Activity activity, ResourceManager resourceManager, UserSettings userSettings) {
         this.activityRef = new WeakReference<>(activity);
         this.resourceManager = resourceManager;
@@ -273,10 +291,13 @@ public class CalibrationController {
             public void onCalibrationFinished(double[] calibrationData) {
                 long duration = System.currentTimeMillis() - calibrationStartTime;
                 PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION, 
-                    String.format("캘리브레이션 완료: %d포인트, %dms 소요", currentPointIndex, duration));
+                    String.format("캘리브레이션 완료: %d포인트, %dms 소요 (%s)",
+                        currentPointIndex, duration, fixationGate.getSummary()));
                 
                 hideCalibrationView();
                 isCalibrating = false;
+                mainHandler.removeCallbacks(gateTimeout);
+                fixationGate.disarm();
                 
                 mainHandler.post(() -> {
                     if (controllerCallback != null) {
@@ -308,6 +329,37 @@ public class CalibrationController {
         
         if (gazeTracker != null) {
             gazeTracker.setCalibrationCallback(calibrationCallback);
+            gazeTracker.setTrackingCallback(gateTrackingCallback);
+        }
+    }
+    
+    /**
+     * 🆕 보정 중 시선 프레임으로 고정 시선 게이트 갱신 (깜빡임/추적 실패 프레임 제외)
+     */
+    private final TrackingCallback gateTrackingCallback = new TrackingCallback() {
+        @Override
+        public void onMetrics(long timestamp, GazeInfo gazeInfo, FaceInfo faceInfo,
+                              BlinkInfo blinkInfo, UserStatusInfo userStatusInfo) {
+            if (!isCalibrating || gazeInfo == null || !fixationGate.isWaiting()) {
+                return;
+            }
+            boolean validFrame = gazeInfo.trackingState == TrackingState.SUCCESS
+                    && (blinkInfo == null || !blinkInfo.isBlink);
+            if (fixationGate.update(SystemClock.uptimeMillis(), gazeInfo.x, gazeInfo.y, validFrame)) {
+                mainHandler.post(() -> beginSampleCollection());
+            }
+        }
+        
+        @Override
+        public void onDrop(long timestamp) {
+        }
+    };
+    
+    private void beginSampleCollection() {
+        mainHandler.removeCallbacks(gateTimeout);
+        if (gazeTracker != null && isCalibrating) {
+            gazeTracker.startCollectSamples();
+            skipProgress = false;
         }
     }
     
@@ -343,6 +395,7 @@ public class CalibrationController {
         isCalibrating = true;
         isFirstPoint = true;
         currentPointIndex = 0;
+        fixationGate.resetStats();
         currentMode = mode;
         currentAccuracy = accuracy;
         calibrationStartTime = System.currentTimeMillis();
@@ -456,14 +509,10 @@ public class CalibrationController {
         calibrationViewer.nextPointColor();
         calibrationViewer.setPointPosition(x, y);
         
-        long delay = isFirstPoint ? 2500 : 1200;
-        
-        mainHandler.postDelayed(() -> {
-            if (gazeTracker != null && isCalibrating) {
-                gazeTracker.startCollectSamples();
-                skipProgress = false;
-            }
-        }, delay);
+        // 🔧 고정 대기 대신 고정 시선이 감지되면 바로 수집 시작 (기존 대기 시간은 타임아웃으로 유지)
+        mainHandler.removeCallbacks(gateTimeout);
+        fixationGate.arm(x, y, SystemClock.uptimeMillis());
+        mainHandler.postDelayed(gateTimeout, isFirstPoint ? FIRST_POINT_GATE_TIMEOUT_MS : POINT_GATE_TIMEOUT_MS);
         
         isFirstPoint = false;
     }
@@ -487,6 +536,8 @@ public class CalibrationController {
      * 🔄 캘리브레이션 상태 리셋
      */
     private void resetCalibrationState() {
+        mainHandler.removeCallbacks(gateTimeout);
+        fixationGate.disarm();
         isCalibrating = false;
         isFirstPoint = false;
         currentPointIndex = 0;
@@ -609,6 +660,7 @@ public class CalibrationController {
         if (gazeTracker != null) {
             try {
                 gazeTracker.removeCalibrationCallback();
+                gazeTracker.removeTrackingCallback();
                 // 필요시 GazeTracker.releaseGazeTracker(gazeTracker) 호출
             } catch (Exception e) {
                 PerformanceLogger.logError(AppConstants.Logging.TAG_CALIBRATION, 
@@ -0,0 +1,156 @@
+package camp.visual.android.sdk.sample.core.utils;
+
+import android.content.ComponentCallbacks2;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🧹 메모리 압박 대응 조정자 (프로세스 단위 싱글톤)
+ * - 각 캐시 소유자가 비울 수 있는 캐시를 이름/우선순위/최소 압박 단계와 함께 등록
+ * - onTrimMemory/onLowMemory(서비스, 액티비티)에서 압박 단계를 받아 우선순위 순서로 비움
+ *   (다시 만들기 쉬운 캐시부터, 압박이 심할수록 더 많이)
+ * - 비울 때마다 이름과 해제한 크기(추정 bytes)를 로그로 보고
+ *
+ * 같은 이름으로 다시 등록하면 교체 (서비스/액티비티가 여러 번 만들어져도 중복 없음)
+ */
+public final class MemoryPressureCoordinator {
+    private static final String TAG = "MemoryPressure";
+
+    /**
+     * 압박 단계
+     */
+    public enum Severity {
+        LOW,        // 여유 감소 / UI 숨김
+        MEDIUM,     // 여유 부족 / 백그라운드
+        HIGH;       // 심각 / onLowMemory
+
+        public static Severity fromTrimLevel(int level) {
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+                    || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+                return HIGH;
+            }
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+                    || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+                return MEDIUM;
+            }
+            return LOW;
+        }
+    }
+
+    /**
+     * 비울 수 있는 캐시
+     */
+    public interface Sheddable {
+        /**
+         * 캐시를 비우고 해제한 대략적인 크기 (bytes) 반환
+         */
+        long shed(Severity severity);
+    }
+
+    private static final class Registration {
+        final String name;
+        final int priority;
+        final Severity minSeverity;
+        final Sheddable sheddable;
+
+        Registration(String name, int priority, Severity minSeverity, Sheddable sheddable) {
+            this.name = name;
+            this.priority = priority;
+            this.minSeverity = minSeverity;
+            this.sheddable = sheddable;
+        }
+    }
+
+    // 우선순위 (작을수록 먼저 비움)
+    public static final int PRIORITY_LOG_CACHE = 0;
+    public static final int PRIORITY_UI_HISTORY = 10;
+    public static final int PRIORITY_PROFILE_CACHE = 20;
+    public static final int PRIORITY_TARGET_INDEX = 30;
+
+    private static volatile MemoryPressureCoordinator instance;
+
+    private final List<Registration> registrations = new ArrayList<>();
+    private long totalBytesFreed = 0;
+
+    private MemoryPressureCoordinator() {
+    }
+
+    public static MemoryPressureCoordinator getInstance() {
+        if (instance == null) {
+            synchronized (MemoryPressureCoordinator.class) {
+                if (instance == null) {
+                    instance = new MemoryPressureCoordinator();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 캐시 등록 (같은 이름이면 교체)
+     * @param minSeverity 이 단계 이상일 때만 비움
+     */
+    public synchronized void register(String name, int priority, Severity minSeverity, Sheddable sheddable) {
+        unregister(name);
+        int index = 0;
+        while (index < registrations.size() && registrations.get(index).priority <= priority) {
+            index++;
+        }
+        registrations.add(index, new Registration(name, priority, minSeverity, sheddable));
+    }
+
+    public synchronized void unregister(String name) {
+        for (int i = registrations.size() - 1; i >= 0; i--) {
+            if (registrations.get(i).name.equals(name)) {
+                registrations.remove(i);
+            }
+        }
+    }
+
+    public void onTrimMemory(int level) {
+        shed(Severity.fromTrimLevel(level), "onTrimMemory(" + level + ")");
+    }
+
+    public void onLowMemory() {
+        shed(Severity.HIGH, "onLowMemory");
+    }
+
+    /**
+     * 단계 이하로 등록된 캐시를 우선순위 순서로 비움
+     * @return 해제한 총 크기 (추정 bytes)
+     */
+    public long shed(Severity severity, String reason) {
+        List<Registration> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(registrations);
+        }
+
+        long freed = 0;
+        for (Registration registration : targets) {
+            if (registration.minSeverity.ordinal() > severity.ordinal()) {
+                continue;
+            }
+            try {
+                long bytes = registration.sheddable.shed(severity);
+                freed += bytes;
+                if (bytes > 0) {
+                    Log.i(TAG, "캐시 해제 [" + severity + "] " + registration.name + ": " + bytes + " bytes");
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "캐시 해제 실패: " + registration.name + " - " + e.getMessage());
+            }
+        }
+
+        synchronized (this) {
+            totalBytesFreed += freed;
+        }
+        Log.i(TAG, reason + " → " + severity + ", 총 " + freed + " bytes 해제");
+        return freed;
+    }
+
+    public synchronized long getTotalBytesFreed() {
+        return totalBytesFreed;
+    }
+}
@@ -17,6 +17,16 @@ public final class PerformanceLogger {
     
     // 로그 빈도 제어를 위한 타임스탬프 저장
     private static final ConcurrentHashMap<String, Long> lastLogTimes = new ConcurrentHashMap<>();
+
+    // 🆕 빈도 제한 맵 항목당 대략적인 크기 (노드 + 키 문자열 + Long)
+    private static final long LOG_ENTRY_BYTES = 120;
+
+    static {
+        // 메시지 해시가 키에 들어가므로 좌표 로그 등으로 계속 커질 수 있음 - 메모리 압박 시 가장 먼저 비움
+        MemoryPressureCoordinator.getInstance().register("log_rate_limits",
+                MemoryPressureCoordinator.PRIORITY_LOG_CACHE, MemoryPressureCoordinator.Severity.LOW,
+                severity -> shedLogCache());
+    }
     
     /**
      * 🎯 조건부 디버그 로그 (빈도 제한 적용)
@@ -199,6 +209,16 @@ public final class PerformanceLogger {
         logImportant(AppConstants.Logging.TAG_MAIN, "Log cache cleared");
     }
     
+    /**
+     * 🆕 메모리 압박 시 빈도 제한 맵 비움 (다음 로그는 바로 출력될 뿐 동작에 영향 없음)
+     * @return 해제한 대략적인 크기 (bytes)
+     */
+    public static long shedLogCache() {
+        int entries = lastLogTimes.size();
+        lastLogTimes.clear();
+        return entries * LOG_ENTRY_BYTES;
+    }
+    
     /**
      * 📊 로그 통계 출력
      */
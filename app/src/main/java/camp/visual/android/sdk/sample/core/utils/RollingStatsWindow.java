@@ -0,0 +1,163 @@
+package camp.visual.android.sdk.sample.core.utils;
+
+/**
+ * 📊 시간 기반 슬라이딩 윈도우 통계 (고정 용량, 할당 없음)
+ * - 최근 windowMs 동안의 값만 유지 (원형 버퍼, 용량 초과 시 가장 오래된 값부터 제거)
+ * - 평균/분산: 합계와 제곱합을 누적해 O(1)
+ * - 분위수: 값 범위를 고정 구간 히스토그램으로 관리 → 추가/제거 O(1), 조회 O(구간 수)
+ *
+ * 단일 스레드에서 사용 (호출 측 스레드 전용)
+ */
+public final class RollingStatsWindow {
+
+    private final long[] times;
+    private final float[] values;
+    private final int capacity;
+    private int head = 0;   // 다음에 쓸 위치
+    private int count = 0;
+
+    private long windowMs;
+
+    // 누적 합 (double로 장시간 누적 오차 완화)
+    private double sum = 0;
+    private double sumSq = 0;
+
+    // 분위수용 히스토그램
+    private final float minValue;
+    private final float maxValue;
+    private final float binWidth;
+    private final int[] histogram;
+
+    /**
+     * @param capacity 최대 보관 샘플 수 (윈도우 × 최대 입력 빈도 이상)
+     * @param minValue 히스토그램 하한 (이하 값은 첫 구간)
+     * @param maxValue 히스토그램 상한 (이상 값은 마지막 구간)
+     * @param bins 히스토그램 구간 수 (분위수 해상도 = 범위 / bins)
+     */
+    public RollingStatsWindow(int capacity, long windowMs, float minValue, float maxValue, int bins) {
+        this.capacity = capacity;
+        this.times = new long[capacity];
+        this.values = new float[capacity];
+        this.windowMs = windowMs;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.histogram = new int[bins];
+        this.binWidth = (maxValue - minValue) / bins;
+    }
+
+    public void add(long timestampMs, float value) {
+        evictOlderThan(timestampMs - windowMs);
+        if (count == capacity) {
+            removeOldest();
+        }
+
+        times[head] = timestampMs;
+        values[head] = value;
+        head = (head + 1) % capacity;
+        count++;
+
+        sum += value;
+        sumSq += (double) value * value;
+        histogram[binOf(value)]++;
+    }
+
+    /**
+     * 새 샘플 없이 시간만 흐른 경우 오래된 값 제거
+     */
+    public void evictOlderThan(long cutoffMs) {
+        while (count > 0 && times[oldestIndex()] < cutoffMs) {
+            removeOldest();
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 윈도우 안 가장 오래된 샘플부터 최신 샘플까지의 시간 (ms)
+     */
+    public long spanMs() {
+        if (count == 0) {
+            return 0;
+        }
+        return times[(head - 1 + capacity) % capacity] - times[oldestIndex()];
+    }
+
+    public float mean() {
+        return count > 0 ? (float) (sum / count) : 0f;
+    }
+
+    public float variance() {
+        if (count < 2) {
+            return 0f;
+        }
+        double mean = sum / count;
+        return (float) Math.max(0, sumSq / count - mean * mean);
+    }
+
+    public float stdDev() {
+        return (float) Math.sqrt(variance());
+    }
+
+    /**
+     * 분위수 (q = 0~1) - 히스토그램 구간 안에서 선형 보간
+     */
+    public float quantile(float q) {
+        if (count == 0) {
+            return 0f;
+        }
+        float rank = Math.max(0f, Math.min(1f, q)) * count;
+        int cumulative = 0;
+        for (int bin = 0; bin < histogram.length; bin++) {
+            int inBin = histogram[bin];
+            if (inBin > 0 && cumulative + inBin >= rank) {
+                float within = (rank - cumulative) / inBin;
+                return minValue + binWidth * (bin + within);
+            }
+            cumulative += inBin;
+        }
+        return maxValue;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+        sum = 0;
+        sumSq = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = 0;
+        }
+    }
+
+    private void removeOldest() {
+        int idx = oldestIndex();
+        float value = values[idx];
+        sum -= value;
+        sumSq -= (double) value * value;
+        histogram[binOf(value)]--;
+        count--;
+        if (count == 0) {
+            // 누적 오차 제거
+            sum = 0;
+            sumSq = 0;
+        }
+    }
+
+    private int oldestIndex() {
+        return (head - count + capacity) % capacity;
+    }
+
+    private int binOf(float value) {
+        int bin = (int) ((value - minValue) / binWidth);
+        return Math.max(0, Math.min(histogram.length - 1, bin));
+    }
+}
@@ -28,6 +28,11 @@ public final class ThrottledUIUpdater {
         this.lastUpdateTimes = new ConcurrentHashMap<>();
         this.pendingUpdates = new ConcurrentHashMap<>();
         this.defaultUpdateInterval = AppConstants.UI.UI_UPDATE_INTERVAL_MS;
+
+        // 🆕 메모리 압박 시 업데이트 이력(빈도 제한 맵) 비움 - 대기 중인 업데이트는 유지
+        MemoryPressureCoordinator.getInstance().register("ui_update_history",
+                MemoryPressureCoordinator.PRIORITY_UI_HISTORY, MemoryPressureCoordinator.Severity.LOW,
+                severity -> shedUpdateHistory());
     }
     
     public static ThrottledUIUpdater getInstance() {
@@ -205,6 +210,16 @@ public final class ThrottledUIUpdater {
             "Update history cleared");
     }
     
+    /**
+     * 🆕 업데이트 이력 비우기
+     * @return 해제한 대략적인 크기 (bytes, 항목당 노드 + 키 + Long)
+     */
+    public long shedUpdateHistory() {
+        int entries = lastUpdateTimes.size();
+        lastUpdateTimes.clear();
+        return entries * 120L;
+    }
+    
     /**
      * 📊 업데이트 통계
      */
@@ -0,0 +1,88 @@
+package camp.visual.android.sdk.sample.core.utils;
+
+/**
+ * 🪣 토큰 버킷 빈도 제한 (이력 목록 스캔 대체)
+ * - refillIntervalMs마다 토큰 1개 충전, 최대 capacity개까지 누적
+ * - 조회/소비 모두 O(1), 할당 없음
+ *
+ * 예) capacity 1 + 30초 → "최소 30초 간격", capacity 5 + 12분 → "시간당 5회"
+ * 시각은 호출 측이 한 가지 시계로 일관되게 전달
+ */
+public final class TokenBucket {
+
+    private final int capacity;
+    private final long refillIntervalMs;
+    private double tokens;
+    private long lastRefillMs;
+    private boolean started = false;
+
+    public TokenBucket(int capacity, long refillIntervalMs) {
+        this.capacity = capacity;
+        this.refillIntervalMs = refillIntervalMs;
+        this.tokens = capacity;
+    }
+
+    /**
+     * 토큰이 있으면 1개 소비하고 true
+     */
+    public synchronized boolean tryAcquire(long nowMs) {
+        refill(nowMs);
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    /**
+     * 제한과 무관하게 이미 일어난 사건을 기록 (토큰이 없으면 0으로 유지)
+     */
+    public synchronized void consume(long nowMs) {
+        refill(nowMs);
+        tokens = Math.max(0.0, tokens - 1.0);
+    }
+
+    public synchronized boolean canAcquire(long nowMs) {
+        refill(nowMs);
+        return tokens >= 1.0;
+    }
+
+    /**
+     * 다음 토큰까지 남은 시간 (ms, 지금 가능하면 0)
+     */
+    public synchronized long millisUntilAvailable(long nowMs) {
+        refill(nowMs);
+        if (tokens >= 1.0) {
+            return 0;
+        }
+        return (long) Math.ceil((1.0 - tokens) * refillIntervalMs);
+    }
+
+    public synchronized int getAvailable(long nowMs) {
+        refill(nowMs);
+        return (int) tokens;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void reset() {
+        tokens = capacity;
+        started = false;
+    }
+
+    private void refill(long nowMs) {
+        if (!started) {
+            started = true;
+            lastRefillMs = nowMs;
+            return;
+        }
+        long elapsed = nowMs - lastRefillMs;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens = Math.min(capacity, tokens + (double) elapsed / refillIntervalMs);
+        lastRefillMs = nowMs;
+    }
+}
@@ -0,0 +1,400 @@
+package camp.visual.android.sdk.sample.data.calibration;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * 🆕 캘리브레이션 이력 (고정 용량 링 + 추가 전용 로그 파일)
+ * - 메모리: 최근 CAPACITY개 요약(시각, 품질, 커서 오프셋, 데이터 참조)만 원시 배열로 보관
+ *   보정 데이터 자체는 저장소/프로필 파일에 있으므로 참조 키만 기록
+ * - 집계: 분 단위(최근 1시간) / 시간 단위(최근 24시간) 버킷을 추가 시점에 갱신 → 조회 시 이력 스캔 없음
+ * - 디스크: 추가 시 레코드 하나만 덧붙이고, 파일이 링의 2배를 넘으면 링 내용으로 다시 씀 (임시 파일 + rename)
+ * - 🔧 파일 쓰기는 전용 I/O 스레드에서 순서대로 처리 (append는 메인 스레드에서 불려도 메모리만 갱신하고 반환)
+ *   정리(compact)는 잠금 안에서 뜬 링 스냅샷을 기록하므로 쓰는 동안 추가되는 항목과 섞이지 않음
+ *   최초 로드만 생성 시점에 동기로 읽음
+ *
+ * 서비스와 액티비티가 같은 이력을 보도록 프로세스 단위 싱글톤
+ * 파일 형식: int magic, int version, (long 시각, float 품질, float 오프셋X, float 오프셋Y, UTF 참조)*
+ */
+public final class CalibrationHistoryLog {
+
+    private static final String TAG = "CalibrationHistory";
+
+    public static final int CAPACITY = 256;
+
+    private static final String FILE_NAME = "calibration_history.log";
+    private static final int MAGIC = 0x47434C48; // "GCLH"
+    private static final int VERSION = 1;
+
+    // 7일 지난 이력은 로드 시 버림
+    private static final long RETENTION_MS = 7 * 24 * 3600000L;
+
+    private static final long MINUTE_MS = 60000L;
+    private static final long HOUR_MS = 3600000L;
+    private static final int MINUTE_BUCKETS = 60;
+    private static final int HOUR_BUCKETS = 24;
+
+    private static volatile CalibrationHistoryLog instance;
+
+    private final File file;
+    private final Handler ioHandler;
+
+    // 링 버퍼 (가장 오래된 항목 = (head - size) mod CAPACITY)
+    private final long[] timestamps = new long[CAPACITY];
+    private final float[] qualities = new float[CAPACITY];
+    private final float[] offsetXs = new float[CAPACITY];
+    private final float[] offsetYs = new float[CAPACITY];
+    private final String[] payloadRefs = new String[CAPACITY];
+    private int head = 0;
+    private int size = 0;
+    private long sequence = 0;   // 지금까지 추가된 총 항목 수 (로드분 포함)
+
+    // 분/시간 버킷 (버킷 ID = 시각 / 버킷 길이, 다른 ID면 재사용 전 초기화)
+    private final long[] minuteIds = new long[MINUTE_BUCKETS];
+    private final int[] minuteCounts = new int[MINUTE_BUCKETS];
+    private final long[] hourIds = new long[HOUR_BUCKETS];
+    private final int[] hourCounts = new int[HOUR_BUCKETS];
+    private final int[] hourQualityCounts = new int[HOUR_BUCKETS];   // 품질이 확인된 항목 수
+    private final float[] hourQualitySums = new float[HOUR_BUCKETS];
+
+    // 파일에 기록했거나 기록 예약된 항목 수 (I/O 스레드 쓰기 실패 시 보정)
+    private int fileEntryCount = 0;
+
+    private CalibrationHistoryLog(Context context) {
+        this.file = new File(context.getFilesDir(), FILE_NAME);
+        // 프로세스 단위 싱글톤이므로 스레드는 종료하지 않음
+        HandlerThread ioThread = new HandlerThread("CalibrationHistoryIO", Process.THREAD_PRIORITY_BACKGROUND);
+        ioThread.start();
+        this.ioHandler = new Handler(ioThread.getLooper());
+        load();
+    }
+
+    public static CalibrationHistoryLog getInstance(Context context) {
+        if (instance == null) {
+            synchronized (CalibrationHistoryLog.class) {
+                if (instance == null) {
+                    instance = new CalibrationHistoryLog(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 캘리브레이션 이력 추가 (메모리 즉시 반영, 파일 덧붙임은 I/O 스레드에서)
+     * @param payloadRef 보정 데이터가 저장된 위치 (프로필 키 등, 없으면 null)
+     */
+    public synchronized void append(final long timestampMs, final float quality, final float offsetX,
+                                    final float offsetY, final String payloadRef) {
+        put(timestampMs, quality, offsetX, offsetY, payloadRef);
+
+        if (fileEntryCount >= CAPACITY * 2) {
+            scheduleCompaction();
+            return;
+        }
+        fileEntryCount++;
+        ioHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (!appendToFile(timestampMs, quality, offsetX, offsetY, payloadRef)) {
+                    synchronized (CalibrationHistoryLog.this) {
+                        fileEntryCount--;
+                    }
+                }
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 지금까지 추가된 총 항목 수 - 다른 구성요소가 추가한 항목을 따라잡는 데 사용
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    // 항목 조회 (index 0 = 가장 오래된 항목, size() - 1 = 최신)
+    public synchronized long getTimestamp(int index) {
+        return timestamps[slot(index)];
+    }
+
+    public synchronized float getQuality(int index) {
+        return qualities[slot(index)];
+    }
+
+    public synchronized float getOffsetX(int index) {
+        return offsetXs[slot(index)];
+    }
+
+    public synchronized float getOffsetY(int index) {
+        return offsetYs[slot(index)];
+    }
+
+    public synchronized String getPayloadRef(int index) {
+        return payloadRefs[slot(index)];
+    }
+
+    /**
+     * 최근 1시간 캘리브레이션 횟수 (분 단위 버킷)
+     */
+    public synchronized int countLastHour(long nowMs) {
+        long nowMinute = nowMs / MINUTE_MS;
+        int count = 0;
+        for (int i = 0; i < MINUTE_BUCKETS; i++) {
+            if (nowMinute - minuteIds[i] < MINUTE_BUCKETS && minuteIds[i] <= nowMinute) {
+                count += minuteCounts[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 최근 24시간 캘리브레이션 횟수 (시간 단위 버킷)
+     */
+    public synchronized int countLastDay(long nowMs) {
+        long nowHour = nowMs / HOUR_MS;
+        int count = 0;
+        for (int i = 0; i < HOUR_BUCKETS; i++) {
+            if (nowHour - hourIds[i] < HOUR_BUCKETS && hourIds[i] <= nowHour) {
+                count += hourCounts[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 최근 24시간 평균 품질 - 품질 미확인(NaN) 항목 제외, 확인된 항목이 없으면 NaN
+     */
+    public synchronized float averageQualityLastDay(long nowMs) {
+        long nowHour = nowMs / HOUR_MS;
+        int count = 0;
+        float sum = 0f;
+        for (int i = 0; i < HOUR_BUCKETS; i++) {
+            if (nowHour - hourIds[i] < HOUR_BUCKETS && hourIds[i] <= nowHour) {
+                count += hourQualityCounts[i];
+                sum += hourQualitySums[i];
+            }
+        }
+        return count > 0 ? sum / count : Float.NaN;
+    }
+
+    /**
+     * 메모리와 파일 모두 비움 (디버깅용)
+     */
+    public synchronized void clear() {
+        clearMemory();
+        fileEntryCount = 0;
+        // 아직 기록되지 않은 덧붙이기 뒤에 삭제되도록 같은 스레드에서 처리
+        ioHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (file.exists() && !file.delete()) {
+                    Log.w(TAG, "이력 파일 삭제 실패");
+                }
+            }
+        });
+    }
+
+    private void put(long timestampMs, float quality, float offsetX, float offsetY, String payloadRef) {
+        timestamps[head] = timestampMs;
+        qualities[head] = quality;
+        offsetXs[head] = offsetX;
+        offsetYs[head] = offsetY;
+        payloadRefs[head] = payloadRef;
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) {
+            size++;
+        }
+        sequence++;
+
+        long minute = timestampMs / MINUTE_MS;
+        int m = (int) (minute % MINUTE_BUCKETS);
+        if (minuteIds[m] < minute) {
+            minuteIds[m] = minute;
+            minuteCounts[m] = 0;
+        }
+        if (minuteIds[m] == minute) {
+            minuteCounts[m]++;
+        }
+
+        long hour = timestampMs / HOUR_MS;
+        int h = (int) (hour % HOUR_BUCKETS);
+        if (hourIds[h] < hour) {
+            hourIds[h] = hour;
+            hourCounts[h] = 0;
+            hourQualityCounts[h] = 0;
+            hourQualitySums[h] = 0f;
+        }
+        if (hourIds[h] == hour) {
+            hourCounts[h]++;
+            if (!Float.isNaN(quality)) {
+                hourQualityCounts[h]++;
+                hourQualitySums[h] += quality;
+            }
+        }
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return (head - size + index + CAPACITY) % CAPACITY;
+    }
+
+    private void clearMemory() {
+        head = 0;
+        size = 0;
+        for (int i = 0; i < CAPACITY; i++) {
+            payloadRefs[i] = null;
+        }
+        for (int i = 0; i < MINUTE_BUCKETS; i++) {
+            minuteIds[i] = 0;
+            minuteCounts[i] = 0;
+        }
+        for (int i = 0; i < HOUR_BUCKETS; i++) {
+            hourIds[i] = 0;
+            hourCounts[i] = 0;
+            hourQualityCounts[i] = 0;
+            hourQualitySums[i] = 0f;
+        }
+    }
+
+    // 파일의 항목을 순서대로 링에 다시 넣음 (끝이 잘린 항목이나 만료된 항목이 있으면 다시 씀)
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        boolean needsCompaction = false;
+        long cutoff = System.currentTimeMillis() - RETENTION_MS;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                Log.w(TAG, "이력 파일 형식 불일치 - 새로 시작");
+                clear();
+                return;
+            }
+            // 🔧 남은 바이트가 없을 때만 정상 끝 - 타임스탬프 중간에서 잘린 항목도
+            //    아래 EOFException으로 정리해야 다음 항목이 어긋나지 않음
+            //    (로컬 파일의 available()은 남은 바이트 수)
+            while (in.available() > 0) {
+                long timestamp = in.readLong();
+                float quality = in.readFloat();
+                float offsetX = in.readFloat();
+                float offsetY = in.readFloat();
+                String ref = in.readUTF();
+                fileEntryCount++;
+                if (timestamp < cutoff) {
+                    needsCompaction = true;
+                    continue;
+                }
+                put(timestamp, quality, offsetX, offsetY, ref.isEmpty() ? null : ref);
+            }
+        } catch (EOFException e) {
+            // 덧붙이는 중 종료되어 마지막 항목이 잘림
+            Log.w(TAG, "이력 파일 끝 항목 손상 - 정리");
+            needsCompaction = true;
+        } catch (IOException e) {
+            Log.e(TAG, "이력 로드 실패: " + e.getMessage());
+            needsCompaction = true;
+        }
+
+        if (needsCompaction || fileEntryCount > size) {
+            scheduleCompaction();
+        }
+        Log.d(TAG, "이력 로드: " + size + "건");
+    }
+
+    private boolean appendToFile(long timestampMs, float quality, float offsetX, float offsetY, String payloadRef) {
+        boolean writeHeader = !file.exists() || file.length() == 0;
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            if (writeHeader) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+            }
+            writeEntry(out, timestampMs, quality, offsetX, offsetY, payloadRef);
+            return true;
+        } catch (IOException e) {
+            Log.e(TAG, "이력 추가 실패: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // 현재 링 내용을 복사해 I/O 스레드에서 파일 재작성 (호출자가 잠금 보유)
+    private void scheduleCompaction() {
+        final int count = size;
+        final long[] snapshotTimestamps = new long[count];
+        final float[] snapshotQualities = new float[count];
+        final float[] snapshotOffsetXs = new float[count];
+        final float[] snapshotOffsetYs = new float[count];
+        final String[] snapshotRefs = new String[count];
+        for (int i = 0; i < count; i++) {
+            int s = slot(i);
+            snapshotTimestamps[i] = timestamps[s];
+            snapshotQualities[i] = qualities[s];
+            snapshotOffsetXs[i] = offsetXs[s];
+            snapshotOffsetYs[i] = offsetYs[s];
+            snapshotRefs[i] = payloadRefs[s];
+        }
+        // 이후 덧붙이는 항목은 새 파일 뒤에 붙음
+        fileEntryCount = count;
+
+        ioHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                compact(count, snapshotTimestamps, snapshotQualities, snapshotOffsetXs, snapshotOffsetYs, snapshotRefs);
+            }
+        });
+    }
+
+    // 스냅샷만으로 파일 재작성 (I/O 스레드) - 실패하면 기존 파일을 그대로 두고 다음 정리 때 다시 시도
+    private void compact(int count, long[] timestampsCopy, float[] qualitiesCopy,
+                         float[] offsetXsCopy, float[] offsetYsCopy, String[] refsCopy) {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (int i = 0; i < count; i++) {
+                writeEntry(out, timestampsCopy[i], qualitiesCopy[i], offsetXsCopy[i], offsetYsCopy[i], refsCopy[i]);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "이력 정리 실패: " + e.getMessage());
+            tempFile.delete();
+            return;
+        }
+
+        if (!tempFile.renameTo(file)) {
+            Log.e(TAG, "이력 파일 교체 실패");
+            tempFile.delete();
+            return;
+        }
+        Log.d(TAG, "이력 파일 정리: " + count + "건");
+    }
+
+    private static void writeEntry(DataOutputStream out, long timestampMs, float quality,
+                                   float offsetX, float offsetY, String payloadRef) throws IOException {
+        out.writeLong(timestampMs);
+        out.writeFloat(quality);
+        out.writeFloat(offsetX);
+        out.writeFloat(offsetY);
+        out.writeUTF(payloadRef != null ? payloadRef : "");
+    }
+}
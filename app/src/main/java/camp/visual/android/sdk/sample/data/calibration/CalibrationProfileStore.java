@@ -0,0 +1,307 @@
+package camp.visual.android.sdk.sample.data.calibration;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+
+import camp.visual.android.sdk.sample.core.utils.MemoryPressureCoordinator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🆕 다중 사용자 캘리브레이션 프로필 저장소 (LRU)
+ * - 키: 프로필 ID + 안경 착용 여부 + 화면 방향 + 카메라 모델
+ *   (같은 사용자라도 안경/렌즈, 가로/세로마다 별도 보정)
+ * - 메모리: 접근 순서 LinkedHashMap → 프로필 전환 시 O(1) 조회
+ * - 디스크: 키별 파일, 최근 사용 순서는 파일 수정 시각으로 유지 (시각 갱신은 I/O 스레드에서)
+ * - 용량 초과 시 가장 오래 사용하지 않은 프로필을 파일까지 삭제
+ * - 메모리 압박 시 최근 프로필 하나만 남기고 보정 데이터를 내려놓음 (조회 시 파일에서 다시 읽음)
+ *
+ * 서비스와 액티비티가 같은 캐시를 보도록 프로세스 단위 싱글톤
+ */
+public final class CalibrationProfileStore {
+
+    private static final String TAG = "CalibrationProfiles";
+
+    public static final String DEFAULT_PROFILE_ID = "default";
+    public static final int DEFAULT_CAPACITY = 8;
+
+    private static final String DIRECTORY = "calibration_profiles";
+    private static final String FILE_SUFFIX = ".prof";
+    private static final int MAGIC = 0x47434C50; // "GCLP"
+    private static final int VERSION = 1;
+
+    /**
+     * 저장된 프로필 (불변, 저장소 내부에서는 record == null 이면 메모리에서 내려놓은 상태)
+     */
+    public static final class Profile {
+        public final String profileId;
+        public final CalibrationRecord record;
+        public final float qualityScore;   // 검증 없이 저장된 보정이면 NaN (품질 미확인)
+
+        Profile(String profileId, CalibrationRecord record, float qualityScore) {
+            this.profileId = profileId;
+            this.record = record;
+            this.qualityScore = qualityScore;
+        }
+
+        public boolean hasQualityScore() {
+            return !Float.isNaN(qualityScore);
+        }
+    }
+
+    private static volatile CalibrationProfileStore instance;
+
+    private final File directory;
+    private final int capacity;
+    private final LinkedHashMap<String, Profile> profiles;
+    private final Handler ioHandler;
+
+    private CalibrationProfileStore(Context context, int capacity) {
+        this.directory = new File(context.getFilesDir(), DIRECTORY);
+        this.capacity = capacity;
+        // 프로세스 단위 싱글톤이므로 스레드는 종료하지 않음
+        HandlerThread ioThread = new HandlerThread("CalibrationProfileIO", Process.THREAD_PRIORITY_BACKGROUND);
+        ioThread.start();
+        this.ioHandler = new Handler(ioThread.getLooper());
+        this.profiles = new LinkedHashMap<String, Profile>(capacity + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Profile> eldest) {
+                if (size() > CalibrationProfileStore.this.capacity) {
+                    deleteFile(eldest.getKey());
+                    Log.d(TAG, "오래된 프로필 제거: " + eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        loadAll();
+
+        MemoryPressureCoordinator.getInstance().register("calibration_profiles",
+                MemoryPressureCoordinator.PRIORITY_PROFILE_CACHE, MemoryPressureCoordinator.Severity.MEDIUM,
+                severity -> shedInactive());
+    }
+
+    public static CalibrationProfileStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (CalibrationProfileStore.class) {
+                if (instance == null) {
+                    instance = new CalibrationProfileStore(context.getApplicationContext(), DEFAULT_CAPACITY);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 프로필 키 (profileId|g0|o1|cameraModel)
+     */
+    public static String key(String profileId, boolean glasses, int orientation, String cameraModel) {
+        return profileId + "|g" + (glasses ? 1 : 0) + "|o" + orientation + "|"
+                + (cameraModel != null ? cameraModel : "");
+    }
+
+    private static String key(Profile profile) {
+        CalibrationRecord r = profile.record;
+        return key(profile.profileId, r.isGlassesCompensation(), r.getOrientation(), r.getCameraModel());
+    }
+
+    /**
+     * 프로필 조회 - 메모리 캐시 (O(1)), 최근 사용 순서 갱신
+     * 🔧 메모리 압박으로 내려놓은 프로필이면 호출 스레드에서 저장소 잠금을 쥔 채 파일을 다시 읽음
+     *    (압박 뒤 그 프로필의 첫 조회만, 프로필 파일 하나 크기 - 메인 스레드에서도 호출됨)
+     *    파일 시각 갱신은 I/O 스레드에서
+     * @param current 현재 환경 (CalibrationRecord.forCurrentDevice)
+     */
+    public synchronized Profile get(String profileId, CalibrationRecord current) {
+        String key = key(profileId, current.isGlassesCompensation(), current.getOrientation(),
+                current.getCameraModel());
+        Profile profile = profiles.get(key);
+        if (profile != null && profile.record == null) {
+            // 메모리 압박으로 내려놓은 프로필 - 파일에서 다시 읽음
+            profile = readFile(fileFor(key));
+            if (profile == null) {
+                profiles.remove(key);
+                deleteFile(key);
+                return null;
+            }
+            profiles.put(key, profile);
+        }
+        if (profile != null) {
+            // 재시작 후에도 LRU 순서가 유지되도록 파일 시각 갱신 (내용은 다시 쓰지 않음)
+            // 그 사이 삭제된 파일이면 갱신만 실패
+            final File file = fileFor(key);
+            final long now = System.currentTimeMillis();
+            ioHandler.post(() -> file.setLastModified(now));
+        }
+        return profile;
+    }
+
+    /**
+     * 프로필 저장 (같은 키가 있으면 교체)
+     * @param qualityScore CalibrationSafetyManager가 평가한 품질 점수 (0~1, 검증 없이 끝났으면 NaN)
+     */
+    public synchronized boolean put(String profileId, CalibrationRecord record, float qualityScore) {
+        Profile profile = new Profile(profileId, record, qualityScore);
+        String key = key(profile);
+        if (!writeFile(key, profile)) {
+            return false;
+        }
+        profiles.put(key, profile);
+        Log.d(TAG, String.format("프로필 저장: %s (품질 %s, 총 %d개)", key,
+                profile.hasQualityScore() ? String.format("%.2f", qualityScore) : "미확인", profiles.size()));
+        return true;
+    }
+
+    /**
+     * 저장된 프로필 ID 목록 (최근 사용 순, 중복 제거)
+     */
+    public synchronized List<String> getProfileIds() {
+        List<String> ids = new ArrayList<>();
+        for (Profile profile : profiles.values()) {
+            ids.remove(profile.profileId);
+            ids.add(0, profile.profileId);
+        }
+        return ids;
+    }
+
+    /**
+     * 특정 사용자의 모든 프로필 삭제
+     */
+    public synchronized int remove(String profileId) {
+        int removed = 0;
+        Iterator<Map.Entry<String, Profile>> it = profiles.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Profile> entry = it.next();
+            if (entry.getValue().profileId.equals(profileId)) {
+                deleteFile(entry.getKey());
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 🆕 가장 최근 프로필을 제외한 보정 데이터를 메모리에서 내려놓음 (순서/목록은 유지)
+     * @return 해제한 대략적인 크기 (bytes)
+     */
+    public synchronized long shedInactive() {
+        long freed = 0;
+        int remaining = profiles.size();
+        for (Map.Entry<String, Profile> entry : profiles.entrySet()) {
+            Profile profile = entry.getValue();
+            // 접근 순서 맵이므로 마지막 항목이 가장 최근
+            if (--remaining == 0 || profile.record == null) {
+                continue;
+            }
+            freed += profile.record.estimateBytes();
+            entry.setValue(new Profile(profile.profileId, null, profile.qualityScore));
+        }
+        return freed;
+    }
+
+    public synchronized int size() {
+        return profiles.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 디스크의 프로필을 오래된 순서로 읽어 LRU 순서 복원
+    private void loadAll() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+        if (files == null || files.length == 0) {
+            return;
+        }
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+
+        for (File file : files) {
+            Profile profile = readFile(file);
+            if (profile == null) {
+                file.delete();
+                continue;
+            }
+            profiles.put(key(profile), profile);
+        }
+        Log.d(TAG, "프로필 로드: " + profiles.size() + "개");
+    }
+
+    private Profile readFile(File file) {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                Log.w(TAG, "프로필 파일 형식 불일치: " + file.getName());
+                return null;
+            }
+            String profileId = in.readUTF();
+            float quality = in.readFloat();
+            CalibrationRecord record = CalibrationRecordCodec.read(in);
+            return new Profile(profileId, record, quality);
+        } catch (IOException e) {
+            Log.e(TAG, "프로필 로드 실패: " + file.getName() + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean writeFile(String key, Profile profile) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.e(TAG, "프로필 디렉터리 생성 실패");
+            return false;
+        }
+
+        File file = fileFor(key);
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(profile.profileId);
+            out.writeFloat(profile.qualityScore);
+            CalibrationRecordCodec.write(out, profile.record);
+        } catch (IOException e) {
+            Log.e(TAG, "프로필 저장 실패: " + e.getMessage());
+            tempFile.delete();
+            return false;
+        }
+
+        if (!tempFile.renameTo(file)) {
+            Log.e(TAG, "프로필 파일 교체 실패: " + file.getName());
+            tempFile.delete();
+            return false;
+        }
+        return true;
+    }
+
+    private void deleteFile(String key) {
+        File file = fileFor(key);
+        if (file.exists() && !file.delete()) {
+            Log.w(TAG, "프로필 파일 삭제 실패: " + file.getName());
+        }
+    }
+
+    // 파일 이름에 쓸 수 없는 문자는 치환하고, 치환 충돌을 피하려고 해시를 덧붙임
+    private File fileFor(String key) {
+        String safe = key.replaceAll("[^A-Za-z0-9_-]", "_");
+        if (safe.length() > 64) {
+            safe = safe.substring(0, 64);
+        }
+        return new File(directory, safe + "_" + Integer.toHexString(key.hashCode()) + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,140 @@
+package camp.visual.android.sdk.sample.data.calibration;
+
+import android.content.Context;
+import android.os.Build;
+import android.util.DisplayMetrics;
+
+import camp.visual.eyedid.gazetracker.GazeTracker;
+import camp.visual.eyedid.gazetracker.device.CameraPosition;
+
+/**
+ * 🆕 저장된 캘리브레이션 (불변)
+ * - SDK가 돌려준 보정 벡터 + 보정 당시의 기기/화면/안경 메타데이터
+ * - 메타데이터가 현재 환경과 다르면 보정 벡터를 재사용할 수 없음
+ */
+public final class CalibrationRecord {
+
+    /**
+     * 현재 환경과의 호환성
+     */
+    public enum Compatibility {
+        COMPATIBLE,  // 그대로 적용
+        STALE,       // 적용 후 1포인트 보정으로 다듬기
+        MISMATCH     // 버리고 전체 보정
+    }
+
+    private final long savedAtMs;
+    private final String deviceModel;
+    private final String cameraModel;
+    private final int orientation;
+    private final int screenWidth;
+    private final int screenHeight;
+    private final boolean glassesCompensation;
+    private final double[] calibrationData;
+
+    public CalibrationRecord(long savedAtMs, String deviceModel, String cameraModel, int orientation,
+                             int screenWidth, int screenHeight, boolean glassesCompensation,
+                             double[] calibrationData) {
+        this.savedAtMs = savedAtMs;
+        this.deviceModel = deviceModel != null ? deviceModel : "";
+        this.cameraModel = cameraModel != null ? cameraModel : "";
+        this.orientation = orientation;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.glassesCompensation = glassesCompensation;
+        this.calibrationData = calibrationData != null ? calibrationData.clone() : new double[0];
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (bytes)
+     */
+    public long estimateBytes() {
+        return 96 + calibrationData.length * 8L + 2L * (deviceModel.length() + cameraModel.length());
+    }
+
+    /**
+     * 현재 기기/화면 상태로 레코드 생성
+     * @param tracker 카메라 모델 조회용 (null 가능)
+     * @param calibrationData 보정 벡터 (호환성 비교용이면 null)
+     */
+    public static CalibrationRecord forCurrentDevice(Context context, GazeTracker tracker,
+                                                     boolean glassesCompensation,
+                                                     double[] calibrationData, long nowMs) {
+        DisplayMetrics dm = context.getResources().getDisplayMetrics();
+        String cameraModel = "";
+        if (tracker != null) {
+            CameraPosition position = tracker.getCameraPosition();
+            if (position != null && position.modelName != null) {
+                cameraModel = position.modelName;
+            }
+        }
+        return new CalibrationRecord(nowMs, Build.MODEL, cameraModel,
+                context.getResources().getConfiguration().orientation,
+                dm.widthPixels, dm.heightPixels, glassesCompensation, calibrationData);
+    }
+
+    /**
+     * 현재 환경과 비교
+     * @param current forCurrentDevice()로 만든 현재 환경
+     * @param maxAgeMs 이보다 오래되면 STALE
+     */
+    public Compatibility checkAgainst(CalibrationRecord current, long maxAgeMs) {
+        if (calibrationData.length == 0
+                || !deviceModel.equals(current.deviceModel)
+                || orientation != current.orientation
+                || screenWidth != current.screenWidth
+                || screenHeight != current.screenHeight
+                || glassesCompensation != current.glassesCompensation) {
+            return Compatibility.MISMATCH;
+        }
+        // 카메라 모델은 추적 시작 전에는 비어 있을 수 있으므로 양쪽 모두 있을 때만 비교
+        if (!cameraModel.isEmpty() && !current.cameraModel.isEmpty()
+                && !cameraModel.equals(current.cameraModel)) {
+            return Compatibility.MISMATCH;
+        }
+        long age = current.savedAtMs - savedAtMs;
+        if (age < 0 || age > maxAgeMs) {
+            return Compatibility.STALE;
+        }
+        return Compatibility.COMPATIBLE;
+    }
+
+    public long getSavedAtMs() {
+        return savedAtMs;
+    }
+
+    public String getDeviceModel() {
+        return deviceModel;
+    }
+
+    public String getCameraModel() {
+        return cameraModel;
+    }
+
+    public int getOrientation() {
+        return orientation;
+    }
+
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    public boolean isGlassesCompensation() {
+        return glassesCompensation;
+    }
+
+    public double[] getCalibrationData() {
+        return calibrationData.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CalibrationRecord[%s/%s, %dx%d, 방향 %d, 안경 %s, 벡터 %d개]",
+                deviceModel, cameraModel, screenWidth, screenHeight, orientation,
+                glassesCompensation ? "O" : "X", calibrationData.length);
+    }
+}
@@ -0,0 +1,66 @@
+package camp.visual.android.sdk.sample.data.calibration;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 캘리브레이션 레코드 바이너리 직렬화 (빅엔디언, DataOutputStream)
+ *
+ *   long savedAtMs, UTF deviceModel, UTF cameraModel, int orientation,
+ *   int screenWidth, int screenHeight, boolean glassesCompensation,
+ *   int length, double[length]
+ *
+ * 파일 헤더(magic/version)는 각 저장소가 담당
+ */
+final class CalibrationRecordCodec {
+
+    static final int MAX_DATA_LENGTH = 4096; // 손상된 길이 값 방어
+
+    private CalibrationRecordCodec() {
+    }
+
+    static void write(DataOutputStream out, CalibrationRecord record) throws IOException {
+        double[] data = record.getCalibrationData();
+        if (data.length == 0 || data.length > MAX_DATA_LENGTH) {
+            throw new IOException("캘리브레이션 벡터 길이 이상: " + data.length);
+        }
+
+        out.writeLong(record.getSavedAtMs());
+        out.writeUTF(record.getDeviceModel());
+        out.writeUTF(record.getCameraModel());
+        out.writeInt(record.getOrientation());
+        out.writeInt(record.getScreenWidth());
+        out.writeInt(record.getScreenHeight());
+        out.writeBoolean(record.isGlassesCompensation());
+        out.writeInt(data.length);
+        for (double value : data) {
+            out.writeDouble(value);
+        }
+    }
+
+    static CalibrationRecord read(DataInputStream in) throws IOException {
+        long savedAtMs = in.readLong();
+        String deviceModel = in.readUTF();
+        String cameraModel = in.readUTF();
+        int orientation = in.readInt();
+        int screenWidth = in.readInt();
+        int screenHeight = in.readInt();
+        boolean glasses = in.readBoolean();
+
+        int length = in.readInt();
+        if (length <= 0 || length > MAX_DATA_LENGTH) {
+            throw new IOException("캘리브레이션 벡터 길이 이상: " + length);
+        }
+        double[] data = new double[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = in.readDouble();
+            if (Double.isNaN(data[i]) || Double.isInfinite(data[i])) {
+                throw new IOException("캘리브레이션 벡터에 유효하지 않은 값 포함");
+            }
+        }
+
+        return new CalibrationRecord(savedAtMs, deviceModel, cameraModel,
+                orientation, screenWidth, screenHeight, glasses, data);
+    }
+}
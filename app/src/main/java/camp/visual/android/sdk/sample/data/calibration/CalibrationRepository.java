@@ -0,0 +1,24 @@
+package camp.visual.android.sdk.sample.data.calibration;
+
+/**
+ * 캘리브레이션 데이터 저장소 인터페이스
+ * 서비스 재시작 시 재보정 없이 이전 보정 결과를 복원하기 위해 사용
+ */
+public interface CalibrationRepository {
+
+    /**
+     * 저장된 캘리브레이션 로드 (없거나 손상된 경우 null)
+     */
+    CalibrationRecord load();
+
+    /**
+     * 캘리브레이션 저장
+     * @return 저장 성공 여부
+     */
+    boolean save(CalibrationRecord record);
+
+    /**
+     * 저장된 캘리브레이션 삭제
+     */
+    void clear();
+}
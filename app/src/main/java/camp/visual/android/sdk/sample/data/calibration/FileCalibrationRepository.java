@@ -0,0 +1,94 @@
+package camp.visual.android.sdk.sample.data.calibration;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import camp.visual.android.sdk.sample.core.constants.AppConstants;
+
+/**
+ * 🆕 내부 저장소 바이너리 파일 기반 캘리브레이션 저장소
+ *
+ * 파일 형식: int magic, int version, 레코드 (CalibrationRecordCodec)
+ *
+ * 임시 파일에 쓴 뒤 rename 하므로 저장 중 종료되어도 이전 파일이 유지됨
+ */
+public class FileCalibrationRepository implements CalibrationRepository {
+
+    private static final String TAG = "CalibrationRepository";
+
+    private static final int MAGIC = 0x47434C42; // "GCLB"
+    private static final int VERSION = 1;
+
+    private final File file;
+    private final File tempFile;
+
+    public FileCalibrationRepository(Context context) {
+        this.file = new File(context.getFilesDir(), AppConstants.FilePaths.CALIBRATION_DATA);
+        this.tempFile = new File(file.getPath() + ".tmp");
+    }
+
+    @Override
+    public synchronized CalibrationRecord load() {
+        if (!file.exists()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                Log.w(TAG, "캘리브레이션 파일 형식 불일치 - 무시");
+                return null;
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                Log.w(TAG, "지원하지 않는 캘리브레이션 파일 버전: " + version);
+                return null;
+            }
+
+            CalibrationRecord record = CalibrationRecordCodec.read(in);
+            Log.d(TAG, "캘리브레이션 로드: " + record);
+            return record;
+        } catch (IOException e) {
+            Log.e(TAG, "캘리브레이션 로드 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized boolean save(CalibrationRecord record) {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            CalibrationRecordCodec.write(out, record);
+        } catch (IOException e) {
+            Log.e(TAG, "캘리브레이션 저장 실패: " + e.getMessage());
+            tempFile.delete();
+            return false;
+        }
+
+        if (!tempFile.renameTo(file)) {
+            Log.e(TAG, "캘리브레이션 파일 교체 실패");
+            tempFile.delete();
+            return false;
+        }
+        Log.d(TAG, "캘리브레이션 저장: " + record);
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (file.exists() && !file.delete()) {
+            Log.w(TAG, "캘리브레이션 파일 삭제 실패");
+        }
+    }
+}
@@ -118,6 +118,40 @@ public class EyedidTrackingRepository implements EyeTrackingRepository {
         }
     }
 
+    /**
+     * 🆕 저장된 보정 결과를 기반으로 한 빠른 보정 (이전 보정 데이터 유지)
+     * @return 시작 성공 여부
+     */
+    public boolean startRefinementCalibration(CalibrationModeType type) {
+        if (!isTrackerReady() || !gazeTracker.isTracking() || gazeTracker.isCalibrating() || context == null) {
+            Log.w(TAG, "보정 다듬기 시작 불가능 - Tracker 상태 확인 필요");
+            return false;
+        }
+
+        DisplayMetrics dm = context.getResources().getDisplayMetrics();
+        boolean success = gazeTracker.startCalibration(
+            type,
+            accuracyCriteria,
+            0, 0, dm.widthPixels, dm.heightPixels,
+            true // 이전 캘리브레이션 기반
+        );
+        Log.d(TAG, "보정 다듬기 시작 (" + type + "): " + (success ? "성공" : "실패"));
+        return success;
+    }
+
+    /**
+     * 🆕 저장된 캘리브레이션 벡터 적용
+     * @return 적용 성공 여부
+     */
+    public boolean applyCalibrationData(double[] calibrationData) {
+        if (!isTrackerReady() || calibrationData == null || calibrationData.length == 0) {
+            return false;
+        }
+        boolean success = gazeTracker.setCalibrationData(calibrationData);
+        Log.d(TAG, "저장된 캘리브레이션 적용: " + (success ? "성공" : "실패"));
+        return success;
+    }
+
     @Override
     public void setTrackingCallback(TrackingCallback callback) {
         if (gazeTracker != null) {
@@ -162,49 +196,6 @@ public class EyedidTrackingRepository implements EyeTrackingRepository {
         return currentFPS;
     }
 
-    // 🆕 성능 기반 FPS 자동 조정
-    public void adjustFPSBasedOnPerformance(int batteryLevel, float cpuUsage, long availableMemoryMB) {
-        if (!performanceMonitoringEnabled) return;
-
-        int optimalFPS = calculateOptimalFPS(batteryLevel, cpuUsage, availableMemoryMB);
-
-        if (optimalFPS != currentFPS) {
-            setTrackingFPS(optimalFPS);
-            Log.d(TAG, "성능 기반 FPS 자동 조정: " + currentFPS + " -> " + optimalFPS +
-                    " (배터리: " + batteryLevel + "%, CPU: " + cpuUsage + "%, 메모리: " + availableMemoryMB + "MB)");
-        }
-    }
-
-    private int calculateOptimalFPS(int batteryLevel, float cpuUsage, long availableMemoryMB) {
-        // 배터리 수준에 따른 기본 FPS 결정
-        int baseFPS;
-        if (batteryLevel < 15) {
-            baseFPS = 10; // 극저전력 모드
-        } else if (batteryLevel < 30) {
-            baseFPS = 15; // 절전 모드
-        } else if (batteryLevel < 50) {
-            baseFPS = 20; // 효율 모드
-        } else {
-            baseFPS = 30; // 표준 모드
-        }
-
-        // CPU 사용률에 따른 조정
-        if (cpuUsage > 80) {
-            baseFPS = Math.max(10, baseFPS - 10);
-        } else if (cpuUsage > 60) {
-            baseFPS = Math.max(15, baseFPS - 5);
-        }
-
-        // 메모리 사용량에 따른 조정 (이미 MB 단위)
-        if (availableMemoryMB < 100) {
-            baseFPS = Math.max(10, baseFPS - 5);
-        } else if (availableMemoryMB < 200) {
-            baseFPS = Math.max(15, baseFPS - 3);
-        }
-
-        return Math.max(10, Math.min(30, baseFPS));
-    }
-
     public void setPerformanceMonitoringEnabled(boolean enabled) {
         performanceMonitoringEnabled = enabled;
         Log.d(TAG, "성능 모니터링 " + (enabled ? "활성화" : "비활성화"));
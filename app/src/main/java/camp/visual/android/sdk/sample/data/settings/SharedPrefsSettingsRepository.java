@@ -33,6 +33,8 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
     private static final String KEY_CALIBRATION_STRATEGY = "calibration_strategy";
     private static final String KEY_BACKGROUND_LEARNING = "background_learning";
     private static final String KEY_CLICK_TIMING = "click_timing";
+    private static final String KEY_SMOOTH_SCROLL_ENABLED = "smooth_scroll_enabled";
+    private static final String KEY_CALIBRATION_PROFILE_ID = "calibration_profile_id";
 
     private final SharedPreferences prefs;
 
@@ -87,6 +89,8 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
                 .calibrationStrategy(strategy)
                 .backgroundLearningEnabled(prefs.getBoolean(KEY_BACKGROUND_LEARNING, false)) // 기본값 false로 변경
                 .clickTiming(clickTiming)
+                .smoothScrollEnabled(prefs.getBoolean(KEY_SMOOTH_SCROLL_ENABLED, false))
+                .calibrationProfileId(prefs.getString(KEY_CALIBRATION_PROFILE_ID, "default"))
                 .build();
     }
 
@@ -119,6 +123,8 @@ public class SharedPrefsSettingsRepository implements SettingsRepository {
         editor.putString(KEY_CALIBRATION_STRATEGY, settings.getCalibrationStrategy().name());
         editor.putBoolean(KEY_BACKGROUND_LEARNING, settings.isBackgroundLearningEnabled());
         editor.putString(KEY_CLICK_TIMING, settings.getClickTiming().name());
+        editor.putBoolean(KEY_SMOOTH_SCROLL_ENABLED, settings.isSmoothScrollEnabled());
+        editor.putString(KEY_CALIBRATION_PROFILE_ID, settings.getCalibrationProfileId());
 
         editor.apply();
     }
@@ -3,6 +3,7 @@ package camp.visual.android.sdk.sample.domain.calibration;
 import android.util.Log;
 import camp.visual.android.sdk.sample.core.constants.AppConstants;
 import camp.visual.android.sdk.sample.core.utils.PerformanceLogger;
+import camp.visual.android.sdk.sample.core.utils.RollingStatsWindow;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
 import camp.visual.eyedid.gazetracker.constant.AccuracyCriteria;
 import camp.visual.eyedid.gazetracker.constant.CalibrationModeType;
@@ -87,18 +88,40 @@ public class AdaptiveCalibrationManager {
     private int minimumObservationTime = 10000; // 10초 관찰
     private int cooldownPeriod = 60000; // 1분 쿨다운
 
+    // 🆕 윈도우 통계 기준
+    // - 집중도는 하위 20% 분위수, 졸음 정도는 상위 20% 분위수로 판단 (순간 튐에 강건)
+    // - 졸림 판정 프레임 비율이 이 값을 넘으면 최적 조건 아님
+    private static final float ATTENTION_QUANTILE = 0.2f;
+    private static final float DROWSINESS_QUANTILE = 0.8f;
+    private static final float MAX_DROWSY_FRACTION = 0.05f;
+    // 윈도우가 관찰 시간의 이 비율 이상 채워져야 판단
+    private static final float MIN_WINDOW_COVERAGE = 0.9f;
+    // 최대 보관 샘플 수 (30Hz × 30초 수준)
+    private static final int WINDOW_CAPACITY = 1024;
+    private static final int QUANTILE_BINS = 50;
+    private static final long STATUS_LOG_INTERVAL_MS = 5000;
+
     // 상태 추적
     private AdaptiveCalibrationCallback callback;
     private UserStatusInfo lastUserStatusInfo;
     private long lastRecommendationTime = 0;
-    private long observationStartTime = 0;
     private boolean isObserving = false;
+    // 🆕 쿨다운과 무관한 사용자 상태 판단 (재보정 스케줄러용, 데이터가 부족하면 true)
+    private volatile boolean userStateFavorable = true;
+
+    // 🆕 최근 관찰 시간 동안의 사용자 상태 윈도우 (EMA/관찰 타이머 대체)
+    private final RollingStatsWindow attentionWindow =
+            new RollingStatsWindow(WINDOW_CAPACITY, minimumObservationTime, 0f, 1f, QUANTILE_BINS);
+    private final RollingStatsWindow drowsinessWindow =
+            new RollingStatsWindow(WINDOW_CAPACITY, minimumObservationTime, 0f, 1f, QUANTILE_BINS);
+    private final RollingStatsWindow drowsyWindow =
+            new RollingStatsWindow(WINDOW_CAPACITY, minimumObservationTime, 0f, 1f, 2);
 
     // 통계 데이터
-    private float averageAttentionScore = 0.5f;
     private int optimalConditionCount = 0;
     private int totalObservationCount = 0;
     private long lastAnalysisTime = 0;
+    private long lastStatusLogTime = 0;
 
     public AdaptiveCalibrationManager() {
         PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION, 
@@ -112,83 +135,89 @@ public class AdaptiveCalibrationManager {
     /**
      * 🆕 실제 UserStatusInfo 분석
      * 공식 SDK에서 제공하는 실제 사용자 상태 데이터 활용
+     * 🔧 매 호출은 윈도우 갱신(O(1))만 수행, 판단은 최근 관찰 시간 전체의 분위수 기준
      */
     public void analyzeUserStatus(UserStatusInfo userStatusInfo) {
         if (!enabled || userStatusInfo == null) return;
 
+        long now = System.currentTimeMillis();
         lastUserStatusInfo = userStatusInfo;
-        lastAnalysisTime = System.currentTimeMillis();
+        lastAnalysisTime = now;
+
+        // 통계 업데이트
+        updateStatistics(userStatusInfo, now);
 
-        // 사용자 상태 분석
-        UserStatus status = evaluateUserStatus(userStatusInfo);
+        boolean optimal = isOptimalCalibrationCondition(now);
 
-        // 콜백 호출
+        // 콜백 호출 (수신자가 없으면 상태 객체 생성 생략)
         if (callback != null) {
-            callback.onUserStatusChanged(status);
+            callback.onUserStatusChanged(evaluateUserStatus(userStatusInfo, optimal));
         }
 
         // 최적 조건 감지 로직
-        if (status.isOptimalForCalibration) {
-            handleOptimalConditionDetected(userStatusInfo);
-        } else if (isObserving) {
-            // 최적 조건이 아니면 관찰 중단
-            resetObservation();
+        if (optimal) {
+            handleOptimalConditionDetected(now);
         }
 
-        // 통계 업데이트
-        updateStatistics(userStatusInfo);
-
-        // 성능 로깅
-        PerformanceLogger.GazeLogger.logTrackingState(
-            "AdaptiveCalibration",
-            String.format("Attention:%.1f%%, Drowsy:%s, Optimal:%s",
-                userStatusInfo.attentionScore * 100,
-                userStatusInfo.isDrowsy ? "Y" : "N",
-                status.isOptimalForCalibration ? "Y" : "N")
-        );
+        // 성능 로깅 (주기 제한, 로그할 때만 문자열 생성)
+        if (now - lastStatusLogTime >= STATUS_LOG_INTERVAL_MS) {
+            lastStatusLogTime = now;
+            Log.d(AppConstants.Logging.TAG_CALIBRATION, "사용자 상태 윈도우 - 집중도 p20: "
+                    + Math.round(attentionWindow.quantile(ATTENTION_QUANTILE) * 100)
+                    + "%, 졸음 p80: " + Math.round(drowsinessWindow.quantile(DROWSINESS_QUANTILE) * 100)
+                    + "%, 졸림 비율: " + Math.round(drowsyWindow.mean() * 100)
+                    + "%, 최적: " + (optimal ? "Y" : "N"));
+        }
     }
 
     /**
      * 🆕 실제 UserStatusInfo 기반 사용자 상태 종합 평가
      */
-    private UserStatus evaluateUserStatus(UserStatusInfo userStatusInfo) {
+    private UserStatus evaluateUserStatus(UserStatusInfo userStatusInfo, boolean isOptimal) {
         // 집중도 점수 계산 (0-100)
         int attentionLevel = Math.round(userStatusInfo.attentionScore * 100);
 
         // 각성도 점수 계산 (졸음의 반대)
         int alertnessLevel = Math.round((1.0f - userStatusInfo.drowsinessIntensity) * 100);
 
-        // 최적 조건 판단
-        boolean isOptimal = isOptimalCalibrationCondition(userStatusInfo);
-
         // 상태 설명 생성
         String description = generateStatusDescription(attentionLevel, alertnessLevel, userStatusInfo.isDrowsy);
 
-        // 추천 캘리브레이션 모드 결정
-        CalibrationModeType suggestedMode = determineSuggestedCalibrationMode(userStatusInfo);
+        // 추천 캘리브레이션 모드 결정 (윈도우 중앙값 기준)
+        CalibrationModeType suggestedMode = determineSuggestedCalibrationMode();
 
         return new UserStatus(isOptimal, alertnessLevel, attentionLevel, description, suggestedMode);
     }
 
     /**
-     * 🆕 최적 캘리브레이션 조건 판단 (실제 데이터 기반)
+     * 🆕 최적 캘리브레이션 조건 판단 (최근 관찰 시간 윈도우 기준)
+     * 🔧 순간값 대신 윈도우 전체에서 집중도가 꾸준히 높고 졸음이 낮았는지 확인
      */
-    private boolean isOptimalCalibrationCondition(UserStatusInfo userStatusInfo) {
-        boolean highAttention = userStatusInfo.attentionScore >= attentionThreshold;
-        boolean lowDrowsiness = userStatusInfo.drowsinessIntensity <= drowsinessThreshold;
-        boolean notDrowsy = !userStatusInfo.isDrowsy;
-        boolean cooldownPassed = (System.currentTimeMillis() - lastRecommendationTime) >= cooldownPeriod;
+    private boolean isOptimalCalibrationCondition(long now) {
+        // 관찰 시간을 다 채우기 전에는 관찰 중
+        isObserving = attentionWindow.spanMs() < minimumObservationTime * MIN_WINDOW_COVERAGE;
+        if (isObserving) {
+            userStateFavorable = true;
+            return false;
+        }
 
-        return highAttention && lowDrowsiness && notDrowsy && cooldownPassed;
+        boolean highAttention = attentionWindow.quantile(ATTENTION_QUANTILE) >= attentionThreshold;
+        boolean lowDrowsiness = drowsinessWindow.quantile(DROWSINESS_QUANTILE) <= drowsinessThreshold;
+        boolean notDrowsy = drowsyWindow.mean() <= MAX_DROWSY_FRACTION;
+        userStateFavorable = highAttention && lowDrowsiness && notDrowsy;
+
+        return userStateFavorable && now - lastRecommendationTime >= cooldownPeriod;
     }
 
     /**
-     * 🆕 캘리브레이션 모드 추천 (실제 데이터 기반)
+     * 🆕 캘리브레이션 모드 추천 (윈도우 중앙값 기반)
      */
-    private CalibrationModeType determineSuggestedCalibrationMode(UserStatusInfo userStatusInfo) {
-        if (userStatusInfo.isDrowsy || userStatusInfo.attentionScore < 0.5f) {
+    private CalibrationModeType determineSuggestedCalibrationMode() {
+        float attention = attentionWindow.quantile(0.5f);
+        float drowsiness = drowsinessWindow.quantile(0.5f);
+        if (drowsyWindow.mean() > MAX_DROWSY_FRACTION || attention < 0.5f) {
             return CalibrationModeType.ONE_POINT; // 간단한 1포인트
-        } else if (userStatusInfo.attentionScore >= 0.9f && userStatusInfo.drowsinessIntensity <= 0.05f) {
+        } else if (attention >= 0.9f && drowsiness <= 0.05f) {
             return CalibrationModeType.FIVE_POINT; // 정밀한 5포인트
         } else {
             return CalibrationModeType.DEFAULT; // 기본 모드
@@ -197,64 +226,52 @@ public class AdaptiveCalibrationManager {
 
     /**
      * 🆕 최적 조건 감지 시 처리
+     * 🔧 윈도우가 이미 관찰 시간 전체를 대표하므로 별도 관찰 타이머 없이 바로 추천
      */
-    private void handleOptimalConditionDetected(UserStatusInfo userStatusInfo) {
-        if (!isObserving) {
-            // 관찰 시작
-            observationStartTime = System.currentTimeMillis();
-            isObserving = true;
-            optimalConditionCount = 1;
-            
-            PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION, 
-                "최적 조건 관찰 시작 - 집중도: " + (userStatusInfo.attentionScore * 100) + "%");
-            return;
-        }
-
-        // 관찰 중인 경우
-        long observationTime = System.currentTimeMillis() - observationStartTime;
+    private void handleOptimalConditionDetected(long now) {
         optimalConditionCount++;
 
-        if (observationTime >= minimumObservationTime) {
-            // 충분한 관찰 시간 후 추천 생성
-            CalibrationRecommendation recommendation = generateCalibrationRecommendation(userStatusInfo);
+        CalibrationRecommendation recommendation = generateCalibrationRecommendation();
 
-            if (callback != null) {
-                callback.onOptimalCalibrationTimeDetected(recommendation);
-            }
+        if (callback != null) {
+            callback.onOptimalCalibrationTimeDetected(recommendation);
+        }
 
-            // 상태 리셋
-            resetObservation();
-            lastRecommendationTime = System.currentTimeMillis();
+        lastRecommendationTime = now;
 
-            PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION, 
-                String.format("캘리브레이션 추천: %s (신뢰도: %d%%, 정확도: %s)",
-                    recommendation.recommendedMode, recommendation.confidenceLevel, 
-                    recommendation.recommendedAccuracy));
-        }
+        PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION, 
+            String.format("캘리브레이션 추천: %s (신뢰도: %d%%, 정확도: %s)",
+                recommendation.recommendedMode, recommendation.confidenceLevel, 
+                recommendation.recommendedAccuracy));
     }
 
     /**
-     * 🆕 캘리브레이션 추천 생성 (실제 데이터 기반)
+     * 🆕 캘리브레이션 추천 생성 (윈도우 분위수 기반)
+     * - 집중도는 하위 20% 분위수, 졸음 정도는 상위 20% 분위수 사용
      */
-    private CalibrationRecommendation generateCalibrationRecommendation(UserStatusInfo userStatusInfo) {
+    private CalibrationRecommendation generateCalibrationRecommendation() {
+        float attention = attentionWindow.quantile(ATTENTION_QUANTILE);
+        float drowsiness = drowsinessWindow.quantile(DROWSINESS_QUANTILE);
+        boolean drowsy = drowsyWindow.mean() > MAX_DROWSY_FRACTION;
+
         CalibrationModeType recommendedMode;
         AccuracyCriteria recommendedAccuracy;
         int confidenceLevel;
         String reason;
 
-        if (userStatusInfo.attentionScore >= 0.9f && userStatusInfo.drowsinessIntensity <= 0.05f) {
+        if (attention >= 0.9f && drowsiness <= 0.05f) {
             // 매우 높은 집중도: 고정밀도 캘리브레이션
             recommendedMode = CalibrationModeType.FIVE_POINT;
             recommendedAccuracy = AccuracyCriteria.HIGH;
             confidenceLevel = 95;
             reason = "매우 높은 집중도와 각성 상태로 고정밀도 캘리브레이션에 최적";
-        } else if (userStatusInfo.attentionScore >= 0.8f && userStatusInfo.drowsinessIntensity <= 0.1f) {
+        } else if (attention >= 0.8f && drowsiness <= 0.1f) {
             // 높은 집중도: 표준 캘리브레이션
             recommendedMode = CalibrationModeType.FIVE_POINT;
             recommendedAccuracy = AccuracyCriteria.DEFAULT;
             confidenceLevel = 85;
             reason = "높은 집중도로 표준 캘리브레이션에 적합";
-        } else if (userStatusInfo.attentionScore >= 0.6f && !userStatusInfo.isDrowsy) {
+        } else if (attention >= 0.6f && !drowsy) {
             // 보통 집중도: 기본 캘리브레이션
             recommendedMode = CalibrationModeType.DEFAULT;
             recommendedAccuracy = AccuracyCriteria.DEFAULT;
@@ -268,8 +285,8 @@ public class AdaptiveCalibrationManager {
             reason = "낮은 집중도로 간단 캘리브레이션 권장";
         }
 
-        // 관찰 지속성에 따른 신뢰도 보정
-        float consistencyBonus = Math.min(0.15f, optimalConditionCount / 10.0f);
+        // 🔧 집중도 흔들림이 작을수록 신뢰도 보정 (표준편차 0 → +15%, 0.15 이상 → 0)
+        float consistencyBonus = Math.max(0f, 0.15f - attentionWindow.stdDev());
         confidenceLevel = Math.min(100, Math.round(confidenceLevel * (1.0f + consistencyBonus)));
 
         return new CalibrationRecommendation(recommendedMode, recommendedAccuracy, confidenceLevel, reason);
@@ -363,6 +380,70 @@ public class AdaptiveCalibrationManager {
         return new CalibrationQuality(qualityScore, needsRecalibration, assessment, suggestedAccuracy);
     }
 
+    /**
+     * 🆕 검증 단계 실측 오차 기반 품질 평가
+     * - 검증 결과가 유효하면 실측 정확도/정밀도 점수를 기준으로 하고, 사용자 상태는 감점에만 사용
+     * - 검증 결과가 없으면 기존 상태 비교 평가로 대체
+     * @param preCalibrationStatus 보정 전 상태 (없으면 null)
+     * @param postCalibrationStatus 보정 후 상태 (없으면 null)
+     */
+    public CalibrationQuality evaluateCalibrationQuality(UserStatusInfo preCalibrationStatus,
+                                                         UserStatusInfo postCalibrationStatus,
+                                                         boolean calibrationSuccess,
+                                                         CalibrationValidator.Result validation) {
+        if (validation == null || !validation.isValid() || !calibrationSuccess) {
+            if (preCalibrationStatus != null && postCalibrationStatus != null) {
+                return evaluateCalibrationQuality(preCalibrationStatus, postCalibrationStatus, calibrationSuccess);
+            }
+            return new CalibrationQuality(calibrationSuccess ? 50 : 20, !calibrationSuccess,
+                    calibrationSuccess ? "검증 데이터 없음" : "캘리브레이션 실패 - 재시도 필요",
+                    AccuracyCriteria.DEFAULT);
+        }
+
+        int qualityScore = Math.round(validation.getQualityScore() * 100);
+        float errorDeg = validation.getRmsErrorDeg();
+
+        // 보정 중 졸음/집중도 저하는 다음 보정을 권장할 근거로만 사용
+        if (postCalibrationStatus != null) {
+            if (postCalibrationStatus.isDrowsy) {
+                qualityScore -= 15;
+            }
+            if (preCalibrationStatus != null
+                    && preCalibrationStatus.attentionScore - postCalibrationStatus.attentionScore > 0.2f) {
+                qualityScore -= 10;
+            }
+        }
+        qualityScore = Math.max(0, Math.min(100, qualityScore));
+
+        boolean needsRecalibration = qualityScore < 60 || errorDeg > 3.0f;
+
+        AccuracyCriteria suggestedAccuracy = AccuracyCriteria.DEFAULT;
+        if (errorDeg <= 1.5f && validation.getPrecisionDeg() <= 1.0f) {
+            suggestedAccuracy = AccuracyCriteria.HIGH;
+        } else if (errorDeg > 3.0f) {
+            suggestedAccuracy = AccuracyCriteria.LOW;
+        }
+
+        String assessment;
+        if (qualityScore >= 80) {
+            assessment = "우수한 캘리브레이션 품질";
+        } else if (qualityScore >= 60) {
+            assessment = "양호한 캘리브레이션 품질";
+        } else {
+            assessment = "캘리브레이션 품질 개선 필요";
+        }
+        assessment += String.format(" (평균 오차 %.1f°, 흔들림 %.1f°)", errorDeg, validation.getPrecisionDeg());
+        if (needsRecalibration) {
+            assessment += " - 재캘리브레이션 권장";
+        }
+
+        PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION,
+            String.format("캘리브레이션 검증 평가: %d점, %s, 재시도 필요: %s, 권장 정확도: %s",
+                qualityScore, validation, needsRecalibration ? "예" : "아니오", suggestedAccuracy));
+
+        return new CalibrationQuality(qualityScore, needsRecalibration, assessment, suggestedAccuracy);
+    }
+
     /**
      * 🆕 상태 설명 생성
      */
@@ -383,14 +464,14 @@ public class AdaptiveCalibrationManager {
     }
 
     /**
-     * 🆕 통계 데이터 업데이트
+     * 🆕 통계 데이터 업데이트 (윈도우당 O(1))
      */
-    private void updateStatistics(UserStatusInfo userStatusInfo) {
+    private void updateStatistics(UserStatusInfo userStatusInfo, long now) {
         totalObservationCount++;
 
-        // 이동 평균으로 평균 집중도 계산
-        float alpha = 0.1f; // 학습률
-        averageAttentionScore = averageAttentionScore * (1 - alpha) + userStatusInfo.attentionScore * alpha;
+        attentionWindow.add(now, userStatusInfo.attentionScore);
+        drowsinessWindow.add(now, userStatusInfo.drowsinessIntensity);
+        drowsyWindow.add(now, userStatusInfo.isDrowsy ? 1f : 0f);
     }
 
     /**
@@ -398,8 +479,11 @@ public class AdaptiveCalibrationManager {
      */
     private void resetObservation() {
         isObserving = false;
-        observationStartTime = 0;
+        userStateFavorable = true;
         optimalConditionCount = 0;
+        attentionWindow.clear();
+        drowsinessWindow.clear();
+        drowsyWindow.clear();
     }
 
     // 설정 메서드들
@@ -423,6 +507,9 @@ public class AdaptiveCalibrationManager {
 
     public void setMinimumObservationTime(int timeMs) {
         this.minimumObservationTime = Math.max(5000, timeMs); // 최소 5초
+        attentionWindow.setWindowMs(minimumObservationTime);
+        drowsinessWindow.setWindowMs(minimumObservationTime);
+        drowsyWindow.setWindowMs(minimumObservationTime);
         PerformanceLogger.logImportant(AppConstants.Logging.TAG_CALIBRATION, 
             "최소 관찰 시간 설정: " + this.minimumObservationTime + "ms");
     }
@@ -431,11 +518,17 @@ public class AdaptiveCalibrationManager {
     public boolean isEnabled() { return enabled; }
     public float getAttentionThreshold() { return attentionThreshold; }
     public float getDrowsinessThreshold() { return drowsinessThreshold; }
-    public float getAverageAttentionScore() { return averageAttentionScore; }
+    public float getAverageAttentionScore() { return attentionWindow.mean(); }
     public int getTotalObservationCount() { return totalObservationCount; }
     public UserStatusInfo getLastUserStatusInfo() { return lastUserStatusInfo; }
     public boolean isObserving() { return isObserving; }
 
+    /**
+     * 🆕 최근 관찰 윈도우 기준으로 지금 보정하기 좋은 상태인지 (쿨다운 무관)
+     * 윈도우가 아직 차지 않았거나 비활성화 상태면 막지 않도록 true
+     */
+    public boolean isUserStateFavorable() { return !enabled || userStateFavorable; }
+
     /**
      * 🆕 사용자 상태 기반 권장 설정 제공 (실제 데이터 기반)
      */
@@ -483,7 +576,7 @@ public class AdaptiveCalibrationManager {
                 "적응형 캘리브레이션 상태:\n" +
                         "- 활성화: %s\n" +
                         "- 관찰 중: %s\n" +
-                        "- 평균 집중도: %.2f\n" +
+                        "- 평균 집중도: %.2f (p20 %.2f, 표준편차 %.2f)\n" +
                         "- 총 관찰 횟수: %d\n" +
                         "- 마지막 집중도: %.2f\n" +
                         "- 마지막 졸음 정도: %.2f\n" +
@@ -492,7 +585,9 @@ public class AdaptiveCalibrationManager {
                         "- 마지막 분석 시간: %d초 전",
                 enabled ? "예" : "아니오",
                 isObserving ? "예" : "아니오",
-                averageAttentionScore,
+                attentionWindow.mean(),
+                attentionWindow.quantile(ATTENTION_QUANTILE),
+                attentionWindow.stdDev(),
                 totalObservationCount,
                 lastUserStatusInfo.attentionScore,
                 lastUserStatusInfo.drowsinessIntensity,
@@ -0,0 +1,205 @@
+package camp.visual.android.sdk.sample.domain.calibration;
+
+/**
+ * 🆕 캘리브레이션 샘플 수집 시작 게이트 (고정 1초 대기 대체)
+ * - 새 보정 지점이 표시되면 arm() → 프레임마다 update()
+ * - 시선이 지점 근처에서(또는 지점 쪽으로 도약한 뒤) 안정적으로 고정되면 즉시 열림
+ * - 깜빡임/추적 실패 프레임과 도약(saccade) 중 프레임은 고정 판정에서 제외하고 창을 비움
+ * - 프레임이 오지 않는 경우를 위해 호출 측이 타임아웃으로 forceOpen()
+ *
+ * 보정 전 시선은 부정확할 수 있으므로 "지점 근처" 대신 "표시 후 큰 시선 이동 + 고정"도 인정
+ */
+public class CalibrationFixationGate {
+
+    // 지점 표시 후 최소 대기 (시선 반응 지연 + 이동 시간)
+    private static final long MIN_LATENCY_MS = 250;
+
+    // 고정 판정: 이 시간 동안 흩어짐(가로 범위 + 세로 범위)이 기준 이하
+    private static final long FIXATION_MS = 200;
+    private static final float FIXATION_DISPERSION_PX = 48f;
+
+    // 지점 근처 판정 반경
+    private static final float NEAR_TARGET_PX = 200f;
+
+    // 도약 판정: 표시 시점 위치에서 이만큼 이동했거나, 프레임 간 속도가 기준 초과
+    private static final float SACCADE_DISTANCE_PX = 80f;
+    private static final float SACCADE_VELOCITY_PX_PER_MS = 1.5f;
+
+    private static final int WINDOW_SIZE = 16;
+    private final long[] sampleTime = new long[WINDOW_SIZE];
+    private final float[] sampleX = new float[WINDOW_SIZE];
+    private final float[] sampleY = new float[WINDOW_SIZE];
+    private int head = 0;
+    private int count = 0;
+
+    private boolean armed = false;
+    private boolean opened = false;
+    private long armedAtMs = 0;
+    private float targetX;
+    private float targetY;
+    private boolean hasStart = false;
+    private float startX;
+    private float startY;
+    private boolean saccadeSeen = false;
+
+    // 통계 (보정 시간 단축 효과 확인용)
+    private int fixationOpenCount = 0;
+    private int timeoutOpenCount = 0;
+    private long totalWaitMs = 0;
+    private int rejectedFrameCount = 0;
+
+    /**
+     * 새 지점 표시 시 호출
+     */
+    public synchronized void arm(float targetX, float targetY, long nowMs) {
+        this.targetX = targetX;
+        this.targetY = targetY;
+        armedAtMs = nowMs;
+        armed = true;
+        opened = false;
+        hasStart = false;
+        saccadeSeen = false;
+        clearWindow();
+    }
+
+    /**
+     * 프레임마다 호출
+     * @param valid 추적 성공이고 눈을 뜨고 있는 프레임인지
+     * @return 이번 프레임에 게이트가 열렸으면 true (지점당 한 번)
+     */
+    public synchronized boolean update(long nowMs, float x, float y, boolean valid) {
+        if (!armed || opened) {
+            return false;
+        }
+        if (!valid) {
+            // 깜빡임/추적 실패 - 진행 중인 고정 판정 무효
+            rejectedFrameCount++;
+            clearWindow();
+            return false;
+        }
+
+        if (!hasStart) {
+            hasStart = true;
+            startX = x;
+            startY = y;
+        } else if (Math.hypot(x - startX, y - startY) > SACCADE_DISTANCE_PX) {
+            saccadeSeen = true;
+        }
+
+        if (count > 0) {
+            int last = (head - 1 + WINDOW_SIZE) % WINDOW_SIZE;
+            long dt = Math.max(1L, nowMs - sampleTime[last]);
+            float distance = (float) Math.hypot(x - sampleX[last], y - sampleY[last]);
+            if (distance / dt > SACCADE_VELOCITY_PX_PER_MS) {
+                // 도약 중 프레임 - 고정 창을 새로 시작
+                saccadeSeen = true;
+                rejectedFrameCount++;
+                clearWindow();
+                return false;
+            }
+        }
+        push(nowMs, x, y);
+
+        if (nowMs - armedAtMs < MIN_LATENCY_MS || !isFixating(nowMs)) {
+            return false;
+        }
+
+        float meanX = 0f;
+        float meanY = 0f;
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int idx = (head - 1 - i + WINDOW_SIZE) % WINDOW_SIZE;
+            if (nowMs - sampleTime[idx] > FIXATION_MS) {
+                break;
+            }
+            meanX += sampleX[idx];
+            meanY += sampleY[idx];
+            n++;
+        }
+        meanX /= n;
+        meanY /= n;
+        boolean nearTarget = Math.hypot(meanX - targetX, meanY - targetY) <= NEAR_TARGET_PX;
+        if (!nearTarget && !saccadeSeen) {
+            return false;
+        }
+
+        opened = true;
+        fixationOpenCount++;
+        totalWaitMs += nowMs - armedAtMs;
+        return true;
+    }
+
+    /**
+     * 타임아웃 폴백 - 아직 열리지 않았으면 열고 true
+     */
+    public synchronized boolean forceOpen(long nowMs) {
+        if (!armed || opened) {
+            return false;
+        }
+        opened = true;
+        timeoutOpenCount++;
+        totalWaitMs += nowMs - armedAtMs;
+        return true;
+    }
+
+    public synchronized void disarm() {
+        armed = false;
+        opened = false;
+        clearWindow();
+    }
+
+    public synchronized boolean isWaiting() {
+        return armed && !opened;
+    }
+
+    public synchronized void resetStats() {
+        fixationOpenCount = 0;
+        timeoutOpenCount = 0;
+        totalWaitMs = 0;
+        rejectedFrameCount = 0;
+    }
+
+    public synchronized String getSummary() {
+        int total = fixationOpenCount + timeoutOpenCount;
+        return String.format("고정 시선 %d회, 시간 초과 %d회, 평균 대기 %dms, 제외 프레임 %d",
+                fixationOpenCount, timeoutOpenCount, total > 0 ? totalWaitMs / total : 0, rejectedFrameCount);
+    }
+
+    // 최근 FIXATION_MS 구간이 창 안에 모두 있고 흩어짐이 기준 이하인지
+    private boolean isFixating(long nowMs) {
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        long oldest = nowMs;
+        for (int i = 0; i < count; i++) {
+            int idx = (head - 1 - i + WINDOW_SIZE) % WINDOW_SIZE;
+            if (nowMs - sampleTime[idx] > FIXATION_MS) {
+                break;
+            }
+            oldest = sampleTime[idx];
+            minX = Math.min(minX, sampleX[idx]);
+            maxX = Math.max(maxX, sampleX[idx]);
+            minY = Math.min(minY, sampleY[idx]);
+            maxY = Math.max(maxY, sampleY[idx]);
+        }
+        // 창에 FIXATION_MS에 가까운 구간이 쌓여야 고정으로 인정 (프레임 간격 여유 50ms)
+        if (nowMs - oldest < FIXATION_MS - 50) {
+            return false;
+        }
+        return (maxX - minX) + (maxY - minY) <= FIXATION_DISPERSION_PX;
+    }
+
+    private void push(long t, float x, float y) {
+        sampleTime[head] = t;
+        sampleX[head] = x;
+        sampleY[head] = y;
+        head = (head + 1) % WINDOW_SIZE;
+        if (count < WINDOW_SIZE) {
+            count++;
+        }
+    }
+
+    private void clearWindow() {
+        head = 0;
+        count = 0;
+    }
+}
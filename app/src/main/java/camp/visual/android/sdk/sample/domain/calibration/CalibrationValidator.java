@@ -0,0 +1,372 @@
+package camp.visual.android.sdk.sample.domain.calibration;
+
+import android.util.Log;
+
+import java.util.Arrays;
+
+/**
+ * 🆕 캘리브레이션 직후 검증 단계
+ * - 보정에 쓰지 않은 검증 지점을 차례로 보여주고 필터링된 시선 샘플 수집
+ * - 지점마다 중앙값/MAD로 이상치(곁눈질, 깜빡임 직후 튐) 제거
+ * - 정확도: 인라이어 평균과 지점 사이 거리 (지점별 + 전체 RMS, px / 시야각)
+ * - 정밀도: 인라이어가 평균 주위로 흩어진 정도 (표준편차)
+ *
+ * 지점 표시/전환 타이밍은 호출하는 쪽(서비스 핸들러)이 담당하고,
+ * 여기서는 지점이 바뀐 뒤 SETTLE_MS 동안의 샘플(시선 이동 중)을 버림
+ */
+public class CalibrationValidator {
+
+    private static final String TAG = "CalibrationValidator";
+
+    // 지점당 표시 시간 (4개 × 700ms = 2.8초, 매 보정마다 실행해도 부담 없도록)
+    public static final long POINT_DURATION_MS = 700;
+
+    // 지점 전환 후 시선이 도착하기까지 버리는 시간
+    private static final long SETTLE_MS = 250;
+
+    // 지점당 최대 샘플 수 (30fps × 0.45초 ≈ 14, 여유 포함)
+    private static final int MAX_SAMPLES_PER_POINT = 48;
+
+    // 인라이어가 이보다 적은 지점은 평가에서 제외
+    private static final int MIN_INLIERS = 5;
+
+    // 유효 지점이 이보다 적으면 검증 결과 자체를 신뢰하지 않음
+    private static final int MIN_VALID_POINTS = 2;
+
+    // 이상치 기준: 중앙값 거리 + MAD_THRESHOLD × 1.4826 × MAD (최소 MIN_OUTLIER_RADIUS_PX)
+    private static final float MAD_THRESHOLD = 3f;
+    private static final float MAD_TO_SIGMA = 1.4826f;
+    private static final float MIN_OUTLIER_RADIUS_PX = 20f;
+
+    // 시야각 환산용 기본 시청 거리 (휴대폰 사용 시 일반적인 거리)
+    private static final float VIEWING_DISTANCE_CM = 35f;
+
+    // 품질 점수 기준 (시야각)
+    private static final float GOOD_ACCURACY_DEG = 1.0f;
+    private static final float POOR_ACCURACY_DEG = 4.0f;
+    private static final float GOOD_PRECISION_DEG = 0.5f;
+    private static final float POOR_PRECISION_DEG = 2.0f;
+    private static final float ACCURACY_WEIGHT = 0.7f;
+
+    /**
+     * 검증 결과 (불변)
+     */
+    public static final class Result {
+        private final float[] targetX;
+        private final float[] targetY;
+        private final float[] meanX;
+        private final float[] meanY;
+        private final float[] errorPx;
+        private final float[] precisionPx;
+        private final boolean[] pointValid;
+        private final int validPointCount;
+        private final float rmsErrorPx;
+        private final float rmsPrecisionPx;
+        private final float pixelsPerDegree;
+        private final float qualityScore;
+
+        Result(float[] targetX, float[] targetY, float[] meanX, float[] meanY,
+               float[] errorPx, float[] precisionPx, boolean[] pointValid,
+               float pixelsPerDegree) {
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.meanX = meanX;
+            this.meanY = meanY;
+            this.errorPx = errorPx;
+            this.precisionPx = precisionPx;
+            this.pointValid = pointValid;
+            this.pixelsPerDegree = pixelsPerDegree;
+
+            int valid = 0;
+            float errorSq = 0f;
+            float precisionSq = 0f;
+            for (int i = 0; i < pointValid.length; i++) {
+                if (pointValid[i]) {
+                    valid++;
+                    errorSq += errorPx[i] * errorPx[i];
+                    precisionSq += precisionPx[i] * precisionPx[i];
+                }
+            }
+            this.validPointCount = valid;
+            this.rmsErrorPx = valid > 0 ? (float) Math.sqrt(errorSq / valid) : 0f;
+            this.rmsPrecisionPx = valid > 0 ? (float) Math.sqrt(precisionSq / valid) : 0f;
+            this.qualityScore = computeQualityScore();
+        }
+
+        private float computeQualityScore() {
+            if (!isValid()) {
+                return 0f;
+            }
+            float accuracy = scoreBetween(getRmsErrorDeg(), GOOD_ACCURACY_DEG, POOR_ACCURACY_DEG);
+            float precision = scoreBetween(getPrecisionDeg(), GOOD_PRECISION_DEG, POOR_PRECISION_DEG);
+            float coverage = (float) validPointCount / pointValid.length;
+            return (ACCURACY_WEIGHT * accuracy + (1f - ACCURACY_WEIGHT) * precision) * coverage;
+        }
+
+        private static float scoreBetween(float value, float good, float poor) {
+            return Math.max(0f, Math.min(1f, (poor - value) / (poor - good)));
+        }
+
+        public boolean isValid() {
+            return validPointCount >= MIN_VALID_POINTS;
+        }
+
+        public int getPointCount() {
+            return pointValid.length;
+        }
+
+        public int getValidPointCount() {
+            return validPointCount;
+        }
+
+        public boolean isPointValid(int point) {
+            return pointValid[point];
+        }
+
+        public float getTargetX(int point) {
+            return targetX[point];
+        }
+
+        public float getTargetY(int point) {
+            return targetY[point];
+        }
+
+        public float getMeanX(int point) {
+            return meanX[point];
+        }
+
+        public float getMeanY(int point) {
+            return meanY[point];
+        }
+
+        public float getErrorPx(int point) {
+            return errorPx[point];
+        }
+
+        public float getErrorDeg(int point) {
+            return errorPx[point] / pixelsPerDegree;
+        }
+
+        public float getPrecisionPx(int point) {
+            return precisionPx[point];
+        }
+
+        public float getRmsErrorPx() {
+            return rmsErrorPx;
+        }
+
+        public float getRmsErrorDeg() {
+            return rmsErrorPx / pixelsPerDegree;
+        }
+
+        public float getPrecisionPx() {
+            return rmsPrecisionPx;
+        }
+
+        public float getPrecisionDeg() {
+            return rmsPrecisionPx / pixelsPerDegree;
+        }
+
+        /**
+         * 품질 점수 (0~1) - 정확도 70%, 정밀도 30%, 유효 지점 비율을 곱함
+         */
+        public float getQualityScore() {
+            return qualityScore;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("검증 %d/%d지점, 오차 %.0fpx(%.2f°), 정밀도 %.0fpx(%.2f°), 품질 %.2f",
+                    validPointCount, pointValid.length, rmsErrorPx, getRmsErrorDeg(),
+                    rmsPrecisionPx, getPrecisionDeg(), qualityScore);
+        }
+    }
+
+    private final float pixelsPerDegree;
+
+    private float[] targets = new float[0];
+    private int pointCount = 0;
+    private int currentPoint = -1;
+    private long pointStartMs = 0;
+    private boolean active = false;
+
+    // 지점별 샘플 (지점 × MAX_SAMPLES_PER_POINT, 시작 시 한 번만 할당)
+    private float[] samplesX = new float[0];
+    private float[] samplesY = new float[0];
+    private int[] sampleCounts = new int[0];
+
+    // 중앙값/MAD 계산용 작업 버퍼
+    private final float[] scratch = new float[MAX_SAMPLES_PER_POINT];
+    private final float[] distances = new float[MAX_SAMPLES_PER_POINT];
+
+    /**
+     * @param pixelsPerCm 화면 밀도 (DisplayMetrics.xdpi / 2.54)
+     */
+    public CalibrationValidator(float pixelsPerCm) {
+        double cmPerDegree = Math.tan(Math.toRadians(1.0)) * VIEWING_DISTANCE_CM;
+        this.pixelsPerDegree = (float) (pixelsPerCm * cmPerDegree);
+    }
+
+    /**
+     * 화면 크기에 맞는 검증 지점 (보정 지점과 겹치지 않도록 중앙과 모서리 사이 사분면)
+     * @return [x0, y0, x1, y1, ...]
+     */
+    public static float[] defaultTargets(float screenWidth, float screenHeight) {
+        float left = screenWidth * 0.3f;
+        float right = screenWidth * 0.7f;
+        float top = screenHeight * 0.3f;
+        float bottom = screenHeight * 0.7f;
+        return new float[]{left, top, right, top, right, bottom, left, bottom};
+    }
+
+    /**
+     * 검증 시작
+     * @param targetPoints [x0, y0, x1, y1, ...] 시선 좌표계
+     */
+    public synchronized void start(float[] targetPoints) {
+        targets = targetPoints.clone();
+        pointCount = targets.length / 2;
+        if (samplesX.length < pointCount * MAX_SAMPLES_PER_POINT) {
+            samplesX = new float[pointCount * MAX_SAMPLES_PER_POINT];
+            samplesY = new float[pointCount * MAX_SAMPLES_PER_POINT];
+            sampleCounts = new int[pointCount];
+        }
+        Arrays.fill(sampleCounts, 0);
+        currentPoint = -1;
+        active = true;
+    }
+
+    /**
+     * 다음 지점 표시 시점에 호출
+     */
+    public synchronized void beginPoint(int point, long nowMs) {
+        if (!active || point < 0 || point >= pointCount) {
+            return;
+        }
+        currentPoint = point;
+        pointStartMs = nowMs;
+    }
+
+    /**
+     * 프레임마다 호출 - 시선 도착 전이거나 버퍼가 찼으면 무시
+     */
+    public synchronized void addSample(long nowMs, float x, float y) {
+        if (!active || currentPoint < 0 || nowMs - pointStartMs < SETTLE_MS) {
+            return;
+        }
+        int count = sampleCounts[currentPoint];
+        if (count >= MAX_SAMPLES_PER_POINT) {
+            return;
+        }
+        int index = currentPoint * MAX_SAMPLES_PER_POINT + count;
+        samplesX[index] = x;
+        samplesY[index] = y;
+        sampleCounts[currentPoint] = count + 1;
+    }
+
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    public synchronized void cancel() {
+        active = false;
+        currentPoint = -1;
+    }
+
+    /**
+     * 검증 종료 및 결과 계산
+     */
+    public synchronized Result finish() {
+        active = false;
+        currentPoint = -1;
+
+        float[] targetX = new float[pointCount];
+        float[] targetY = new float[pointCount];
+        float[] meanX = new float[pointCount];
+        float[] meanY = new float[pointCount];
+        float[] errorPx = new float[pointCount];
+        float[] precisionPx = new float[pointCount];
+        boolean[] valid = new boolean[pointCount];
+
+        for (int point = 0; point < pointCount; point++) {
+            targetX[point] = targets[point * 2];
+            targetY[point] = targets[point * 2 + 1];
+            valid[point] = evaluatePoint(point, targetX[point], targetY[point],
+                    meanX, meanY, errorPx, precisionPx);
+        }
+
+        Result result = new Result(targetX, targetY, meanX, meanY, errorPx, precisionPx, valid, pixelsPerDegree);
+        Log.d(TAG, result.toString());
+        return result;
+    }
+
+    private boolean evaluatePoint(int point, float targetX, float targetY,
+                                  float[] meanX, float[] meanY, float[] errorPx, float[] precisionPx) {
+        int count = sampleCounts[point];
+        if (count < MIN_INLIERS) {
+            Log.d(TAG, "지점 " + point + ": 샘플 부족 (" + count + ")");
+            return false;
+        }
+        int offset = point * MAX_SAMPLES_PER_POINT;
+
+        // 중앙값 기준점 (평균보다 튀는 샘플에 강함)
+        float medianX = median(samplesX, offset, count);
+        float medianY = median(samplesY, offset, count);
+
+        for (int i = 0; i < count; i++) {
+            float dx = samplesX[offset + i] - medianX;
+            float dy = samplesY[offset + i] - medianY;
+            distances[i] = (float) Math.sqrt(dx * dx + dy * dy);
+        }
+        float medianDistance = median(distances, 0, count);
+        for (int i = 0; i < count; i++) {
+            scratch[i] = Math.abs(distances[i] - medianDistance);
+        }
+        float mad = medianOf(scratch, count);
+        float cutoff = Math.max(MIN_OUTLIER_RADIUS_PX, medianDistance + MAD_THRESHOLD * MAD_TO_SIGMA * mad);
+
+        // 인라이어 평균과 분산 (Welford)
+        int inliers = 0;
+        float mx = 0f;
+        float my = 0f;
+        float m2 = 0f;
+        for (int i = 0; i < count; i++) {
+            if (distances[i] > cutoff) {
+                continue;
+            }
+            float x = samplesX[offset + i];
+            float y = samplesY[offset + i];
+            inliers++;
+            float dx = x - mx;
+            float dy = y - my;
+            mx += dx / inliers;
+            my += dy / inliers;
+            m2 += dx * (x - mx) + dy * (y - my);
+        }
+        if (inliers < MIN_INLIERS) {
+            Log.d(TAG, "지점 " + point + ": 인라이어 부족 (" + inliers + "/" + count + ")");
+            return false;
+        }
+
+        meanX[point] = mx;
+        meanY[point] = my;
+        errorPx[point] = (float) Math.hypot(mx - targetX, my - targetY);
+        precisionPx[point] = (float) Math.sqrt(m2 / inliers);
+        return true;
+    }
+
+    private float median(float[] values, int offset, int count) {
+        System.arraycopy(values, offset, scratch, 0, count);
+        return medianOf(scratch, count);
+    }
+
+    private static float medianOf(float[] values, int count) {
+        Arrays.sort(values, 0, count);
+        int mid = count / 2;
+        return count % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2f;
+    }
+
+    public float getPixelsPerDegree() {
+        return pixelsPerDegree;
+    }
+}
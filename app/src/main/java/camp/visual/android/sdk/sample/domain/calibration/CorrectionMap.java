@@ -0,0 +1,186 @@
+package camp.visual.android.sdk.sample.domain.calibration;
+
+import camp.visual.android.sdk.sample.domain.safety.OffsetSafetyValidator;
+
+/**
+ * 🆕 화면 위치별 보정 벡터 격자 (전역 cursorOffsetX/Y 대체)
+ * - 화면을 COLUMNS x ROWS 격자로 나누고 셀 중심마다 보정 벡터 (dx, dy) 저장
+ * - 조회: 주변 4개 셀 중심 사이 쌍선형 보간 (할당 없음, 매 프레임 호출)
+ * - 학습: 잔차를 주변 4개 셀에 보간 가중치로 나눠 누적 (가중 평균, 상한 이후엔 지수 평균)
+ * - 셀 값은 OffsetSafetyValidator로 검증해 위험한 값은 권장값으로 제한
+ *
+ * 최종 보정 = 전역 오프셋(사용자 설정) + 격자 보간값
+ */
+public class CorrectionMap {
+
+    public static final int COLUMNS = 8;
+    public static final int ROWS = 16;
+
+    // 셀 가중치 상한 - 이후 샘플은 1/MAX_CELL_WEIGHT 비율로 반영 (오래된 잔차를 서서히 잊음)
+    private static final float MAX_CELL_WEIGHT = 10f;
+
+    // 보간 가중치가 이보다 작은 셀은 갱신하지 않음
+    private static final float MIN_SPLAT_WEIGHT = 0.05f;
+
+    private final float[] cellDx = new float[COLUMNS * ROWS];
+    private final float[] cellDy = new float[COLUMNS * ROWS];
+    private final float[] cellWeight = new float[COLUMNS * ROWS];
+
+    private float baseOffsetX = 0f;
+    private float baseOffsetY = 0f;
+
+    private float screenWidth = 1f;
+    private float screenHeight = 1f;
+    private float inverseCellWidth = COLUMNS;
+    private float inverseCellHeight = ROWS;
+
+    private int residualCount = 0;
+    private int clampedCount = 0;
+
+    // 조회/학습 공용 보간 결과 (단일 스레드 사용)
+    private int lookupIndex;
+    private float lookupFx;
+    private float lookupFy;
+
+    public void setScreenSize(float width, float height) {
+        if (width > 0 && height > 0 && (width != screenWidth || height != screenHeight)) {
+            // 격자 위치가 달라지므로 학습된 잔차는 폐기
+            screenWidth = width;
+            screenHeight = height;
+            inverseCellWidth = COLUMNS / width;
+            inverseCellHeight = ROWS / height;
+            clearResiduals();
+        }
+    }
+
+    /**
+     * 전역 오프셋 (사용자 수동 조정값) - 모든 위치에 동일하게 더해짐
+     */
+    public void setBaseOffset(float offsetX, float offsetY) {
+        baseOffsetX = offsetX;
+        baseOffsetY = offsetY;
+    }
+
+    /**
+     * 위치별 보정 벡터 조회 (전역 오프셋 포함)
+     * @param out [dx, dy]
+     */
+    public void lookup(float x, float y, float[] out) {
+        if (residualCount == 0) {
+            out[0] = baseOffsetX;
+            out[1] = baseOffsetY;
+            return;
+        }
+
+        locate(x, y);
+        int i00 = lookupIndex;
+        int i10 = i00 + 1;
+        int i01 = i00 + COLUMNS;
+        int i11 = i01 + 1;
+        float fx = lookupFx;
+        float fy = lookupFy;
+
+        float top = cellDx[i00] + (cellDx[i10] - cellDx[i00]) * fx;
+        float bottom = cellDx[i01] + (cellDx[i11] - cellDx[i01]) * fx;
+        out[0] = baseOffsetX + top + (bottom - top) * fy;
+
+        top = cellDy[i00] + (cellDy[i10] - cellDy[i00]) * fx;
+        bottom = cellDy[i01] + (cellDy[i11] - cellDy[i01]) * fx;
+        out[1] = baseOffsetY + top + (bottom - top) * fy;
+    }
+
+    /**
+     * 잔차 추가 (보정 후에도 남는 오차: 실제 위치 - 보정된 시선, 전역 오프셋 제외)
+     * 캘리브레이션 검증 잔차, 암묵적 클릭 잔차 모두 같은 방식으로 사용
+     * @param x 잔차가 관측된 위치
+     * @param weight 샘플 신뢰도 (1 = 일반)
+     */
+    public void addResidual(float x, float y, float residualX, float residualY, float weight) {
+        locate(x, y);
+        int i00 = lookupIndex;
+        float fx = lookupFx;
+        float fy = lookupFy;
+
+        splat(i00, residualX, residualY, weight * (1f - fx) * (1f - fy));
+        splat(i00 + 1, residualX, residualY, weight * fx * (1f - fy));
+        splat(i00 + COLUMNS, residualX, residualY, weight * (1f - fx) * fy);
+        splat(i00 + COLUMNS + 1, residualX, residualY, weight * fx * fy);
+        residualCount++;
+    }
+
+    private void splat(int cell, float residualX, float residualY, float weight) {
+        if (weight < MIN_SPLAT_WEIGHT) {
+            return;
+        }
+        float total = Math.min(MAX_CELL_WEIGHT, cellWeight[cell] + weight);
+        float rate = weight / total;
+        cellWeight[cell] = total;
+
+        float dx = cellDx[cell] + (residualX - cellDx[cell]) * rate;
+        float dy = cellDy[cell] + (residualY - cellDy[cell]) * rate;
+
+        // 셀 단위 안전성 검증 (전역 오프셋과 합친 실제 적용값 기준)
+        OffsetSafetyValidator.OffsetValidationResult result = OffsetSafetyValidator.validateOffset(
+                baseOffsetX + dx, baseOffsetY + dy, screenWidth, screenHeight);
+        if (!result.isValid) {
+            dx = result.recommendedX - baseOffsetX;
+            dy = result.recommendedY - baseOffsetY;
+            clampedCount++;
+        }
+
+        cellDx[cell] = dx;
+        cellDy[cell] = dy;
+    }
+
+    /**
+     * 좌표 → 보간 기준 셀(왼쪽 위) 인덱스와 셀 내 비율
+     * 셀 중심 기준이므로 가장자리 반 셀은 끝 셀 값으로 고정
+     */
+    private void locate(float x, float y) {
+        float gx = x * inverseCellWidth - 0.5f;
+        float gy = y * inverseCellHeight - 0.5f;
+        gx = Math.max(0f, Math.min(COLUMNS - 1.001f, gx));
+        gy = Math.max(0f, Math.min(ROWS - 1.001f, gy));
+
+        int col = (int) gx;
+        int row = (int) gy;
+        lookupIndex = row * COLUMNS + col;
+        lookupFx = gx - col;
+        lookupFy = gy - row;
+    }
+
+    /**
+     * 학습된 잔차만 초기화 (전역 오프셋 유지)
+     */
+    public void clearResiduals() {
+        for (int i = 0; i < cellDx.length; i++) {
+            cellDx[i] = 0f;
+            cellDy[i] = 0f;
+            cellWeight[i] = 0f;
+        }
+        residualCount = 0;
+        clampedCount = 0;
+    }
+
+    public int getResidualCount() {
+        return residualCount;
+    }
+
+    public int getClampedCount() {
+        return clampedCount;
+    }
+
+    /**
+     * 가장 큰 셀 보정량 (px, 전역 오프셋 제외)
+     */
+    public float getMaxResidualMagnitude() {
+        float max = 0f;
+        for (int i = 0; i < cellDx.length; i++) {
+            float magnitude = (float) Math.sqrt(cellDx[i] * cellDx[i] + cellDy[i] * cellDy[i]);
+            if (magnitude > max) {
+                max = magnitude;
+            }
+        }
+        return max;
+    }
+}
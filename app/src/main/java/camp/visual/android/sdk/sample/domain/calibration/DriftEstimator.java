@@ -0,0 +1,241 @@
+package camp.visual.android.sdk.sample.domain.calibration;
+
+import android.util.Log;
+
+/**
+ * 🆕 사용 중 시선 드리프트 추정기 (스트리밍)
+ * - 위치를 아는 UI 대상(엣지 메뉴 버튼, 응시 클릭한 접근성 노드)을 응시한 순간의
+ *   (시선 평균 - 대상 중심) 오차를 대상 위치별 클러스터로 모음
+ * - 클러스터마다 지수 감쇠 온라인 평균 → 오래된 관측은 자연스럽게 잊음
+ * - 현재 드리프트 벡터와 신뢰도를 불변 스냅샷으로 계속 공개 (어느 스레드에서나 읽기 가능)
+ *
+ * 신뢰도 = 관측량(감쇠 가중치 합) × 공간 분포(클러스터 수) × 클러스터 간 일치도
+ * → 한 버튼만 반복해서 누른 경우나 클러스터마다 방향이 다른 경우엔 낮게 유지
+ */
+public class DriftEstimator {
+
+    private static final String TAG = "DriftEstimator";
+
+    private static final int MAX_CLUSTERS = 16;
+
+    // 대상 중심이 이 거리 이내면 같은 클러스터 (px)
+    private static final float CLUSTER_RADIUS = 64f;
+
+    // 감쇠 시간 상수 - 3분 전 관측은 가중치 1/e
+    private static final long DECAY_TAU_MS = 180_000;
+
+    // 클러스터 하나가 전체 추정을 지배하지 않도록 가중치 상한
+    private static final float MAX_CLUSTER_WEIGHT = 5f;
+
+    // 이보다 가벼운 클러스터는 추정에서 제외
+    private static final float MIN_CLUSTER_WEIGHT = 0.2f;
+
+    // 이보다 큰 오차는 다른 대상을 보고 있던 것으로 보고 버림 (px)
+    private static final float MAX_OBSERVATION_ERROR = 150f;
+
+    // 신뢰도 구성 요소 기준
+    private static final float FULL_CONFIDENCE_WEIGHT = 6f;
+    private static final int FULL_CONFIDENCE_CLUSTERS = 3;
+    private static final float AGREEMENT_SCALE_PX = 30f;
+
+    /**
+     * 드리프트 추정 스냅샷 (불변) - drift = 보정 후 시선 위치 - 실제 응시 대상
+     */
+    public static final class Estimate {
+        public static final Estimate NONE = new Estimate(0f, 0f, 0f, 0f, 0, 0L);
+
+        public final float driftX;
+        public final float driftY;
+        public final float magnitude;
+        public final float dispersion;   // 클러스터 간 흩어짐 (px)
+        public final float confidence;   // 0~1
+        public final int clusterCount;
+        public final long timestampMs;
+
+        Estimate(float driftX, float driftY, float dispersion, float confidence, int clusterCount, long timestampMs) {
+            this.driftX = driftX;
+            this.driftY = driftY;
+            this.magnitude = (float) Math.hypot(driftX, driftY);
+            this.dispersion = dispersion;
+            this.confidence = confidence;
+            this.clusterCount = clusterCount;
+            this.timestampMs = timestampMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("드리프트 (%.1f, %.1f) %.1fpx, 신뢰도 %.2f, 클러스터 %d",
+                    driftX, driftY, magnitude, confidence, clusterCount);
+        }
+    }
+
+    private final float[] centerX = new float[MAX_CLUSTERS];
+    private final float[] centerY = new float[MAX_CLUSTERS];
+    private final float[] weight = new float[MAX_CLUSTERS];
+    private final float[] meanDx = new float[MAX_CLUSTERS];
+    private final float[] meanDy = new float[MAX_CLUSTERS];
+    private final long[] updatedAtMs = new long[MAX_CLUSTERS];
+
+    private volatile Estimate estimate = Estimate.NONE;
+    private long rejectedCount = 0;
+
+    /**
+     * 대상 응시 관측 추가
+     * @param targetX 대상 중심 (시선 좌표계)
+     * @param gazeX 대상을 응시하는 동안의 보정 후 시선 평균
+     * @param sampleWeight 관측 신뢰도 (1 = 일반)
+     * @return 갱신된 추정치
+     */
+    public synchronized Estimate observe(float targetX, float targetY, float gazeX, float gazeY,
+                                         long nowMs, float sampleWeight) {
+        float dx = gazeX - targetX;
+        float dy = gazeY - targetY;
+        if (Math.hypot(dx, dy) > MAX_OBSERVATION_ERROR) {
+            rejectedCount++;
+            return estimate;
+        }
+
+        int cluster = findCluster(targetX, targetY, nowMs);
+        float decayed = decayedWeight(cluster, nowMs);
+        float total = decayed + sampleWeight;
+        float rate = sampleWeight / total;
+
+        meanDx[cluster] += (dx - meanDx[cluster]) * rate;
+        meanDy[cluster] += (dy - meanDy[cluster]) * rate;
+        centerX[cluster] += (targetX - centerX[cluster]) * rate;
+        centerY[cluster] += (targetY - centerY[cluster]) * rate;
+        weight[cluster] = total;
+        updatedAtMs[cluster] = nowMs;
+
+        return refresh(nowMs);
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠를 반영해 추정치 재계산 및 공개
+     */
+    public synchronized Estimate refresh(long nowMs) {
+        float totalWeight = 0f;
+        float sumDx = 0f;
+        float sumDy = 0f;
+        int clusters = 0;
+        for (int i = 0; i < MAX_CLUSTERS; i++) {
+            float w = Math.min(MAX_CLUSTER_WEIGHT, decayedWeight(i, nowMs));
+            if (w < MIN_CLUSTER_WEIGHT) {
+                continue;
+            }
+            totalWeight += w;
+            sumDx += w * meanDx[i];
+            sumDy += w * meanDy[i];
+            clusters++;
+        }
+
+        if (clusters == 0) {
+            estimate = Estimate.NONE;
+            return estimate;
+        }
+
+        float driftX = sumDx / totalWeight;
+        float driftY = sumDy / totalWeight;
+
+        // 클러스터 간 흩어짐 (가중 표준편차)
+        float spread = 0f;
+        for (int i = 0; i < MAX_CLUSTERS; i++) {
+            float w = Math.min(MAX_CLUSTER_WEIGHT, decayedWeight(i, nowMs));
+            if (w < MIN_CLUSTER_WEIGHT) {
+                continue;
+            }
+            float ex = meanDx[i] - driftX;
+            float ey = meanDy[i] - driftY;
+            spread += w * (ex * ex + ey * ey);
+        }
+        float dispersion = (float) Math.sqrt(spread / totalWeight);
+
+        float amount = 1f - (float) Math.exp(-totalWeight / FULL_CONFIDENCE_WEIGHT);
+        float coverage = Math.min(1f, (float) clusters / FULL_CONFIDENCE_CLUSTERS);
+        float agreement = 1f / (1f + dispersion / AGREEMENT_SCALE_PX);
+
+        estimate = new Estimate(driftX, driftY, dispersion, amount * coverage * agreement, clusters, nowMs);
+        return estimate;
+    }
+
+    /**
+     * 마지막으로 공개된 추정치 (잠금 없음)
+     */
+    public Estimate getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * 보정이 적용되어 기존 관측의 일부가 이미 반영된 경우 - 가중치를 줄여 신뢰도만 낮춤
+     */
+    public synchronized void discount(float factor, long nowMs) {
+        for (int i = 0; i < MAX_CLUSTERS; i++) {
+            weight[i] *= factor;
+        }
+        refresh(nowMs);
+    }
+
+    /**
+     * 새 캘리브레이션 적용 시 초기화
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < MAX_CLUSTERS; i++) {
+            weight[i] = 0f;
+            meanDx[i] = 0f;
+            meanDy[i] = 0f;
+            updatedAtMs[i] = 0L;
+        }
+        estimate = Estimate.NONE;
+        Log.d(TAG, "드리프트 추정 초기화");
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    // 가장 가까운 클러스터, 없으면 빈 칸 또는 가장 가벼운 클러스터를 재사용
+    private int findCluster(float x, float y, long nowMs) {
+        int nearest = -1;
+        float nearestDistSq = CLUSTER_RADIUS * CLUSTER_RADIUS;
+        int lightest = 0;
+        float lightestWeight = Float.MAX_VALUE;
+
+        for (int i = 0; i < MAX_CLUSTERS; i++) {
+            float w = decayedWeight(i, nowMs);
+            if (w < lightestWeight) {
+                lightestWeight = w;
+                lightest = i;
+            }
+            if (w < MIN_CLUSTER_WEIGHT * 0.1f) {
+                continue;
+            }
+            float ex = centerX[i] - x;
+            float ey = centerY[i] - y;
+            float distSq = ex * ex + ey * ey;
+            if (distSq <= nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = i;
+            }
+        }
+        if (nearest >= 0) {
+            return nearest;
+        }
+
+        weight[lightest] = 0f;
+        meanDx[lightest] = 0f;
+        meanDy[lightest] = 0f;
+        centerX[lightest] = x;
+        centerY[lightest] = y;
+        updatedAtMs[lightest] = nowMs;
+        return lightest;
+    }
+
+    private float decayedWeight(int cluster, long nowMs) {
+        float w = weight[cluster];
+        if (w == 0f) {
+            return 0f;
+        }
+        long age = Math.max(0L, nowMs - updatedAtMs[cluster]);
+        return w * (float) Math.exp(-(double) age / DECAY_TAU_MS);
+    }
+}
@@ -0,0 +1,273 @@
+package camp.visual.android.sdk.sample.domain.calibration;
+
+import android.util.Log;
+
+/**
+ * 🆕 암묵적 배경 재보정 (재귀 최소제곱, RLS)
+ * - 응시 클릭으로 확정된 (시선 위치, 실제 대상 중심) 쌍을 학습 샘플로 사용
+ * - 아핀 보정 x' = a·x + b·y + c, y' = d·x + e·y + f 를 샘플마다 O(1)로 갱신
+ *   (이력 저장 없음, 3x3 공분산 행렬 하나를 두 축이 공유)
+ * - 학습된 모델(fitted)과 실제 적용 중인 모델(applied)을 분리
+ *   → 안전 래퍼가 승인한 만큼만 applied를 fitted 쪽으로 이동
+ *
+ * 좌표는 화면 크기로 정규화해 계산 (행렬 조건수 안정화)
+ */
+public class ImplicitCalibrationLearner {
+
+    private static final String TAG = "ImplicitCalibration";
+
+    // 망각 계수 - 오래된 샘플의 영향을 서서히 줄임 (유효 샘플 수 ≈ 1/(1-λ) = 50)
+    private static final double FORGETTING_FACTOR = 0.98;
+
+    // 초기 공분산 (항등 변환에 대한 사전 신뢰도, 작을수록 초기 모델을 오래 유지)
+    private static final double INITIAL_COVARIANCE = 0.5;
+
+    // 샘플이 한쪽에 몰려 공분산이 폭주하지 않도록 하는 상한 (trace)
+    private static final double MAX_COVARIANCE_TRACE = 30.0;
+
+    // 이 이상 떨어진 샘플은 잘못 누른 대상으로 보고 버림 (px)
+    private static final float MAX_RESIDUAL_PX = 120f;
+
+    // 적용 전 최소 샘플 수
+    private static final int MIN_SAMPLES_TO_APPLY = 8;
+
+    // 이보다 작은 변화는 적용 요청하지 않음 (px)
+    private static final float MIN_ADJUSTMENT_PX = 2f;
+
+    // 모델 차이를 비교하는 지점 (정규화 좌표: 중앙 + 네 모서리)
+    private static final double[] SAMPLE_POINTS = {
+            0.5, 0.5, 0.0, 0.0, 1.0, 0.0, 0.0, 1.0, 1.0, 1.0
+    };
+
+    private float screenWidth = 1f;
+    private float screenHeight = 1f;
+
+    // 학습 중인 모델 (정규화 좌표) - 행: [x계수, y계수, 상수]
+    private final double[] fittedX = new double[3];
+    private final double[] fittedY = new double[3];
+    private final double[] p = new double[9];
+
+    // 실제 적용 중인 모델
+    private final double[] appliedX = new double[3];
+    private final double[] appliedY = new double[3];
+
+    // 적용 요청 시점의 이동량 (안전 래퍼 승인 비율 계산용)
+    private float requestedAdjustX = 0f;
+    private float requestedAdjustY = 0f;
+
+    // 계산용 재사용 버퍼
+    private final double[] phi = new double[3];
+    private final double[] pPhi = new double[3];
+
+    private int sampleCount = 0;
+    private int rejectedCount = 0;
+    private int appliedCount = 0;
+
+    public ImplicitCalibrationLearner() {
+        reset();
+    }
+
+    public void setScreenSize(float width, float height) {
+        if (width > 0 && height > 0 && (width != screenWidth || height != screenHeight)) {
+            // 정규화 기준이 바뀌면 학습 결과를 재사용할 수 없음
+            screenWidth = width;
+            screenHeight = height;
+            reset();
+        }
+    }
+
+    /**
+     * 학습 샘플 추가
+     * @param rawX 보정 전 시선 x (px)
+     * @param targetX 실제 대상 중심 x (px, 같은 좌표계)
+     * @return 샘플이 채택되었는지
+     */
+    public boolean addSample(float rawX, float rawY, float targetX, float targetY) {
+        double nx = rawX / screenWidth;
+        double ny = rawY / screenHeight;
+        double tx = targetX / screenWidth;
+        double ty = targetY / screenHeight;
+
+        phi[0] = nx;
+        phi[1] = ny;
+        phi[2] = 1.0;
+
+        double errX = tx - dot(fittedX, phi);
+        double errY = ty - dot(fittedY, phi);
+        float residualPx = (float) Math.hypot(errX * screenWidth, errY * screenHeight);
+        if (residualPx > MAX_RESIDUAL_PX) {
+            rejectedCount++;
+            Log.d(TAG, String.format("샘플 거부 - 잔차 %.0fpx", residualPx));
+            return false;
+        }
+
+        // k = P·φ / (λ + φᵀ·P·φ)
+        for (int i = 0; i < 3; i++) {
+            pPhi[i] = p[i * 3] * phi[0] + p[i * 3 + 1] * phi[1] + p[i * 3 + 2] * phi[2];
+        }
+        double denominator = FORGETTING_FACTOR + dot(phi, pPhi);
+
+        for (int i = 0; i < 3; i++) {
+            double k = pPhi[i] / denominator;
+            fittedX[i] += k * errX;
+            fittedY[i] += k * errY;
+        }
+
+        // P = (P - k·φᵀ·P) / λ, P가 대칭이므로 φᵀ·P = (P·φ)ᵀ
+        double trace = 0;
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                p[i * 3 + j] -= pPhi[i] * pPhi[j] / denominator;
+            }
+            trace += p[i * 3 + i];
+        }
+        // 입력이 한 영역에 몰리면 λ로 나누는 동안 공분산이 계속 커지므로 상한에서 멈춤
+        if (trace * (1.0 / FORGETTING_FACTOR) < MAX_COVARIANCE_TRACE) {
+            for (int i = 0; i < 9; i++) {
+                p[i] /= FORGETTING_FACTOR;
+            }
+        }
+
+        sampleCount++;
+        return true;
+    }
+
+    /**
+     * 적용할 준비가 된 이동량 (px) - 준비 안됐으면 false
+     * 화면 중앙과 네 모서리 중 적용 모델과 학습 모델 차이가 가장 큰 지점의 이동량
+     * (스케일/회전 차이도 안전 래퍼의 이동량 제한을 받도록)
+     * @param out [dx, dy]
+     */
+    public boolean getPendingAdjustment(float[] out) {
+        if (sampleCount < MIN_SAMPLES_TO_APPLY) {
+            return false;
+        }
+
+        float maxDx = 0f;
+        float maxDy = 0f;
+        double maxMagnitude = 0;
+        for (int point = 0; point < SAMPLE_POINTS.length; point += 2) {
+            double nx = SAMPLE_POINTS[point];
+            double ny = SAMPLE_POINTS[point + 1];
+            float dx = (float) ((evaluate(fittedX, nx, ny) - evaluate(appliedX, nx, ny)) * screenWidth);
+            float dy = (float) ((evaluate(fittedY, nx, ny) - evaluate(appliedY, nx, ny)) * screenHeight);
+            double magnitude = Math.hypot(dx, dy);
+            if (magnitude > maxMagnitude) {
+                maxMagnitude = magnitude;
+                maxDx = dx;
+                maxDy = dy;
+            }
+        }
+        if (maxMagnitude < MIN_ADJUSTMENT_PX) {
+            return false;
+        }
+
+        requestedAdjustX = maxDx;
+        requestedAdjustY = maxDy;
+        out[0] = maxDx;
+        out[1] = maxDy;
+        return true;
+    }
+
+    /**
+     * 안전 래퍼가 승인한 이동량만큼 적용 모델을 학습 모델 쪽으로 이동
+     */
+    public void applyApproved(float approvedX, float approvedY) {
+        float requested = (float) Math.hypot(requestedAdjustX, requestedAdjustY);
+        float approved = (float) Math.hypot(approvedX, approvedY);
+        double fraction = requested > 0.001f ? Math.min(1.0, approved / requested) : 1.0;
+
+        for (int i = 0; i < 3; i++) {
+            appliedX[i] += (fittedX[i] - appliedX[i]) * fraction;
+            appliedY[i] += (fittedY[i] - appliedY[i]) * fraction;
+        }
+        appliedCount++;
+        Log.d(TAG, String.format("보정 모델 적용 (%.0f%%): x' = %.3fx %+.3fy %+.1f, y' = %.3fx %+.3fy %+.1f",
+                fraction * 100,
+                appliedX[0], appliedX[1] * screenHeight / screenWidth, appliedX[2] * screenWidth,
+                appliedY[0] * screenWidth / screenHeight, appliedY[1], appliedY[2] * screenHeight));
+    }
+
+    /**
+     * 보정 전 좌표 → 보정 후 좌표 (적용 모델, 프레임마다 호출)
+     */
+    public void correct(float x, float y, float[] out) {
+        double nx = x / screenWidth;
+        double ny = y / screenHeight;
+        out[0] = (float) (evaluate(appliedX, nx, ny) * screenWidth);
+        out[1] = (float) (evaluate(appliedY, nx, ny) * screenHeight);
+    }
+
+    /**
+     * 학습 모델 기준 보정 좌표 (아직 적용되지 않은 학습 결과 포함, 잔차 계산용)
+     */
+    public void correctFitted(float x, float y, float[] out) {
+        double nx = x / screenWidth;
+        double ny = y / screenHeight;
+        out[0] = (float) (evaluate(fittedX, nx, ny) * screenWidth);
+        out[1] = (float) (evaluate(fittedY, nx, ny) * screenHeight);
+    }
+
+    /**
+     * 보정 후 좌표 → 보정 전 좌표 (적용 모델의 역변환, 학습 샘플 복원용)
+     */
+    public void uncorrect(float x, float y, float[] out) {
+        double a = appliedX[0], b = appliedX[1], c = appliedX[2];
+        double d = appliedY[0], e = appliedY[1], f = appliedY[2];
+        double det = a * e - b * d;
+        if (Math.abs(det) < 1e-6) {
+            out[0] = x;
+            out[1] = y;
+            return;
+        }
+        double u = x / screenWidth - c;
+        double v = y / screenHeight - f;
+        out[0] = (float) ((e * u - b * v) / det * screenWidth);
+        out[1] = (float) ((a * v - d * u) / det * screenHeight);
+    }
+
+    public boolean isIdentity() {
+        return appliedCount == 0;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * 새 캘리브레이션 등으로 기준이 바뀌면 학습 초기화 (항등 변환)
+     */
+    public void reset() {
+        for (int i = 0; i < 3; i++) {
+            fittedX[i] = 0;
+            fittedY[i] = 0;
+            appliedX[i] = 0;
+            appliedY[i] = 0;
+        }
+        fittedX[0] = appliedX[0] = 1.0;
+        fittedY[1] = appliedY[1] = 1.0;
+
+        for (int i = 0; i < 9; i++) {
+            p[i] = 0;
+        }
+        p[0] = p[4] = p[8] = INITIAL_COVARIANCE;
+
+        requestedAdjustX = 0f;
+        requestedAdjustY = 0f;
+        sampleCount = 0;
+        rejectedCount = 0;
+        appliedCount = 0;
+    }
+
+    private static double evaluate(double[] model, double x, double y) {
+        return model[0] * x + model[1] * y + model[2];
+    }
+
+    private static double dot(double[] a, double[] b) {
+        return a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+    }
+}
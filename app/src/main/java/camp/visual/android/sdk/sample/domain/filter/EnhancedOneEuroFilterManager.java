@@ -38,6 +38,9 @@ public class EnhancedOneEuroFilterManager {
     private int consecutiveLowConfidenceCount = 0;
     private static final int LOW_CONFIDENCE_THRESHOLD = 2; // 더 빠른 반응 (기존 3 → 2)
 
+    // 🆕 간소화 모드 (발열 시) - fixation 필터와 안정화 블렌딩 생략, gaze 필터 하나만
+    private volatile boolean reducedComplexity = false;
+
     // 필터 성능 모니터링
     private long lastFilterTime = 0;
     private float[] lastFilteredValues = new float[2];
@@ -85,6 +88,17 @@ public class EnhancedOneEuroFilterManager {
         // 기본 gaze 필터링
         boolean gazeFiltered = activeFilter.filterValues(timestamp, gazeX, gazeY);
 
+        if (reducedComplexity) {
+            if (gazeFiltered) {
+                float[] gazeValues = activeFilter.getFilteredValues();
+                lastFilteredValues[0] = gazeValues[0];
+                lastFilteredValues[1] = gazeValues[1];
+                lastFilterTime = timestamp;
+                isInitialized = true;
+            }
+            return gazeFiltered;
+        }
+
         // fixation 데이터 필터링 (안경 보정용)
         boolean fixationFiltered = fixationFilter.filterValues(timestamp, fixationX, fixationY);
 
@@ -189,6 +203,24 @@ public class EnhancedOneEuroFilterManager {
         Log.d(TAG, "gaze-fixation 블렌딩 비율 설정: " + refractionCorrectionFactor);
     }
 
+    /**
+     * 🆕 간소화 모드 설정 (해제 시 fixation 필터는 오래된 상태를 버리고 새로 시작)
+     */
+    public void setReducedComplexity(boolean reduced) {
+        if (reducedComplexity == reduced) {
+            return;
+        }
+        reducedComplexity = reduced;
+        if (!reduced) {
+            fixationFilter = new OneEuroFilterManager(2, freq, minCutoff * 0.6f, beta * 0.7f, dCutoff);
+        }
+        Log.d(TAG, "필터 간소화 모드: " + (reduced ? "ON" : "OFF"));
+    }
+
+    public boolean isReducedComplexity() {
+        return reducedComplexity;
+    }
+
     public boolean isGlassesCompensationEnabled() {
         return glassesCompensationEnabled;
     }
@@ -0,0 +1,146 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 🆕 스트리밍 눈 깜빡임 분류기
+ * - 매 프레임의 BlinkInfo(눈 감김 여부)를 받아 의도적 깜빡임만 골라냄
+ * - 자연스러운 깜빡임(100~350ms, 드문 간격)은 무시
+ * - 의도적 깜빡임:
+ *   · LONG_BLINK: 500~1500ms 동안 감았다 뜸
+ *   · DOUBLE_BLINK: 짧은 깜빡임 두 번이 500ms 안에 연속
+ * - 1500ms 이상 감고 있으면 졸음/시선 이탈로 보고 무시
+ *
+ * 상태 머신: OPEN ⇄ CLOSED, 최근 짧은 깜빡임은 타임스탬프 링(고정 크기)에 보관
+ */
+public class BlinkClassifier {
+
+    public enum Event {
+        NONE, LONG_BLINK, DOUBLE_BLINK
+    }
+
+    // 깜빡임 길이 기준
+    private static final long MIN_BLINK_MS = 50;          // 이보다 짧으면 노이즈
+    private static final long SHORT_BLINK_MAX_MS = 350;   // 자연/짧은 깜빡임 상한
+    private static final long LONG_BLINK_MIN_MS = 500;    // 의도적 긴 깜빡임 하한
+    private static final long LONG_BLINK_MAX_MS = 1500;   // 이보다 길면 눈을 감고 있는 것
+
+    // 두 번 깜빡임: 이전 깜빡임이 끝나고 다음 깜빡임이 시작되기까지 허용 간격
+    private static final long DOUBLE_BLINK_GAP_MS = 500;
+
+    // 이벤트 후 재발생 방지
+    private static final long REFRACTORY_MS = 800;
+
+    // 프레임이 이 이상 끊기면 상태를 초기화 (추적 손실)
+    private static final long MAX_FRAME_GAP_MS = 300;
+
+    // 최근 짧은 깜빡임 윈도우 (끝 타임스탬프)
+    private static final int WINDOW_SIZE = 4;
+    private final long[] shortBlinkEnd = new long[WINDOW_SIZE];
+    private int windowHead = 0;
+    private int windowCount = 0;
+
+    private boolean closed = false;
+    private long closureStartMs = 0;
+    private long lastFrameMs = 0;
+    private long lastEventMs = -REFRACTORY_MS;
+
+    // 통계 (디버깅/튜닝용)
+    private long naturalBlinkCount = 0;
+    private long intentionalBlinkCount = 0;
+
+    /**
+     * 프레임마다 호출
+     * @param timestampMs 프레임 타임스탬프
+     * @param eyesClosed BlinkInfo.isBlink
+     * @return 감지된 의도적 깜빡임 이벤트 (없으면 NONE)
+     */
+    public Event update(long timestampMs, boolean eyesClosed) {
+        if (lastFrameMs != 0 && timestampMs - lastFrameMs > MAX_FRAME_GAP_MS) {
+            // 프레임 공백 동안의 눈 상태를 알 수 없으므로 진행 중인 판정 폐기
+            closed = false;
+            clearWindow();
+        }
+        lastFrameMs = timestampMs;
+
+        if (eyesClosed) {
+            if (!closed) {
+                closed = true;
+                closureStartMs = timestampMs;
+            }
+            return Event.NONE;
+        }
+
+        if (!closed) {
+            return Event.NONE;
+        }
+
+        // CLOSED → OPEN: 한 번의 깜빡임 완료
+        closed = false;
+        long duration = timestampMs - closureStartMs;
+
+        if (duration < MIN_BLINK_MS || duration > LONG_BLINK_MAX_MS) {
+            return Event.NONE;
+        }
+
+        if (timestampMs - lastEventMs < REFRACTORY_MS) {
+            return Event.NONE;
+        }
+
+        if (duration >= LONG_BLINK_MIN_MS) {
+            return fire(Event.LONG_BLINK, timestampMs);
+        }
+
+        if (duration <= SHORT_BLINK_MAX_MS) {
+            if (windowCount > 0) {
+                int last = (windowHead - 1 + WINDOW_SIZE) % WINDOW_SIZE;
+                if (closureStartMs - shortBlinkEnd[last] <= DOUBLE_BLINK_GAP_MS) {
+                    return fire(Event.DOUBLE_BLINK, timestampMs);
+                }
+            }
+            pushShortBlink(timestampMs);
+            naturalBlinkCount++;
+        }
+        return Event.NONE;
+    }
+
+    private Event fire(Event event, long timestampMs) {
+        lastEventMs = timestampMs;
+        intentionalBlinkCount++;
+        clearWindow();
+        return event;
+    }
+
+    private void pushShortBlink(long endMs) {
+        shortBlinkEnd[windowHead] = endMs;
+        windowHead = (windowHead + 1) % WINDOW_SIZE;
+        if (windowCount < WINDOW_SIZE) {
+            windowCount++;
+        }
+    }
+
+    private void clearWindow() {
+        windowHead = 0;
+        windowCount = 0;
+    }
+
+    /**
+     * 현재 눈을 감고 있는 중인지 (이 동안의 시선 좌표는 신뢰할 수 없음)
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public long getNaturalBlinkCount() {
+        return naturalBlinkCount;
+    }
+
+    public long getIntentionalBlinkCount() {
+        return intentionalBlinkCount;
+    }
+
+    public void reset() {
+        closed = false;
+        closureStartMs = 0;
+        lastFrameMs = 0;
+        clearWindow();
+    }
+}
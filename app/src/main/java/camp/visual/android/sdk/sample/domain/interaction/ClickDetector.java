@@ -15,8 +15,54 @@ public class ClickDetector {
     private long fixationStartTime = 0;
     private boolean isFixating = false;
 
+    // 🆕 대상 크기/밀집도 + 응시 안정성 기반 적응형 응시 시간
+    private static final float MIN_DWELL_FACTOR = 0.6f;
+    private static final float MAX_DWELL_FACTOR = 1.5f;
+    private static final float STABLE_DISPERSION_RATIO = 0.25f;   // AOI 반경 대비 표준편차
+    private static final float UNSTABLE_DISPERSION_RATIO = 0.6f;
+    private static final float STABLE_FACTOR = 0.9f;
+    private static final float UNSTABLE_FACTOR = 1.15f;
+    private static final int MIN_STABILITY_SAMPLES = 5;
+
+    private TargetIndex targetIndex = TargetIndex.empty();
+    private float screenOffsetY = 0f;                 // 시선 좌표 → 화면 좌표 (상태바 높이)
+    private int currentTarget = TargetIndex.NO_TARGET; // 마지막으로 찾은 대상 (같은 대상이면 격자 조회 생략)
+    private float targetFactor = 1f;
+    private float currentDwellMs;
+
+    // 현재 응시 구간의 분산 (Welford)
+    private int sampleCount = 0;
+    private float sampleMeanX = 0f;
+    private float sampleMeanY = 0f;
+    private float sampleM2 = 0f;
+
+    // 마지막 클릭 정보 (암묵적 재보정 샘플)
+    private float lastClickMeanX = -1;
+    private float lastClickMeanY = -1;
+    private int lastClickTarget = TargetIndex.NO_TARGET;
+
     public ClickDetector(UserSettings settings) {
         this.settings = settings;
+        this.currentDwellMs = settings.getFixationDurationMs();
+    }
+
+    /**
+     * 🆕 클릭 대상 인덱스 지정 (인덱스가 갱신될 때만 실제로 교체됨)
+     * @param index 접근성 트리 기반 대상 인덱스 (화면 좌표)
+     * @param offsetY 시선 좌표를 화면 좌표로 바꾸기 위한 y 오프셋 (상태바 높이)
+     */
+    public void setTargetIndex(TargetIndex index, float offsetY) {
+        if (index == null) {
+            index = TargetIndex.empty();
+        }
+        if (index != targetIndex) {
+            targetIndex = index;
+            currentTarget = TargetIndex.NO_TARGET;
+            if (isFixating) {
+                resolveTarget(fixationCenterX, fixationCenterY);
+            }
+        }
+        screenOffsetY = offsetY;
     }
 
     public float getProgress() {
@@ -25,10 +71,17 @@ public class ClickDetector {
         }
 
         long duration = System.currentTimeMillis() - fixationStartTime;
-        return Math.min((float) duration / settings.getFixationDurationMs(), 1.0f);
+        return Math.min((float) duration / currentDwellMs, 1.0f);
     }
 
     public boolean update(float x, float y) {
+        return update(x, y, System.currentTimeMillis());
+    }
+
+    /**
+     * 🆕 시각을 지정하는 update (기록된 시선 궤적 재생용, 시각은 System.currentTimeMillis() 기준)
+     */
+    public boolean update(float x, float y, long nowMs) {
         if (!settings.isClickEnabled()) {
             return false;
         }
@@ -42,17 +95,26 @@ public class ClickDetector {
         if (fixationCenterX < 0 || fixationCenterY < 0 || !insideAOI) {
             fixationCenterX = x;
             fixationCenterY = y;
-            fixationStartTime = System.currentTimeMillis();
+            fixationStartTime = nowMs;
             isFixating = true;
+            resetStability();
+            addStabilitySample(x, y);
+            resolveTarget(x, y);
+            currentDwellMs = settings.getFixationDurationMs() * targetFactor;
             return false;
         }
 
         // AOI 내에서 계속 응시 중인 경우
-        long duration = System.currentTimeMillis() - fixationStartTime;
+        addStabilitySample(x, y);
+        currentDwellMs = computeDwellMs();
+        long duration = nowMs - fixationStartTime;
 
         // 응시 시간이 충분하면 클릭 신호 반환
-        if (duration >= settings.getFixationDurationMs()) {
-            Log.d(TAG, "클릭 감지: (" + x + ", " + y + ")");
+        if (duration >= currentDwellMs) {
+            Log.d(TAG, "클릭 감지: (" + x + ", " + y + "), 응시 시간 " + (int) currentDwellMs + "ms");
+            lastClickMeanX = sampleMeanX;
+            lastClickMeanY = sampleMeanY;
+            lastClickTarget = currentTarget;
             reset(); // 클릭 후 상태 리셋
             return true;
         }
@@ -60,6 +122,90 @@ public class ClickDetector {
         return false;
     }
 
+    /**
+     * 응시 중심이 속한 대상의 배율 갱신 - 직전 대상 안이면 격자 조회 생략
+     */
+    private void resolveTarget(float x, float y) {
+        float screenY = y + screenOffsetY;
+        if (!targetIndex.contains(currentTarget, x, screenY)) {
+            currentTarget = targetIndex.lookup(x, screenY);
+        }
+        targetFactor = currentTarget == TargetIndex.NO_TARGET ? 1f : targetIndex.getDwellFactor(currentTarget);
+    }
+
+    private float computeDwellMs() {
+        float stabilityFactor = 1f;
+        if (sampleCount >= MIN_STABILITY_SAMPLES) {
+            float stdDev = (float) Math.sqrt(sampleM2 / sampleCount);
+            float ratio = stdDev / settings.getAoiRadius();
+            if (ratio <= STABLE_DISPERSION_RATIO) {
+                stabilityFactor = STABLE_FACTOR;
+            } else if (ratio >= UNSTABLE_DISPERSION_RATIO) {
+                stabilityFactor = UNSTABLE_FACTOR;
+            } else {
+                float t = (ratio - STABLE_DISPERSION_RATIO) / (UNSTABLE_DISPERSION_RATIO - STABLE_DISPERSION_RATIO);
+                stabilityFactor = STABLE_FACTOR + (UNSTABLE_FACTOR - STABLE_FACTOR) * t;
+            }
+        }
+
+        float factor = targetFactor * stabilityFactor;
+        factor = Math.max(MIN_DWELL_FACTOR, Math.min(MAX_DWELL_FACTOR, factor));
+        return settings.getFixationDurationMs() * factor;
+    }
+
+    private void addStabilitySample(float x, float y) {
+        sampleCount++;
+        float dx = x - sampleMeanX;
+        float dy = y - sampleMeanY;
+        sampleMeanX += dx / sampleCount;
+        sampleMeanY += dy / sampleCount;
+        // x, y 분산 합 (2차원 분산)
+        sampleM2 += dx * (x - sampleMeanX) + dy * (y - sampleMeanY);
+    }
+
+    private void resetStability() {
+        sampleCount = 0;
+        sampleMeanX = 0f;
+        sampleMeanY = 0f;
+        sampleM2 = 0f;
+    }
+
+    /**
+     * 현재 응시 구간에 적용 중인 응시 시간 (ms)
+     */
+    public float getCurrentDwellMs() {
+        return currentDwellMs;
+    }
+
+    /**
+     * 현재 응시 중인 대상 (없으면 TargetIndex.NO_TARGET)
+     */
+    public int getCurrentTarget() {
+        return currentTarget;
+    }
+
+    public TargetIndex getTargetIndex() {
+        return targetIndex;
+    }
+
+    /**
+     * 🆕 마지막 클릭의 응시 평균 위치 (응시 중심보다 실제 주시점에 가까움)
+     */
+    public float getLastClickMeanX() {
+        return lastClickMeanX;
+    }
+
+    public float getLastClickMeanY() {
+        return lastClickMeanY;
+    }
+
+    /**
+     * 🆕 마지막 클릭이 일어난 대상 (없으면 TargetIndex.NO_TARGET)
+     */
+    public int getLastClickTarget() {
+        return lastClickTarget;
+    }
+
     public float getFixationX() {
         return fixationCenterX;
     }
@@ -73,5 +219,7 @@ public class ClickDetector {
         fixationCenterY = -1;
         fixationStartTime = 0;
         isFixating = false;
+        resetStability();
+        currentDwellMs = settings.getFixationDurationMs();
     }
 }
\ No newline at end of file
@@ -67,6 +67,13 @@ public class EdgeScrollDetector {
 
     private static final int EDGE_THRESHOLD_FRAMES = 5; // 연속 5프레임 이상
 
+    // 🆕 상/하단 엣지를 계속 응시하면 스크롤을 이어서 트리거 (응시 깊이에 따라 속도 증가)
+    private static final long SCROLL_RETRIGGER_INTERVAL_MS = 1000;
+    private static final long DWELL_DEPTH_RAMP_MS = 3000; // 트리거 후 3초에 최대 깊이
+
+    private long topLastTriggerTime = 0;
+    private long bottomLastTriggerTime = 0;
+
     public EdgeScrollDetector(UserSettings settings, Context context) {
         this.settings = settings;
         this.vibrator = (Vibrator) context.getSystemService(Context.VIBRATOR_SERVICE);
@@ -160,9 +167,17 @@ public class EdgeScrollDetector {
                 if (duration >= settings.getEdgeTriggerMs() && !topGazeTriggered) {
                     Log.d(TAG, "상단 응시 완료 - 하단 스크롤 실행");
                     topGazeTriggered = true;
+                    topLastTriggerTime = System.currentTimeMillis();
                     vibrator.vibrate(300);
                     return ScrollAction.SCROLL_DOWN;
                 }
+
+                // 🆕 계속 응시 중이면 연속 스크롤 연장
+                if (topGazeTriggered
+                        && System.currentTimeMillis() - topLastTriggerTime >= SCROLL_RETRIGGER_INTERVAL_MS) {
+                    topLastTriggerTime = System.currentTimeMillis();
+                    return ScrollAction.SCROLL_DOWN;
+                }
             }
         }
         return ScrollAction.NONE;
@@ -198,9 +213,17 @@ public class EdgeScrollDetector {
                 if (duration >= settings.getEdgeTriggerMs() && !bottomGazeTriggered) {
                     Log.d(TAG, "하단 응시 완료 - 상단 스크롤 실행");
                     bottomGazeTriggered = true;
+                    bottomLastTriggerTime = System.currentTimeMillis();
                     vibrator.vibrate(300);
                     return ScrollAction.SCROLL_UP;
                 }
+
+                // 🆕 계속 응시 중이면 연속 스크롤 연장
+                if (bottomGazeTriggered
+                        && System.currentTimeMillis() - bottomLastTriggerTime >= SCROLL_RETRIGGER_INTERVAL_MS) {
+                    bottomLastTriggerTime = System.currentTimeMillis();
+                    return ScrollAction.SCROLL_UP;
+                }
             }
         }
         return ScrollAction.NONE;
@@ -362,6 +385,26 @@ public class EdgeScrollDetector {
         return ScrollAction.NONE;
     }
 
+    /**
+     * 🆕 상/하단 엣지 응시 깊이 (0~1)
+     * 트리거 시점 0에서 시작해 계속 응시할수록 1까지 증가 - 연속 스크롤 속도에 사용
+     */
+    public float getDwellDepth() {
+        long startTime;
+        if (currentEdge == Edge.TOP) {
+            startTime = topGazeStartTime;
+        } else if (currentEdge == Edge.BOTTOM) {
+            startTime = bottomGazeStartTime;
+        } else {
+            return 0f;
+        }
+        if (startTime == 0) return 0f;
+
+        long sinceTrigger = System.currentTimeMillis() - startTime - settings.getEdgeTriggerMs();
+        if (sinceTrigger <= 0) return 0f;
+        return Math.min(1f, (float) sinceTrigger / DWELL_DEPTH_RAMP_MS);
+    }
+
     public String getEdgeStateText() {
         if (currentEdge == Edge.TOP) {
             if (topGazeStartTime == 0) return "▲";
@@ -0,0 +1,122 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+/**
+ * 🆕 시선 비례 부드러운 스크롤 컨트롤러
+ * - 화면 상/하단 띠(band) 안에서 시선이 가장자리에 가까울수록 스크롤 속도 증가
+ * - 띠에 일정 시간 머물러야 시작 (읽는 중 우연한 스크롤 방지)
+ * - 띠를 벗어나면 짧은 유예 후 정지
+ * - 매 프레임 호출되므로 할당 없이 원시 필드만 사용
+ *
+ * 반환값은 손가락 이동 속도(px/s) 기준:
+ *   양수 = 손가락이 아래로 (상단 응시, 이전 내용으로)
+ *   음수 = 손가락이 위로 (하단 응시, 다음 내용으로)
+ */
+public class SmoothScrollController {
+
+    // 상/하단 띠 크기 (화면 높이 대비)
+    private static final float BAND_RATIO = 0.08f;
+
+    // 띠 입구 쪽 데드존 (띠 깊이 대비) - 이 안에서는 속도 0
+    private static final float DEAD_ZONE_DEPTH = 0.15f;
+
+    // 최대 스크롤 속도 (화면 높이 대비 초당)
+    private static final float MAX_RATE_SCREEN_PER_SEC = 0.6f;
+
+    // 시작 전 띠 안에서 머물러야 하는 시간
+    private static final long ONSET_DWELL_MS = 500;
+
+    // 띠를 잠깐 벗어나도 유지하는 시간 (시선 노이즈 흡수)
+    private static final long EXIT_GRACE_MS = 150;
+
+    // 속도 평활화 계수 (프레임당)
+    private static final float RATE_SMOOTHING = 0.2f;
+
+    private static final int BAND_NONE = 0;
+    private static final int BAND_TOP = 1;
+    private static final int BAND_BOTTOM = -1;
+
+    private int currentBand = BAND_NONE;
+    private long bandEnterTime = 0;
+    private long lastInBandTime = 0;
+    private boolean active = false;
+    private float smoothedRate = 0f;
+
+    /**
+     * 프레임마다 호출
+     * @return 손가락 이동 속도 (px/s), 비활성이면 0
+     */
+    public float update(float y, float screenHeight, long nowMs) {
+        float bandHeight = screenHeight * BAND_RATIO;
+        int band;
+        float depth;
+
+        if (y < bandHeight) {
+            band = BAND_TOP;
+            depth = (bandHeight - y) / bandHeight;
+        } else if (y > screenHeight - bandHeight) {
+            band = BAND_BOTTOM;
+            depth = (y - (screenHeight - bandHeight)) / bandHeight;
+        } else {
+            band = BAND_NONE;
+            depth = 0f;
+        }
+
+        if (band == BAND_NONE) {
+            // 유예 시간 동안은 이전 속도를 유지하며 감속
+            if (active && nowMs - lastInBandTime <= EXIT_GRACE_MS) {
+                smoothedRate += (0f - smoothedRate) * RATE_SMOOTHING;
+                return smoothedRate;
+            }
+            reset();
+            return 0f;
+        }
+
+        if (band != currentBand) {
+            // 반대쪽 띠로 바로 넘어간 경우 처음부터 다시 시작
+            currentBand = band;
+            bandEnterTime = nowMs;
+            active = false;
+            smoothedRate = 0f;
+        }
+        lastInBandTime = nowMs;
+
+        if (!active) {
+            if (nowMs - bandEnterTime < ONSET_DWELL_MS) {
+                return 0f;
+            }
+            active = true;
+        }
+
+        float targetRate = 0f;
+        if (depth > DEAD_ZONE_DEPTH) {
+            float t = Math.min(1f, (depth - DEAD_ZONE_DEPTH) / (1f - DEAD_ZONE_DEPTH));
+            // 가장자리에 가까울수록 가파르게 증가 (t^2)
+            targetRate = band * t * t * MAX_RATE_SCREEN_PER_SEC * screenHeight;
+        }
+
+        smoothedRate += (targetRate - smoothedRate) * RATE_SMOOTHING;
+        return smoothedRate;
+    }
+
+    /**
+     * 띠 안에 있고 시작 조건을 만족했는지 (0 속도 데드존 포함)
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 띠에 들어와 시작을 기다리는 중인지
+     */
+    public boolean isPending() {
+        return !active && currentBand != BAND_NONE;
+    }
+
+    public void reset() {
+        currentBand = BAND_NONE;
+        bandEnterTime = 0;
+        lastInBandTime = 0;
+        active = false;
+        smoothedRate = 0f;
+    }
+}
@@ -0,0 +1,265 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import java.util.Arrays;
+
+/**
+ * 🆕 화면 클릭 대상 인덱스 (불변 스냅샷)
+ * - 접근성 트리에서 수집한 클릭 가능한 노드의 화면 좌표 사각형
+ * - 균일 격자(CSR 배열)로 좌표 → 대상 조회를 O(1)에 가깝게 처리
+ * - 대상별 응시 시간 배율을 빌드 시 한 번만 계산해 캐시 (크기 / 주변 밀집도)
+ *
+ * 좌표는 모두 화면(screen) 좌표 기준
+ */
+public final class TargetIndex {
+
+    public static final int NO_TARGET = -1;
+
+    // 격자 셀 크기 (px)
+    private static final int CELL_SIZE = 96;
+
+    // 응시 시간 배율 범위
+    private static final float LARGE_TARGET_FACTOR = 0.75f;   // 크고 고립된 대상
+    private static final float SMALL_TARGET_FACTOR = 1.15f;   // AOI보다 작은 대상
+    private static final float ISOLATED_FACTOR = 0.9f;        // 주변에 다른 대상 없음
+    private static final float DENSE_FACTOR = 1.25f;          // 주변 대상 DENSE_NEIGHBOR_COUNT개 이상
+    private static final int DENSE_NEIGHBOR_COUNT = 4;
+    private static final float NEIGHBOR_RADIUS = 120f;
+
+    private static final TargetIndex EMPTY = new TargetIndex(new float[0], new float[0], new float[0],
+            new float[0], new float[0], 0, 1, 1, new int[2], new int[0], 0L);
+
+    private final float[] left;
+    private final float[] top;
+    private final float[] right;
+    private final float[] bottom;
+    private final float[] dwellFactor;
+    private final int count;
+
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;   // 길이 columns*rows+1
+    private final int[] cellTargets;
+
+    private final long builtAtMs;
+
+    private TargetIndex(float[] left, float[] top, float[] right, float[] bottom, float[] dwellFactor,
+                        int count, int columns, int rows,
+                        int[] cellStart, int[] cellTargets, long builtAtMs) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+        this.dwellFactor = dwellFactor;
+        this.count = count;
+        this.columns = columns;
+        this.rows = rows;
+        this.cellStart = cellStart;
+        this.cellTargets = cellTargets;
+        this.builtAtMs = builtAtMs;
+    }
+
+    public static TargetIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 좌표를 포함하는 가장 작은 대상 (없으면 NO_TARGET)
+     */
+    public int lookup(float x, float y) {
+        if (count == 0 || x < 0 || y < 0) {
+            return NO_TARGET;
+        }
+        int col = (int) (x / CELL_SIZE);
+        int row = (int) (y / CELL_SIZE);
+        if (col >= columns || row >= rows) {
+            return NO_TARGET;
+        }
+
+        int cell = row * columns + col;
+        int best = NO_TARGET;
+        float bestArea = Float.MAX_VALUE;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            int t = cellTargets[i];
+            if (contains(t, x, y)) {
+                float area = (right[t] - left[t]) * (bottom[t] - top[t]);
+                if (area < bestArea) {
+                    bestArea = area;
+                    best = t;
+                }
+            }
+        }
+        return best;
+    }
+
+    public boolean contains(int target, float x, float y) {
+        return target >= 0 && target < count
+                && x >= left[target] && x < right[target]
+                && y >= top[target] && y < bottom[target];
+    }
+
+    /**
+     * 대상별 응시 시간 배율 (빌드 시 계산된 캐시 값)
+     */
+    public float getDwellFactor(int target) {
+        return target >= 0 && target < count ? dwellFactor[target] : 1f;
+    }
+
+    public float getCenterX(int target) {
+        return (left[target] + right[target]) / 2f;
+    }
+
+    public float getCenterY(int target) {
+        return (top[target] + bottom[target]) / 2f;
+    }
+
+    public float getWidth(int target) {
+        return right[target] - left[target];
+    }
+
+    public float getHeight(int target) {
+        return bottom[target] - top[target];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long getBuiltAtMs() {
+        return builtAtMs;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (bytes)
+     */
+    public long estimateBytes() {
+        return (long) count * 5 * 4 + (long) (cellStart.length + cellTargets.length) * 4;
+    }
+
+    /**
+     * 인덱스 빌더 - 접근성 트리 순회 중 사각형을 추가한 뒤 build()
+     */
+    public static final class Builder {
+        private float[] left = new float[64];
+        private float[] top = new float[64];
+        private float[] right = new float[64];
+        private float[] bottom = new float[64];
+        private int count = 0;
+
+        public Builder add(float l, float t, float r, float b) {
+            if (r <= l || b <= t) {
+                return this;
+            }
+            if (count == left.length) {
+                int newSize = count * 2;
+                left = Arrays.copyOf(left, newSize);
+                top = Arrays.copyOf(top, newSize);
+                right = Arrays.copyOf(right, newSize);
+                bottom = Arrays.copyOf(bottom, newSize);
+            }
+            left[count] = l;
+            top[count] = t;
+            right[count] = r;
+            bottom[count] = b;
+            count++;
+            return this;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        /**
+         * @param screenWidth 화면 넓이 (px)
+         * @param screenHeight 화면 높이 (px)
+         * @param aoiRadius 응시 판정 반경 - 대상 크기 평가 기준
+         */
+        public TargetIndex build(int screenWidth, int screenHeight, float aoiRadius, long nowMs) {
+            if (count == 0) {
+                return EMPTY;
+            }
+
+            int columns = Math.max(1, (screenWidth + CELL_SIZE - 1) / CELL_SIZE);
+            int rows = Math.max(1, (screenHeight + CELL_SIZE - 1) / CELL_SIZE);
+            int cells = columns * rows;
+
+            float[] l = Arrays.copyOf(left, count);
+            float[] t = Arrays.copyOf(top, count);
+            float[] r = Arrays.copyOf(right, count);
+            float[] b = Arrays.copyOf(bottom, count);
+
+            // 1차: 셀별 개수
+            int[] cellStart = new int[cells + 1];
+            for (int i = 0; i < count; i++) {
+                int c0 = clamp((int) (l[i] / CELL_SIZE), columns);
+                int c1 = clamp((int) ((r[i] - 1) / CELL_SIZE), columns);
+                int r0 = clamp((int) (t[i] / CELL_SIZE), rows);
+                int r1 = clamp((int) ((b[i] - 1) / CELL_SIZE), rows);
+                for (int row = r0; row <= r1; row++) {
+                    for (int col = c0; col <= c1; col++) {
+                        cellStart[row * columns + col + 1]++;
+                    }
+                }
+            }
+            for (int c = 0; c < cells; c++) {
+                cellStart[c + 1] += cellStart[c];
+            }
+
+            // 2차: 셀별 대상 채우기
+            int[] cellTargets = new int[cellStart[cells]];
+            int[] fill = new int[cells];
+            for (int i = 0; i < count; i++) {
+                int c0 = clamp((int) (l[i] / CELL_SIZE), columns);
+                int c1 = clamp((int) ((r[i] - 1) / CELL_SIZE), columns);
+                int r0 = clamp((int) (t[i] / CELL_SIZE), rows);
+                int r1 = clamp((int) ((b[i] - 1) / CELL_SIZE), rows);
+                for (int row = r0; row <= r1; row++) {
+                    for (int col = c0; col <= c1; col++) {
+                        int cell = row * columns + col;
+                        cellTargets[cellStart[cell] + fill[cell]++] = i;
+                    }
+                }
+            }
+
+            float[] factor = computeDwellFactors(l, t, r, b, count, aoiRadius);
+            return new TargetIndex(l, t, r, b, factor, count, columns, rows,
+                    cellStart, cellTargets, nowMs);
+        }
+
+        private static float[] computeDwellFactors(float[] l, float[] t, float[] r, float[] b,
+                                                   int count, float aoiRadius) {
+            float[] factor = new float[count];
+            float aoiDiameter = aoiRadius * 2f;
+            float radiusSq = NEIGHBOR_RADIUS * NEIGHBOR_RADIUS;
+
+            for (int i = 0; i < count; i++) {
+                // 크기: 짧은 변이 AOI 지름 이하면 SMALL, 3배 이상이면 LARGE, 사이는 선형
+                float minSide = Math.min(r[i] - l[i], b[i] - t[i]);
+                float sizeT = (minSide - aoiDiameter) / (aoiDiameter * 2f);
+                sizeT = Math.max(0f, Math.min(1f, sizeT));
+                float sizeFactor = SMALL_TARGET_FACTOR + (LARGE_TARGET_FACTOR - SMALL_TARGET_FACTOR) * sizeT;
+
+                // 밀집도: 중심 간 거리가 NEIGHBOR_RADIUS 이내인 다른 대상 수
+                float cx = (l[i] + r[i]) / 2f;
+                float cy = (t[i] + b[i]) / 2f;
+                int neighbors = 0;
+                for (int j = 0; j < count && neighbors < DENSE_NEIGHBOR_COUNT; j++) {
+                    if (j == i) continue;
+                    float dx = (l[j] + r[j]) / 2f - cx;
+                    float dy = (t[j] + b[j]) / 2f - cy;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        neighbors++;
+                    }
+                }
+                float densityFactor = ISOLATED_FACTOR
+                        + (DENSE_FACTOR - ISOLATED_FACTOR) * neighbors / DENSE_NEIGHBOR_COUNT;
+
+                factor[i] = sizeFactor * densityFactor;
+            }
+            return factor;
+        }
+
+        private static int clamp(int value, int size) {
+            return Math.max(0, Math.min(size - 1, value));
+        }
+    }
+}
@@ -72,6 +72,15 @@ public class UserSettings {
     private final boolean dynamicFilteringEnabled;
     private final int targetFPS;
 
+    // 🆕 시선 비례 부드러운 스크롤 (상/하단 띠)
+    private final boolean smoothScrollEnabled;
+
+    // 🆕 눈 깜빡임 클릭 (길게/두 번 깜빡임)
+    private final boolean blinkDetectionEnabled;
+
+    // 🆕 현재 사용자 캘리브레이션 프로필
+    private final String calibrationProfileId;
+
     // 고정된 값들 (상수로 처리)
     private static final float FIXED_EDGE_MARGIN_RATIO = 0.01f;
     private static final long FIXED_EDGE_TRIGGER_MS = 2000L;
@@ -100,6 +109,9 @@ public class UserSettings {
         this.refractionCorrectionFactor = builder.refractionCorrectionFactor;
         this.dynamicFilteringEnabled = builder.dynamicFilteringEnabled;
         this.targetFPS = builder.targetFPS;
+        this.smoothScrollEnabled = builder.smoothScrollEnabled;
+        this.blinkDetectionEnabled = builder.blinkDetectionEnabled;
+        this.calibrationProfileId = builder.calibrationProfileId;
 
         // OneEuroFilter 값들을 프리셋에서 가져옴
         this.oneEuroFreq = this.oneEuroFilterPreset.getFreq();
@@ -124,6 +136,8 @@ public class UserSettings {
     public float getRefractionCorrectionFactor() { return refractionCorrectionFactor; }
     public boolean isDynamicFilteringEnabled() { return dynamicFilteringEnabled; }
     public int getTargetFPS() { return targetFPS; }
+    public boolean isSmoothScrollEnabled() { return smoothScrollEnabled; }
+    public String getCalibrationProfileId() { return calibrationProfileId; }
 
     // 클릭 관련 메서드
     public float getFixationDurationMs() { return clickTiming.getDurationMs(); }
@@ -136,7 +150,7 @@ public class UserSettings {
     public int getContinuousScrollCount() { return FIXED_CONTINUOUS_SCROLL_COUNT; }
     public boolean isClickEnabled() { return true; }
     public boolean isEdgeScrollEnabled() { return true; }
-    public boolean isBlinkDetectionEnabled() { return false; } // 기능 제거
+    public boolean isBlinkDetectionEnabled() { return blinkDetectionEnabled; }
 
     // OneEuroFilter 관련 getter들
     public double getOneEuroFreq() { return oneEuroFreq; }
@@ -190,6 +204,9 @@ public class UserSettings {
         private float refractionCorrectionFactor = 0.15f; // 개선된 보정 강도 (기존 0.1f → 0.15f)
         private boolean dynamicFilteringEnabled = true; // 동적 필터링 기본 활성화
         private int targetFPS = 25; // 부드러움 중심으로 조정 (기존 30 → 25)
+        private boolean smoothScrollEnabled = false; // 기본은 기존 2초 응시 스크롤
+        private boolean blinkDetectionEnabled = false; // 의도적으로 깜빡일 수 있는 사용자만 켜도록
+        private String calibrationProfileId = "default";
 
         // 기존 빌더 메서드들
         public Builder calibrationStrategy(CalibrationStrategy val) { calibrationStrategy = val; return this; }
@@ -213,6 +230,12 @@ public class UserSettings {
             targetFPS = Math.max(10, Math.min(30, val)); // 10~30 범위로 제한
             return this;
         }
+        public Builder smoothScrollEnabled(boolean val) { smoothScrollEnabled = val; return this; }
+        public Builder blinkDetectionEnabled(boolean val) { blinkDetectionEnabled = val; return this; }
+        public Builder calibrationProfileId(String val) {
+            calibrationProfileId = (val == null || val.trim().isEmpty()) ? "default" : val.trim();
+            return this;
+        }
 
         // 제거된 기능들을 위한 호환성 메서드들 (no-op으로 유지)
         public Builder fixationDurationMs(float val) { return this; }
@@ -223,7 +246,6 @@ public class UserSettings {
         public Builder continuousScrollCount(int val) { return this; }
         public Builder clickEnabled(boolean val) { return this; }
         public Builder edgeScrollEnabled(boolean val) { return this; }
-        public Builder blinkDetectionEnabled(boolean val) { return this; }
         public Builder oneEuroFreq(double val) { return this; }
         public Builder oneEuroMinCutoff(double val) { return this; }
         public Builder oneEuroBeta(double val) { return this; }
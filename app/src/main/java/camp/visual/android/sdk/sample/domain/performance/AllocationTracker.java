@@ -0,0 +1,154 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.os.Debug;
+import android.util.Log;
+
+/**
+ * 🆕 선택적 할당 추적 창 - 시선 처리 단계별 할당량 측정
+ * - start(ms)로 정해진 시간 동안만 켬 (꺼져 있으면 각 표시 지점은 volatile 읽기 하나)
+ * - 프레임 스레드의 스레드별 할당 카운터(Debug.getThreadAllocSize/Count) 차이를 현재 단계에 귀속
+ * - 콜백 밖(프레임 사이)의 같은 스레드 할당은 SDK 단계로 집계
+ * - 창이 끝나면 단계별 프레임당 할당량을 로그로 보고
+ * - 🔧 창은 끝난 뒤 첫 프레임이나 stop()에서 닫힘 - 프레임이 멈출 수 있으므로 (일시정지, 자리 비움, 종료)
+ *   시작한 쪽이 타이머와 종료 시 stop()을 불러 전역 카운팅이 켜진 채 남지 않게 함
+ *
+ * 스레드별 할당 카운터는 ART에서 전역 카운팅을 켜야 동작하며 측정 중에는 할당이 약간 느려지므로
+ * 진단용으로만 사용
+ */
+@SuppressWarnings("deprecation")
+public class AllocationTracker {
+    private static final String TAG = "AllocationTracker";
+
+    public enum Stage {
+        SDK,            // 콜백 사이 (SDK 내부)
+        INTAKE,         // 깜빡임/사용자 상태/활동 모델/보정 게이트
+        FILTER,         // 필터링
+        CORRECTION,     // 암묵적 재보정, 위치별 보정
+        INTERACTION     // 커서, 메뉴, 스크롤, 클릭
+    }
+
+    private static final int STAGE_COUNT = Stage.values().length;
+
+    private volatile boolean active = false;
+    private volatile long endAtMs = 0;
+
+    // 프레임 스레드에서 갱신, stop()과는 this로 동기화 (꺼져 있을 때는 잠그지 않음)
+    private boolean counting = false;
+    private Stage currentStage = Stage.SDK;
+    private int lastSize;
+    private int lastCount;
+    private final long[] bytes = new long[STAGE_COUNT];
+    private final long[] objects = new long[STAGE_COUNT];
+    private long frames = 0;
+
+    /**
+     * 추적 창 시작 (어느 스레드에서나)
+     */
+    public void start(long durationMs, long nowMs) {
+        endAtMs = nowMs + durationMs;
+        active = true;
+        Log.d(TAG, "할당 추적 시작 (" + durationMs + "ms)");
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 프레임 시작 (콜백 첫 줄)
+     */
+    public void beginFrame(long nowMs) {
+        if (!active) {
+            return;
+        }
+        synchronized (this) {
+            if (!active) {
+                return;
+            }
+            if (!counting) {
+                Debug.startAllocCounting();
+                counting = true;
+                resetCounters();
+                frames = 1;
+                lastSize = Debug.getThreadAllocSize();
+                lastCount = Debug.getThreadAllocCount();
+                currentStage = Stage.INTAKE;
+                return;
+            }
+            if (nowMs >= endAtMs) {
+                mark(Stage.SDK);
+                finish();
+                return;
+            }
+            mark(Stage.INTAKE);
+            frames++;
+        }
+    }
+
+    /**
+     * 다음 단계 시작 - 직전 표시 이후 할당을 현재 단계에 귀속
+     */
+    public void mark(Stage next) {
+        if (!active) {
+            return;
+        }
+        synchronized (this) {
+            if (!counting) {
+                return;
+            }
+            int size = Debug.getThreadAllocSize();
+            int count = Debug.getThreadAllocCount();
+            bytes[currentStage.ordinal()] += size - lastSize;
+            objects[currentStage.ordinal()] += count - lastCount;
+            lastSize = size;
+            lastCount = count;
+            currentStage = next;
+        }
+    }
+
+    /**
+     * 프레임 끝 (콜백 마지막, finally)
+     */
+    public void endFrame() {
+        mark(Stage.SDK);
+    }
+
+    /**
+     * 🆕 추적 창 종료 (어느 스레드에서나) - 프레임이 오지 않아도 전역 카운팅을 끄고 보고
+     * 마지막 프레임 이후의 할당은 프레임 스레드 카운터라 여기서는 집계하지 않음
+     */
+    public synchronized void stop() {
+        if (!active) {
+            return;
+        }
+        if (counting) {
+            finish();
+        } else {
+            active = false;
+            Log.d(TAG, "할당 추적 종료 (처리한 프레임 없음)");
+        }
+    }
+
+    private void finish() {
+        Debug.stopAllocCounting();
+        counting = false;
+        active = false;
+
+        StringBuilder report = new StringBuilder("할당 추적 결과 (").append(frames).append("프레임, 프레임당)");
+        long perFrameDivisor = Math.max(1, frames);
+        for (Stage stage : Stage.values()) {
+            report.append("\n- ").append(stage).append(": ")
+                    .append(bytes[stage.ordinal()] / perFrameDivisor).append(" bytes, ")
+                    .append(objects[stage.ordinal()] / perFrameDivisor).append("개");
+        }
+        Log.i(TAG, report.toString());
+    }
+
+    private void resetCounters() {
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            bytes[i] = 0;
+            objects[i] = 0;
+        }
+        frames = 0;
+    }
+}
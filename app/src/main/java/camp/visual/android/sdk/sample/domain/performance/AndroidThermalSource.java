@@ -0,0 +1,81 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.PowerManager;
+import android.util.Log;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 🆕 PowerManager 발열 상태 구독 + 발열 여유 조회
+ * - 상태 리스너: API 29+ (minSdk)
+ * - getThermalHeadroom: API 30+ 에서만 (그 이하에서는 NaN)
+ *   너무 자주 조회하면 NaN이 반환되므로 성능 샘플 주기(5초)에만 호출
+ */
+public class AndroidThermalSource implements ThermalSource {
+    private static final String TAG = "ThermalSource";
+
+    private final PowerManager powerManager;
+    private final Executor executor;
+    private PowerManager.OnThermalStatusChangedListener statusListener;
+    private volatile int lastStatus = STATUS_NONE;
+
+    /**
+     * @param executor 상태 변경 리스너를 실행할 곳 (수집 스레드 등)
+     */
+    public AndroidThermalSource(Context context, Executor executor) {
+        this.powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        this.executor = executor;
+    }
+
+    @Override
+    public void start(Listener listener) {
+        if (powerManager == null || statusListener != null) {
+            return;
+        }
+        lastStatus = powerManager.getCurrentThermalStatus();
+        statusListener = new PowerManager.OnThermalStatusChangedListener() {
+            @Override
+            public void onThermalStatusChanged(int status) {
+                lastStatus = status;
+                if (listener != null) {
+                    listener.onThermalStatusChanged(status);
+                }
+            }
+        };
+        try {
+            powerManager.addThermalStatusListener(executor, statusListener);
+        } catch (Exception e) {
+            Log.w(TAG, "발열 상태 리스너 등록 실패: " + e.getMessage());
+            statusListener = null;
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (powerManager == null || statusListener == null) {
+            return;
+        }
+        try {
+            powerManager.removeThermalStatusListener(statusListener);
+        } catch (Exception e) {
+            Log.w(TAG, "발열 상태 리스너 해제 실패: " + e.getMessage());
+        }
+        statusListener = null;
+    }
+
+    @Override
+    public int getThermalStatus() {
+        return statusListener != null || powerManager == null
+                ? lastStatus : powerManager.getCurrentThermalStatus();
+    }
+
+    @Override
+    public float getThermalHeadroom(int forecastSeconds) {
+        if (powerManager == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.R) {
+            return Float.NaN;
+        }
+        return powerManager.getThermalHeadroom(forecastSeconds);
+    }
+}
@@ -0,0 +1,157 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 🔋 기기별 에너지 비용표 (추적 FPS × 기능 조합 → 실측 전력)
+ * - 항목마다 누적 에너지(J)와 누적 시간(s)만 보관 → 평균 J/분
+ * - 오래 쌓이면 절반으로 줄여 최근 측정 비중을 유지
+ * - 측정하지 않은 FPS는 같은 기능 조합의 측정값으로 "기본 전력 + FPS 비례" 직선을 맞춰 추정
+ *
+ * 측정 전력은 기기 전체 소비이므로 절대값보다 FPS 간 차이가 의미 있음
+ * Android 의존성 없음, 모든 메서드 동기화 (수집 스레드에서 쓰고 메인 스레드에서 읽음)
+ */
+public final class EnergyCostTable {
+
+    // 기능 비트
+    public static final int FEATURE_REDUCED_FILTER = 1;   // 필터 간소화 (발열 단계)
+    public static final int FEATURE_MENU_OVERLAY = 2;     // 엣지 메뉴 오버레이 표시 중
+    private static final int FEATURE_COMBINATIONS = 4;
+
+    private static final int MAX_FPS = 30;
+
+    // 한 항목을 믿기 위한 최소 측정 시간 / 이 이상이면 절반으로 감쇠
+    private static final double MIN_SECONDS = 60;
+    private static final double DECAY_SECONDS = 3600;
+
+    private static final int MAGIC = 0x45435442; // "ECTB"
+    private static final int VERSION = 1;
+
+    private final double[] joules = new double[(MAX_FPS + 1) * FEATURE_COMBINATIONS];
+    private final double[] seconds = new double[(MAX_FPS + 1) * FEATURE_COMBINATIONS];
+
+    /**
+     * 측정 구간 하나 반영
+     */
+    public synchronized void add(int fps, int features, double energyJoules, double durationSeconds) {
+        if (durationSeconds <= 0 || energyJoules < 0) {
+            return;
+        }
+        int key = key(fps, features);
+        joules[key] += energyJoules;
+        seconds[key] += durationSeconds;
+        if (seconds[key] > DECAY_SECONDS) {
+            joules[key] *= 0.5;
+            seconds[key] *= 0.5;
+        }
+    }
+
+    /**
+     * 실측 J/분 (측정 시간이 부족하면 NaN)
+     */
+    public synchronized float getJoulesPerMinute(int fps, int features) {
+        int key = key(fps, features);
+        return seconds[key] >= MIN_SECONDS ? (float) (joules[key] / seconds[key] * 60) : Float.NaN;
+    }
+
+    /**
+     * 실측값이 있으면 그대로, 없으면 직선 추정 J/분
+     * - 같은 기능 조합에서 서로 다른 FPS 두 개 이상이 측정되어야 함 (없으면 모든 조합을 합쳐 시도)
+     * @return 추정 불가 시 NaN
+     */
+    public synchronized float estimateJoulesPerMinute(int fps, int features) {
+        float measured = getJoulesPerMinute(fps, features);
+        if (!Float.isNaN(measured)) {
+            return measured;
+        }
+        float estimate = fit(fps, features & (FEATURE_COMBINATIONS - 1), false);
+        return Float.isNaN(estimate) ? fit(fps, 0, true) : estimate;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < joules.length; i++) {
+            joules[i] = 0;
+            seconds[i] = 0;
+        }
+    }
+
+    public synchronized void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        int count = 0;
+        for (double s : seconds) {
+            if (s > 0) {
+                count++;
+            }
+        }
+        out.writeInt(count);
+        for (int key = 0; key < seconds.length; key++) {
+            if (seconds[key] > 0) {
+                out.writeShort(key);
+                out.writeDouble(joules[key]);
+                out.writeDouble(seconds[key]);
+            }
+        }
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 false (내용은 비워짐)
+     */
+    public synchronized boolean read(DataInputStream in) throws IOException {
+        clear();
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return false;
+        }
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int key = in.readShort();
+            double j = in.readDouble();
+            double s = in.readDouble();
+            if (key >= 0 && key < seconds.length && j >= 0 && s > 0) {
+                joules[key] = j;
+                seconds[key] = s;
+            }
+        }
+        return true;
+    }
+
+    // 측정 시간 가중 최소제곱 직선 (J/분 = a + b × FPS)
+    private float fit(int fps, int features, boolean anyFeatures) {
+        double sw = 0, sx = 0, sy = 0, sxx = 0, sxy = 0;
+        int minFps = Integer.MAX_VALUE;
+        int maxFps = Integer.MIN_VALUE;
+        for (int key = 0; key < seconds.length; key++) {
+            if (seconds[key] < MIN_SECONDS || (!anyFeatures && key % FEATURE_COMBINATIONS != features)) {
+                continue;
+            }
+            int x = key / FEATURE_COMBINATIONS;
+            double y = joules[key] / seconds[key] * 60;
+            double w = seconds[key];
+            sw += w;
+            sx += w * x;
+            sy += w * y;
+            sxx += w * x * x;
+            sxy += w * x * y;
+            minFps = Math.min(minFps, x);
+            maxFps = Math.max(maxFps, x);
+        }
+        if (minFps >= maxFps) {
+            return Float.NaN;
+        }
+        double denominator = sw * sxx - sx * sx;
+        if (denominator <= 0) {
+            return Float.NaN;
+        }
+        // FPS가 높을수록 비용이 줄어드는 추정은 측정 잡음이므로 기울기는 0 이상
+        double slope = Math.max(0, (sw * sxy - sx * sy) / denominator);
+        double intercept = (sy - slope * sx) / sw;
+        return (float) Math.max(0, intercept + slope * fps);
+    }
+
+    private static int key(int fps, int features) {
+        int clamped = Math.max(0, Math.min(MAX_FPS, fps));
+        return clamped * FEATURE_COMBINATIONS + (features & (FEATURE_COMBINATIONS - 1));
+    }
+}
@@ -0,0 +1,201 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.content.Context;
+import android.os.BatteryManager;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * 🆕 추적 FPS/기능 조합별 에너지 측정
+ * - 성능 샘플 주기마다 BatteryManager 순간 전류 × 전압으로 전력을 구하고,
+ *   직전 샘플 이후 구간을 그동안 유지된 FPS/기능 조합에 귀속
+ * - 충전 중이거나 구간 중간에 조합이 바뀌었으면 그 구간은 버림
+ * - 남은 배터리 에너지는 충전 카운터(µAh) × 전압으로 계산 (지원하지 않는 기기는 NaN)
+ * - 비용표는 파일로 유지되어 사용할수록 기기별 값이 쌓임
+ *
+ * sample()은 PerformanceMonitor 수집 스레드에서만 호출
+ * setConfiguration()은 SDK 시선 콜백 스레드에서 매 프레임 호출 - 조합 세 값은 configLock으로 함께 읽고 씀
+ */
+public class EnergyEstimator {
+    private static final String TAG = "EnergyEstimator";
+
+    private static final String FILE_NAME = "energy_cost_table.bin";
+
+    // 샘플 간격이 이보다 길면 (절전 등) 그 구간은 버림
+    private static final long MAX_INTERVAL_MS = 30_000;
+    // 비용표 저장 주기
+    private static final long SAVE_INTERVAL_MS = 10 * 60_000;
+
+    private final BatteryManager batteryManager;
+    private final File file;
+    private final EnergyCostTable costTable = new EnergyCostTable();
+
+    // 현재 조합 (SDK 콜백 스레드에서 갱신, 수집 스레드에서 읽음)
+    private final Object configLock = new Object();
+    private int activeFps = 30;
+    private int activeFeatures = 0;
+    private long configurationSequence = 0;
+
+    // 직전 샘플 (수집 스레드 전용)
+    private long lastSampleMs = -1;
+    private float lastPowerMw = Float.NaN;
+    private int lastFps;
+    private int lastFeatures;
+    private long lastSequence;
+    private long lastSaveMs = 0;
+    private boolean dirty = false;
+
+    private volatile float powerMw = Float.NaN;
+    private volatile float remainingEnergyJ = Float.NaN;
+
+    public EnergyEstimator(Context context) {
+        this.batteryManager = (BatteryManager) context.getSystemService(Context.BATTERY_SERVICE);
+        this.file = new File(context.getFilesDir(), FILE_NAME);
+        load();
+    }
+
+    public EnergyCostTable getCostTable() {
+        return costTable;
+    }
+
+    /**
+     * 현재 추적 FPS/기능 조합 (매 프레임 호출, 같으면 비교만 함)
+     */
+    public void setConfiguration(int fps, int features) {
+        synchronized (configLock) {
+            if (fps == activeFps && features == activeFeatures) {
+                return;
+            }
+            activeFps = fps;
+            activeFeatures = features;
+            configurationSequence++;
+        }
+    }
+
+    /**
+     * 전력 샘플 + 직전 구간 귀속
+     * @param voltageMv 배터리 전압 (ACTION_BATTERY_CHANGED 값, 모르면 0 이하)
+     */
+    public void sample(long nowMs, boolean isCharging, int voltageMv) {
+        int fps;
+        int features;
+        long sequence;
+        synchronized (configLock) {
+            fps = activeFps;
+            features = activeFeatures;
+            sequence = configurationSequence;
+        }
+        float power = readPowerMw(voltageMv);
+        remainingEnergyJ = readRemainingEnergyJ(voltageMv);
+        powerMw = isCharging ? Float.NaN : power;
+
+        long interval = nowMs - lastSampleMs;
+        if (lastSampleMs >= 0 && !isCharging && interval > 0 && interval <= MAX_INTERVAL_MS
+                && !Float.isNaN(power) && !Float.isNaN(lastPowerMw)
+                && lastSequence == sequence) {
+            // 구간 양 끝 전력의 평균 (사다리꼴)
+            double seconds = interval / 1000.0;
+            double joules = (power + lastPowerMw) / 2 / 1000.0 * seconds;
+            costTable.add(lastFps, lastFeatures, joules, seconds);
+            dirty = true;
+        }
+
+        lastSampleMs = nowMs;
+        lastPowerMw = isCharging ? Float.NaN : power;
+        lastSequence = sequence;
+        lastFps = fps;
+        lastFeatures = features;
+
+        if (dirty && nowMs - lastSaveMs >= SAVE_INTERVAL_MS) {
+            save();
+            lastSaveMs = nowMs;
+        }
+    }
+
+    /**
+     * 최근 기기 전체 소비 전력 (충전 중이거나 측정 불가면 NaN)
+     */
+    public float getPowerMw() {
+        return powerMw;
+    }
+
+    /**
+     * 남은 배터리 에너지 (측정 불가면 NaN)
+     */
+    public float getRemainingEnergyJ() {
+        return remainingEnergyJ;
+    }
+
+    /**
+     * 측정 중단 시 비용표 저장 (수집 스레드에서 호출)
+     */
+    public void flush() {
+        if (dirty) {
+            save();
+        }
+        lastSampleMs = -1;
+    }
+
+    // 순간 전류(µA, 기기에 따라 부호가 다름) × 전압(mV) → mW
+    private float readPowerMw(int voltageMv) {
+        if (batteryManager == null || voltageMv <= 0) {
+            return Float.NaN;
+        }
+        int currentUa = batteryManager.getIntProperty(BatteryManager.BATTERY_PROPERTY_CURRENT_NOW);
+        if (currentUa == Integer.MIN_VALUE || currentUa == 0) {
+            return Float.NaN;
+        }
+        return Math.abs((float) currentUa) * voltageMv / 1_000_000f;
+    }
+
+    // 충전 카운터(µAh) × 전압(mV) → J (1 µAh·mV = 3.6e-6 J)
+    private float readRemainingEnergyJ(int voltageMv) {
+        if (batteryManager == null || voltageMv <= 0) {
+            return Float.NaN;
+        }
+        int chargeUah = batteryManager.getIntProperty(BatteryManager.BATTERY_PROPERTY_CHARGE_COUNTER);
+        if (chargeUah == Integer.MIN_VALUE || chargeUah <= 0) {
+            return Float.NaN;
+        }
+        return (float) (chargeUah * (double) voltageMv * 3.6e-6);
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (!costTable.read(in)) {
+                Log.w(TAG, "비용표 형식 불일치 - 새로 시작");
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "비용표 로드 실패: " + e.getMessage());
+            costTable.clear();
+        }
+    }
+
+    private void save() {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            costTable.write(out);
+        } catch (IOException e) {
+            Log.e(TAG, "비용표 저장 실패: " + e.getMessage());
+            tempFile.delete();
+            return;
+        }
+        if (!tempFile.renameTo(file)) {
+            Log.e(TAG, "비용표 파일 교체 실패");
+            tempFile.delete();
+            return;
+        }
+        dirty = false;
+    }
+}
@@ -0,0 +1,372 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import camp.visual.android.sdk.sample.core.utils.RollingStatsWindow;
+
+/**
+ * 🎛️ 추적 FPS 조절기 (calculateOptimalFPS 단계표 대체)
+ * - 목표 예산: 이 앱의 CPU 사용률, 프레임 지연 p95 → 가장 많이 초과한 항목이 오차
+ * - 에너지: 배터리/메모리/발열 상태는 단계표 대신 "최대 FPS 상한"으로만 사용 (상한이 내려가면 즉시 반영)
+ *   배터리 상한은 실측 비용표(J/분)가 있으면 "최저 단계 대비 추가 비용이 남은 에너지의 일정 몫 안" 기준,
+ *   없으면 배터리 % 단계 (측정 전력은 기기 전체 소비이므로 절대값 대신 FPS 간 차이로 판단)
+ * - PID: 평활한 오차로 연속 FPS 목표를 조금씩 움직이고, 불감대 안에서는 목표와 적분을 그대로 둠
+ * - 히스테리시스: 연속 목표가 현재 단계에서 충분히 벗어나야 단계 변경
+ * - 단계별 최소 유지 시간: 내릴 때는 짧게, 올릴 때는 길게 (한 번에 한 단계씩)
+ *   올린 단계가 예산 초과로 다시 내려가면 다음 올림 대기를 두 배로 (두 단계 사이 부하에서 반복 시도 방지)
+ *
+ * Android 의존성이 없으므로 합성 부하 곡선으로 JVM에서 검증 가능
+ * 시각은 호출 측이 한 가지 시계로 전달
+ */
+public class FpsGovernor {
+
+    /**
+     * 단계 변경 이유
+     */
+    public enum Reason {
+        OVER_BUDGET,    // 예산 초과로 낮춤
+        HEADROOM,       // 여유가 있어 올림
+        CEILING,        // 배터리/메모리/발열 상한 변경
+        MANUAL          // 외부에서 직접 설정
+    }
+
+    /**
+     * 단계 변경 이벤트 (불변)
+     */
+    public static final class Decision {
+        public final int fromFps;
+        public final int toFps;
+        public final Reason reason;
+        public final float error;           // 예산 대비 오차 (+ 초과, - 여유)
+        public final float targetFps;       // PID 연속 목표
+        public final long timestampMs;
+
+        Decision(int fromFps, int toFps, Reason reason, float error, float targetFps, long timestampMs) {
+            this.fromFps = fromFps;
+            this.toFps = toFps;
+            this.reason = reason;
+            this.error = error;
+            this.targetFps = targetFps;
+            this.timestampMs = timestampMs;
+        }
+
+        @Override
+        public String toString() {
+            return fromFps + " -> " + toFps + " FPS (" + reason + ", 오차 " + Math.round(error * 100)
+                    + "%, 목표 " + Math.round(targetFps) + ")";
+        }
+    }
+
+    public interface DecisionListener {
+        void onFpsDecision(Decision decision);
+    }
+
+    // FPS 단계 (SDK 허용 범위 1~30)
+    private static final int[] LEVELS = {10, 15, 20, 24, 30};
+
+    // 예산
+    private static final float CPU_BUDGET_PERCENT = 25f;       // 이 앱이 쓸 CPU (전체 코어 대비)
+    private static final float LATENCY_P95_BUDGET_MS = 60f;    // 프레임 캡처 → 처리 지연
+    private static final float DROP_BUDGET_RATIO = 0.05f;      // 드롭 프레임 비율
+
+    // PID (오차는 예산 대비 비율, 출력은 연속 목표의 상대 변화량)
+    private static final float KP = 0.3f;
+    private static final float KI = 0.02f;   // 초당
+    private static final float KD = 0.1f;    // 초
+    private static final float INTEGRAL_LIMIT = 5f;
+    private static final float DEADBAND = 0.1f;
+    private static final float MAX_STEP = 0.3f;   // 한 번에 최대 30% 변화
+    private static final float ERROR_SMOOTHING = 0.4f;   // 샘플마다 흔들리는 부하를 걸러 내는 EMA 계수
+
+    // 히스테리시스 / 최소 유지 시간
+    private static final float HYSTERESIS = 0.1f;
+    private static final long MIN_DWELL_DOWN_MS = 5_000;
+    private static final long MIN_DWELL_UP_MS = 30_000;
+    private static final long MAX_DWELL_UP_MS = 240_000;
+
+    // 🆕 에너지 예산 - 목표 시간 동안 최저 단계보다 더 쓰는 에너지가 남은 에너지의 이 몫을 넘지 않는 단계까지만
+    private static final float TARGET_RUNTIME_MINUTES = 180f;
+    private static final float ENERGY_SHARE = 0.2f;
+
+    // 프레임 지연 윈도우 (최근 5초, 0~250ms 히스토그램)
+    private static final long LATENCY_WINDOW_MS = 5_000;
+
+    private final RollingStatsWindow latencyWindow =
+            new RollingStatsWindow(256, LATENCY_WINDOW_MS, 0f, 250f, 50);
+    private int framesSinceUpdate = 0;
+    private int dropsSinceUpdate = 0;
+
+    private int levelIndex = LEVELS.length - 1;
+    private int ceilingIndex = LEVELS.length - 1;
+    private float targetFps = LEVELS[LEVELS.length - 1];
+    private long levelSinceMs = 0;
+    private long upDwellMs = MIN_DWELL_UP_MS;
+    private boolean lastChangeWasRaise = false;
+
+    private float integral = 0f;
+    private float previousError = 0f;
+    private float smoothedError = Float.NaN;   // 단계가 바뀌면 새 단계의 측정으로 다시 시작
+    private long lastUpdateMs = -1;
+    private float lastError = 0f;
+
+    private DecisionListener listener;
+
+    // 🆕 실측 에너지 비용표 (없으면 배터리 % 단계 사용)
+    private EnergyCostTable energyCostTable;
+    private int energyFeatures = 0;
+    private float lastEnergyBudget = Float.NaN;
+
+    public void setDecisionListener(DecisionListener listener) {
+        this.listener = listener;
+    }
+
+    public synchronized void setEnergyCostTable(EnergyCostTable table) {
+        this.energyCostTable = table;
+    }
+
+    /**
+     * 비용 조회에 쓸 현재 기능 조합 (EnergyCostTable.FEATURE_*)
+     */
+    public synchronized void setEnergyFeatures(int features) {
+        this.energyFeatures = features;
+    }
+
+    /**
+     * 처리한 프레임 기록 (매 프레임, O(1))
+     * @param latencyMs 프레임 캡처부터 처리까지 걸린 시간
+     */
+    public synchronized void recordFrame(long nowMs, float latencyMs) {
+        framesSinceUpdate++;
+        if (latencyMs >= 0) {
+            latencyWindow.add(nowMs, latencyMs);
+        }
+    }
+
+    public synchronized void recordDrop() {
+        dropsSinceUpdate++;
+    }
+
+    /**
+     * 주기적 조절 (성능 스냅샷마다)
+     * @param processCpuPercent 이 앱의 CPU 사용률
+     * @param batteryLevel 배터리 % (충전 중이면 상한 없음)
+     * @return 적용할 FPS (바뀌었으면 리스너에도 알림)
+     */
+    public int update(long nowMs, float processCpuPercent, int batteryLevel, boolean isCharging,
+                      long availableMemoryMB) {
+        return update(nowMs, processCpuPercent, batteryLevel, isCharging, availableMemoryMB,
+                LEVELS[LEVELS.length - 1], Float.NaN);
+    }
+
+    /**
+     * 🆕 발열 상한 포함 조절
+     * @param thermalMaxFps ThermalPolicy가 정한 최대 FPS (상한 없음이면 30)
+     * @param remainingEnergyJ 남은 배터리 에너지 (모르면 NaN - 배터리 % 단계 사용)
+     */
+    public int update(long nowMs, float processCpuPercent, int batteryLevel, boolean isCharging,
+                      long availableMemoryMB, int thermalMaxFps, float remainingEnergyJ) {
+        Decision decision;
+        synchronized (this) {
+            decision = step(nowMs, processCpuPercent, batteryLevel, isCharging, availableMemoryMB,
+                    thermalMaxFps, remainingEnergyJ);
+        }
+        DecisionListener l = listener;
+        if (decision != null && l != null) {
+            l.onFpsDecision(decision);
+        }
+        return getCurrentFps();
+    }
+
+    /**
+     * 외부에서 FPS를 직접 정한 경우 상태 동기화 (가장 가까운 단계로)
+     */
+    public synchronized void setCurrentFps(int fps, long nowMs) {
+        int index = 0;
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (Math.abs(LEVELS[i] - fps) < Math.abs(LEVELS[index] - fps)) {
+                index = i;
+            }
+        }
+        levelIndex = index;
+        targetFps = LEVELS[index];
+        levelSinceMs = nowMs;
+        integral = 0f;
+        previousError = 0f;
+        smoothedError = Float.NaN;
+        upDwellMs = MIN_DWELL_UP_MS;
+        lastChangeWasRaise = false;
+    }
+
+    public synchronized int getCurrentFps() {
+        return LEVELS[levelIndex];
+    }
+
+    public synchronized float getTargetFps() {
+        return targetFps;
+    }
+
+    public synchronized float getLastError() {
+        return lastError;
+    }
+
+    /**
+     * 마지막 에너지 예산 (최저 단계 대비 추가로 쓸 수 있는 J/분, 비용표 기준 상한을 쓰지 않았으면 NaN)
+     */
+    public synchronized float getLastEnergyBudget() {
+        return lastEnergyBudget;
+    }
+
+    public synchronized float getLatencyP95() {
+        return latencyWindow.quantile(0.95f);
+    }
+
+    private Decision step(long nowMs, float processCpuPercent, int batteryLevel, boolean isCharging,
+                          long availableMemoryMB, int thermalMaxFps, float remainingEnergyJ) {
+        float dtSec = lastUpdateMs < 0 ? 0f : (nowMs - lastUpdateMs) / 1000f;
+        lastUpdateMs = nowMs;
+
+        // 1. 상한 (에너지/메모리/발열) - 내려가면 유지 시간과 무관하게 즉시
+        ceilingIndex = Math.min(ceilingFor(batteryLevel, isCharging, availableMemoryMB, remainingEnergyJ),
+                indexAtMost(thermalMaxFps));
+        int from = LEVELS[levelIndex];
+        if (levelIndex > ceilingIndex) {
+            levelIndex = ceilingIndex;
+            targetFps = Math.min(targetFps, LEVELS[ceilingIndex]);
+            levelSinceMs = nowMs;
+            integral = 0f;
+            smoothedError = Float.NaN;
+            lastChangeWasRaise = false;
+            return new Decision(from, LEVELS[levelIndex], Reason.CEILING, lastError, targetFps, nowMs);
+        }
+
+        // 2. 예산 대비 오차 (가장 많이 초과한 항목)
+        latencyWindow.evictOlderThan(nowMs - LATENCY_WINDOW_MS);
+        float error = processCpuPercent / CPU_BUDGET_PERCENT - 1f;
+        if (latencyWindow.size() > 0) {
+            error = Math.max(error, latencyWindow.quantile(0.95f) / LATENCY_P95_BUDGET_MS - 1f);
+        }
+        int frames = framesSinceUpdate + dropsSinceUpdate;
+        if (frames > 0) {
+            error = Math.max(error, ((float) dropsSinceUpdate / frames) / DROP_BUDGET_RATIO - 1f);
+        }
+        framesSinceUpdate = 0;
+        dropsSinceUpdate = 0;
+        error = Math.max(-1f, Math.min(2f, error));
+        smoothedError = Float.isNaN(smoothedError)
+                ? error : smoothedError + ERROR_SMOOTHING * (error - smoothedError);
+        error = smoothedError;
+        lastError = error;
+
+        // 3. PID → 연속 목표 FPS
+        // 🔧 불감대 안이면 예산을 지키고 있는 것 - 남은 적분만으로 목표가 계속 밀려
+        //    멀쩡한 단계를 떠나거나 넘었던 단계로 되돌아가는 일이 없도록 갱신하지 않음
+        if (Math.abs(error) >= DEADBAND) {
+            float derivative = 0f;
+            if (dtSec > 0f) {
+                integral = Math.max(-INTEGRAL_LIMIT, Math.min(INTEGRAL_LIMIT, integral + error * dtSec));
+                derivative = (error - previousError) / dtSec;
+            }
+            float output = KP * error + KI * integral + KD * derivative;
+            output = Math.max(-MAX_STEP, Math.min(MAX_STEP, output));
+            targetFps = Math.max(LEVELS[0], Math.min(LEVELS[ceilingIndex], targetFps * (1f - output)));
+        }
+        previousError = error;
+
+        // 4. 히스테리시스 + 최소 유지 시간으로 단계 결정
+        long dwell = nowMs - levelSinceMs;
+        if (lastChangeWasRaise && ((dwell >= MIN_DWELL_UP_MS && lastError <= -DEADBAND)
+                || dwell >= MAX_DWELL_UP_MS)) {
+            // 올린 단계에서도 여유가 있거나 오래 버텼으면 대기 시간 원래대로
+            lastChangeWasRaise = false;
+            upDwellMs = MIN_DWELL_UP_MS;
+        }
+        int next = levelIndex;
+        if (targetFps < LEVELS[levelIndex] * (1f - HYSTERESIS) && dwell >= MIN_DWELL_DOWN_MS) {
+            // 목표 아래의 가장 높은 단계까지 한 번에
+            while (next > 0 && LEVELS[next] > targetFps) {
+                next--;
+            }
+        } else if (levelIndex < ceilingIndex
+                && targetFps >= upThreshold(levelIndex + 1)
+                && dwell >= upDwellMs) {
+            next = levelIndex + 1;
+        }
+
+        if (next == levelIndex) {
+            return null;
+        }
+        Reason reason = next < levelIndex ? Reason.OVER_BUDGET : Reason.HEADROOM;
+        if (reason == Reason.OVER_BUDGET && lastChangeWasRaise) {
+            upDwellMs = Math.min(upDwellMs * 2, MAX_DWELL_UP_MS);
+        }
+        lastChangeWasRaise = reason == Reason.HEADROOM;
+        levelIndex = next;
+        levelSinceMs = nowMs;
+        smoothedError = Float.NaN;
+        // 단계가 바뀌면 적분 누적을 덜어 내 과도한 연쇄 변경 방지
+        integral *= 0.5f;
+        return new Decision(from, LEVELS[levelIndex], reason, lastError, targetFps, nowMs);
+    }
+
+    // 🔧 한 단계 올릴 목표 기준 - 목표는 상한에서 멈추므로 상한 단계는 상한 도달로 충분
+    private float upThreshold(int index) {
+        return Math.min(LEVELS[index] * (1f + HYSTERESIS * 0.5f), LEVELS[ceilingIndex]);
+    }
+
+    // 주어진 FPS 이하인 가장 높은 단계 (최소 단계 아래로는 내려가지 않음)
+    private static int indexAtMost(int fps) {
+        int index = 0;
+        while (index + 1 < LEVELS.length && LEVELS[index + 1] <= fps) {
+            index++;
+        }
+        return index;
+    }
+
+    // 배터리/메모리 상태별 최대 단계
+    private int ceilingFor(int batteryLevel, boolean isCharging, long availableMemoryMB, float remainingEnergyJ) {
+        int ceiling = LEVELS.length - 1;
+        lastEnergyBudget = Float.NaN;
+        int energyCeiling = isCharging ? -1 : energyCeilingFor(remainingEnergyJ);
+        if (energyCeiling >= 0) {
+            ceiling = energyCeiling;
+        } else if (!isCharging) {
+            // 비용표가 아직 없으면 기존 단계표의 기본값을 상한으로
+            if (batteryLevel < 15) {
+                ceiling = 0;            // 10 FPS
+            } else if (batteryLevel < 30) {
+                ceiling = 1;            // 15 FPS
+            } else if (batteryLevel < 50) {
+                ceiling = 2;            // 20 FPS
+            }
+        }
+        if (availableMemoryMB > 0 && availableMemoryMB < 100) {
+            ceiling = Math.min(ceiling, 1);
+        } else if (availableMemoryMB > 0 && availableMemoryMB < 200) {
+            ceiling = Math.min(ceiling, 2);
+        }
+        return ceiling;
+    }
+
+    // 🔧 최저 단계 대비 추가 비용(J/분)이 예산(남은 에너지 × 몫 / 목표 시간) 안에 드는 가장 높은 단계
+    //    기기 전체 전력에는 화면/다른 앱 몫이 섞여 있어 절대값 비교는 너무 엄격함, 판단할 수 없으면 -1
+    private int energyCeilingFor(float remainingEnergyJ) {
+        EnergyCostTable table = energyCostTable;
+        if (table == null || Float.isNaN(remainingEnergyJ) || remainingEnergyJ <= 0) {
+            return -1;
+        }
+        float baseCost = table.estimateJoulesPerMinute(LEVELS[0], energyFeatures);
+        if (Float.isNaN(baseCost)) {
+            return -1;
+        }
+        float budget = remainingEnergyJ * ENERGY_SHARE / TARGET_RUNTIME_MINUTES;
+        lastEnergyBudget = budget;
+        for (int i = LEVELS.length - 1; i > 0; i--) {
+            float cost = table.estimateJoulesPerMinute(LEVELS[i], energyFeatures);
+            if (Float.isNaN(cost)) {
+                return -1;
+            }
+            if (cost - baseCost <= budget) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
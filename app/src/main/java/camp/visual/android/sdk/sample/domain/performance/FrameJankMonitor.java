@@ -0,0 +1,211 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.content.Context;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.view.WindowManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🆕 오버레이 창 프레임 지연(jank) 감지
+ * - WindowManager로 직접 붙인 오버레이는 FrameMetrics를 받을 수 없으므로
+ *   Choreographer 프레임 콜백 간격으로 놓친 vsync를 계산
+ * - 각 오버레이 창의 OnDrawListener가 그려질 때만 콜백을 걸고,
+ *   한동안 그려지는 오버레이가 없으면 멈춤 (커서 이동/메뉴 애니메이션 중에만 동작)
+ * - 지연 프레임은 직전 프레임에 그려진 오버레이에 귀속
+ *   (그려진 오버레이가 없으면 마지막으로 그려진 오버레이 - 메인 스레드가 막혀 못 그린 경우)
+ * - 통계는 PerformanceMonitor 샘플마다 가져가고 초기화 (snapshotAndReset)
+ *
+ * track/untrack/stop은 메인 스레드에서 호출
+ */
+public class FrameJankMonitor implements Choreographer.FrameCallback {
+
+    public enum Overlay {
+        CURSOR,
+        CALIBRATION,
+        EDGE_MENU
+    }
+
+    // 프레임 주기의 1.5배를 넘으면 vsync를 놓친 것으로 판단
+    private static final float JANK_THRESHOLD = 1.5f;
+    // 이 시간 동안 그려진 오버레이가 없으면 콜백 중단
+    private static final long IDLE_STOP_NANOS = 250_000_000L;
+    private static final long DEFAULT_FRAME_PERIOD_NANOS = 16_666_667L;
+
+    private final WindowManager windowManager;
+    private final Choreographer choreographer;
+    private final Map<View, Tracker> trackers = new HashMap<>();
+
+    // 메인 스레드 전용
+    private boolean running = false;
+    private long prevFrameNanos = 0;
+    private long lastDrawNanos = 0;
+    private long framePeriodNanos = DEFAULT_FRAME_PERIOD_NANOS;
+    private int drawnMask = 0;
+    private Overlay lastDrawnOverlay = Overlay.CURSOR;
+
+    // 현재 구간 통계 (수집 스레드가 가져감)
+    private int frames = 0;
+    private int jankFrames = 0;
+    private int missedVsyncs = 0;
+    private long longestFrameNanos = 0;
+    private final int[] jankByOverlay = new int[Overlay.values().length];
+
+    /**
+     * 메인 스레드에서 생성 (메인 스레드 Choreographer 사용)
+     */
+    public FrameJankMonitor(Context context) {
+        this.windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        this.choreographer = Choreographer.getInstance();
+    }
+
+    /**
+     * 오버레이 창의 루트 뷰 등록 - 창이 붙어 있는 동안 그리기를 감지
+     * (창이 떨어졌다 다시 붙어도 계속 감지)
+     */
+    public void track(View view, Overlay overlay) {
+        if (view == null || trackers.containsKey(view)) {
+            return;
+        }
+        Tracker tracker = new Tracker(view, overlay);
+        trackers.put(view, tracker);
+        view.addOnAttachStateChangeListener(tracker);
+        if (view.isAttachedToWindow()) {
+            tracker.onViewAttachedToWindow(view);
+        }
+    }
+
+    public void untrack(View view) {
+        Tracker tracker = trackers.remove(view);
+        if (tracker != null) {
+            view.removeOnAttachStateChangeListener(tracker);
+            tracker.onViewDetachedFromWindow(view);
+        }
+    }
+
+    /**
+     * 모든 창 등록 해제 + 콜백 중단
+     */
+    public void stop() {
+        for (View view : trackers.keySet().toArray(new View[0])) {
+            untrack(view);
+        }
+        choreographer.removeFrameCallback(this);
+        running = false;
+    }
+
+    /**
+     * 직전 샘플 이후 통계를 가져오고 초기화
+     */
+    public synchronized PerformanceMonitor.JankStats snapshotAndReset() {
+        PerformanceMonitor.JankStats stats = new PerformanceMonitor.JankStats(frames, jankFrames, missedVsyncs,
+                longestFrameNanos / 1_000_000f, jankByOverlay.clone());
+        frames = 0;
+        jankFrames = 0;
+        missedVsyncs = 0;
+        longestFrameNanos = 0;
+        for (int i = 0; i < jankByOverlay.length; i++) {
+            jankByOverlay[i] = 0;
+        }
+        return stats;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) {
+            return;
+        }
+        if (prevFrameNanos > 0) {
+            record(frameTimeNanos - prevFrameNanos);
+        }
+        prevFrameNanos = frameTimeNanos;
+        drawnMask = 0;
+
+        if (frameTimeNanos - lastDrawNanos < IDLE_STOP_NANOS) {
+            choreographer.postFrameCallback(this);
+        } else {
+            running = false;
+        }
+    }
+
+    private synchronized void record(long intervalNanos) {
+        frames++;
+        longestFrameNanos = Math.max(longestFrameNanos, intervalNanos);
+        if (intervalNanos <= framePeriodNanos * JANK_THRESHOLD) {
+            return;
+        }
+        jankFrames++;
+        missedVsyncs += Math.max(1, Math.round((float) intervalNanos / framePeriodNanos) - 1);
+
+        if (drawnMask == 0) {
+            jankByOverlay[lastDrawnOverlay.ordinal()]++;
+            return;
+        }
+        for (Overlay overlay : Overlay.values()) {
+            if ((drawnMask & (1 << overlay.ordinal())) != 0) {
+                jankByOverlay[overlay.ordinal()]++;
+            }
+        }
+    }
+
+    // 오버레이가 그려질 때 (메인 스레드)
+    private void onOverlayDrawn(Overlay overlay) {
+        drawnMask |= 1 << overlay.ordinal();
+        lastDrawnOverlay = overlay;
+        lastDrawNanos = System.nanoTime();
+        if (!running) {
+            // 첫 콜백은 기준 시각만 잡음 (멈춰 있던 동안은 측정하지 않음)
+            running = true;
+            prevFrameNanos = 0;
+            framePeriodNanos = readFramePeriodNanos();
+            choreographer.postFrameCallback(this);
+        }
+    }
+
+    // 가변 주사율 기기를 위해 측정을 다시 시작할 때마다 조회
+    @SuppressWarnings("deprecation")
+    private long readFramePeriodNanos() {
+        Display display = windowManager != null ? windowManager.getDefaultDisplay() : null;
+        float refreshRate = display != null ? display.getRefreshRate() : 0f;
+        return refreshRate > 1f ? (long) (1_000_000_000L / refreshRate) : DEFAULT_FRAME_PERIOD_NANOS;
+    }
+
+    // 창마다 붙였다 떼는 그리기 리스너 (창이 다시 붙으면 ViewTreeObserver가 새로 만들어짐)
+    private final class Tracker implements View.OnAttachStateChangeListener, ViewTreeObserver.OnDrawListener {
+        private final View view;
+        private final Overlay overlay;
+        private ViewTreeObserver observer;
+
+        Tracker(View view, Overlay overlay) {
+            this.view = view;
+            this.overlay = overlay;
+        }
+
+        @Override
+        public void onViewAttachedToWindow(View v) {
+            if (observer == null) {
+                observer = view.getViewTreeObserver();
+                observer.addOnDrawListener(this);
+            }
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View v) {
+            if (observer != null) {
+                if (observer.isAlive()) {
+                    observer.removeOnDrawListener(this);
+                }
+                observer = null;
+            }
+        }
+
+        @Override
+        public void onDraw() {
+            onOverlayDrawn(overlay);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+/**
+ * 👁️ 시선 활동 모델 - 아무도 보고 있지 않을 때 추적 속도를 낮추기 위한 상태 판단
+ * - ACTIVE: 일반 추적 (FpsGovernor가 정한 FPS)
+ * - IDLE: 얼굴은 있지만 시선이 한 곳에 오래 머묾 (정적인 화면을 보고만 있음) → 저속
+ * - AWAY: 얼굴/시선을 계속 찾지 못함 → 최저속
+ *
+ * 낮춘 상태에서도 다음 프레임에 얼굴이 다시 잡히거나 큰 시선 이동(도약)이 보이면 즉시 ACTIVE
+ * 응시 클릭 진행/엣지/메뉴/보정 등 상호작용 중에는 항상 ACTIVE 유지
+ *
+ * Android 의존성 없음
+ * 🔧 update/reset/getDownshiftCount는 프레임 스레드 전용,
+ *    상태 조회(getState/isActive/getTargetFps)는 어느 스레드에서나 (서비스가 메인 스레드에서 읽음)
+ */
+public class GazeActivityModel {
+
+    public enum State {
+        ACTIVE,
+        IDLE,
+        AWAY
+    }
+
+    // 저속 상태의 FPS
+    public static final int IDLE_FPS = 10;
+    public static final int AWAY_FPS = 5;
+
+    // 얼굴/시선을 이 시간 동안 못 찾으면 AWAY (깜빡임/짧은 가림은 무시)
+    private static final long AWAY_AFTER_MS = 2_000;
+
+    // 시선이 이 반경 안에서만 움직인 채로 이 시간이 지나면 IDLE
+    private static final long IDLE_AFTER_MS = 60_000;
+    private static final float IDLE_RADIUS_PX = 150f;
+
+    // 🔧 프레임 스레드만 쓰고 메인 스레드도 읽음
+    private volatile State state = State.ACTIVE;
+    private long lastTrackedMs = -1;
+    private long lastMovementMs = -1;
+    private float anchorX;
+    private float anchorY;
+    private boolean hasAnchor = false;
+
+    // 통계
+    private long downshiftCount = 0;
+
+    /**
+     * 프레임마다 호출
+     * @param tracked 추적 성공 프레임인지 (얼굴과 시선을 찾았는지)
+     * @param interacting 응시 클릭/엣지/메뉴/보정 등 상호작용 진행 중인지
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean update(long nowMs, boolean tracked, float x, float y, boolean interacting) {
+        State next;
+        if (tracked) {
+            lastTrackedMs = nowMs;
+            if (!hasAnchor || Math.hypot(x - anchorX, y - anchorY) > IDLE_RADIUS_PX) {
+                // 도약 또는 첫 프레임 - 새 기준점
+                anchorX = x;
+                anchorY = y;
+                hasAnchor = true;
+                lastMovementMs = nowMs;
+            }
+            if (interacting) {
+                lastMovementMs = nowMs;
+            }
+            next = nowMs - lastMovementMs >= IDLE_AFTER_MS ? State.IDLE : State.ACTIVE;
+        } else {
+            if (lastTrackedMs < 0) {
+                lastTrackedMs = nowMs;
+            }
+            hasAnchor = false;
+            // 짧게 놓친 동안은 현재 상태 유지 (다시 잡히면 기준점부터 새로 판단)
+            next = nowMs - lastTrackedMs >= AWAY_AFTER_MS ? State.AWAY : state;
+        }
+        if (interacting) {
+            next = State.ACTIVE;
+        }
+
+        if (next == state) {
+            return false;
+        }
+        if (next != State.ACTIVE) {
+            downshiftCount++;
+        }
+        state = next;
+        return true;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isActive() {
+        return state == State.ACTIVE;
+    }
+
+    /**
+     * 현재 상태에서 사용할 FPS
+     * @param activeFps ACTIVE일 때의 FPS (FpsGovernor 결정)
+     */
+    public int getTargetFps(int activeFps) {
+        switch (state) {
+            case IDLE:
+                return Math.min(activeFps, IDLE_FPS);
+            case AWAY:
+                return Math.min(activeFps, AWAY_FPS);
+            default:
+                return activeFps;
+        }
+    }
+
+    public long getDownshiftCount() {
+        return downshiftCount;
+    }
+
+    public void reset() {
+        state = State.ACTIVE;
+        lastTrackedMs = -1;
+        lastMovementMs = -1;
+        hasAnchor = false;
+    }
+}
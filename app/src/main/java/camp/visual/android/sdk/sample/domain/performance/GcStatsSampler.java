@@ -0,0 +1,72 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.os.Debug;
+
+/**
+ * 🆕 ART GC/할당 누적 통계 → 분당 비율
+ * - Debug.getRuntimeStat("art.gc.*") 누적값의 샘플 간 차이를 경과 시간으로 나눔
+ * - 힙 사용량은 Runtime 기준 (Java 힙만, 네이티브 제외)
+ * - 값을 읽을 수 없는 항목은 0으로 취급
+ *
+ * 수집 스레드 전용
+ */
+class GcStatsSampler {
+
+    private static final String STAT_GC_COUNT = "art.gc.gc-count";
+    private static final String STAT_GC_TIME = "art.gc.gc-time";
+    private static final String STAT_BLOCKING_GC_COUNT = "art.gc.blocking-gc-count";
+    private static final String STAT_BYTES_ALLOCATED = "art.gc.bytes-allocated";
+
+    private final Runtime runtime = Runtime.getRuntime();
+
+    private long prevSampleMs = -1;
+    private long prevGcCount;
+    private long prevGcTimeMs;
+    private long prevBlockingGcCount;
+    private long prevBytesAllocated;
+
+    /**
+     * @return 첫 샘플이면 비율은 0
+     */
+    PerformanceMonitor.GcStats sample(long nowMs) {
+        long gcCount = readStat(STAT_GC_COUNT);
+        long gcTimeMs = readStat(STAT_GC_TIME);
+        long blockingGcCount = readStat(STAT_BLOCKING_GC_COUNT);
+        long bytesAllocated = readStat(STAT_BYTES_ALLOCATED);
+
+        float gcPerMinute = 0f;
+        float gcTimeMsPerMinute = 0f;
+        float blockingGcPerMinute = 0f;
+        float allocatedMBPerMinute = 0f;
+        long elapsedMs = nowMs - prevSampleMs;
+        if (prevSampleMs >= 0 && elapsedMs > 0) {
+            float perMinute = 60000f / elapsedMs;
+            gcPerMinute = Math.max(0, gcCount - prevGcCount) * perMinute;
+            gcTimeMsPerMinute = Math.max(0, gcTimeMs - prevGcTimeMs) * perMinute;
+            blockingGcPerMinute = Math.max(0, blockingGcCount - prevBlockingGcCount) * perMinute;
+            allocatedMBPerMinute = Math.max(0, bytesAllocated - prevBytesAllocated) / (1024f * 1024f) * perMinute;
+        }
+        prevSampleMs = nowMs;
+        prevGcCount = gcCount;
+        prevGcTimeMs = gcTimeMs;
+        prevBlockingGcCount = blockingGcCount;
+        prevBytesAllocated = bytesAllocated;
+
+        long heapUsedMB = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        long heapMaxMB = runtime.maxMemory() / (1024 * 1024);
+        return new PerformanceMonitor.GcStats(gcPerMinute, gcTimeMsPerMinute, blockingGcPerMinute,
+                allocatedMBPerMinute, heapUsedMB, heapMaxMB);
+    }
+
+    private static long readStat(String name) {
+        String value = Debug.getRuntimeStat(name);
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -1,29 +1,82 @@
 package camp.visual.android.sdk.sample.domain.performance;
 
 import android.app.ActivityManager;
+import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
 import android.os.BatteryManager;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
 import android.util.Log;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 🆕 시스템 성능 모니터링 클래스
- * 배터리, CPU, 메모리 상태를 모니터링하여 동적 FPS 조정에 활용
+ * 배터리, CPU, 메모리, 발열 상태를 모니터링하여 동적 FPS 조정에 활용
+ *
+ * 🔧 수집은 전용 백그라운드 스레드에서 수행하고, 결과는 불변 스냅샷으로 공개
+ * - CPU: /proc/stat(시스템), /proc/self/stat(이 프로세스) 누적값의 샘플 간 차이
+ * - 배터리: ACTION_BATTERY_CHANGED 리시버로 받은 값을 캐시 (조회마다 sticky 인텐트 요청 안 함)
+ * - 스레드별 CPU: /proc/self/task/[tid]/stat 차이로 상위 N개 스레드 표
+ * - GC/할당: ART 누적 통계의 샘플 간 차이로 분당 비율, Java 힙 사용량
+ * - 오버레이 프레임 지연: 등록된 FrameJankMonitor에서 샘플마다 구간 통계를 가져감
+ * - 에너지: 샘플마다 전류 × 전압으로 전력을 재고 현재 FPS/기능 조합에 귀속 (EnergyEstimator)
+ * - 발열: 상태 변경은 리스너로 즉시 반영(바로 한 번 샘플), 예측 여유는 샘플 주기마다 조회
+ * - 지표는 수집 스레드만 만들고 버전이 붙은 불변 스냅샷으로 공개
+ *   getCurrentMetrics()는 마지막 스냅샷만 읽으므로 시선 처리 경로에서 호출해도 I/O 없음
+ * - 구독자는 각자의 변화 기준(Significance)을 넘을 때만 알림 (기준은 마지막으로 알린 스냅샷과 비교)
+ * - 콜백/구독 알림은 메인 스레드에서 호출
  */
 public class PerformanceMonitor {
     private static final String TAG = "PerformanceMonitor";
 
     private Context context;
     private Handler handler;
-    private PerformanceCallback callback;
-    private boolean isMonitoring = false;
+    private volatile PerformanceCallback callback;
+    private volatile AlertListener alertListener;
+    private volatile boolean isMonitoring = false;
+
+    // 🆕 수집 스레드
+    private HandlerThread samplerThread;
+    private Handler samplerHandler;
+    private ProcStatReader procStatReader;
+    private GcStatsSampler gcStatsSampler;
+    private ThreadCpuSampler threadCpuSampler;
+    private volatile FrameJankMonitor frameJankMonitor;
+    private ActivityManager activityManager;
+    private final ActivityManager.MemoryInfo memoryInfo = new ActivityManager.MemoryInfo();
+
+    // 🆕 이전 샘플 (차이 계산용, 수집 스레드 전용)
+    private long prevSystemTotal = -1;
+    private long prevSystemIdle;
+    private long prevProcessTicks = -1;
+    private long prevSampleUptime;
+
+    // 🆕 배터리 리시버가 갱신하는 캐시
+    private volatile int cachedBatteryLevel = 100;
+    private volatile boolean cachedIsCharging = false;
+    private volatile int cachedVoltageMv = 0;
+    private boolean batteryReceiverRegistered = false;
+
+    // 🆕 발열 상태 (상태 리스너는 수집 스레드에서 실행)
+    private final ThermalSource thermalSource;
+    private static final int THERMAL_FORECAST_SECONDS = 10;
+
+    // 🆕 FPS/기능 조합별 에너지 측정
+    private final EnergyEstimator energyEstimator;
+
+    // 🆕 최신 스냅샷 (읽기는 잠금 없음) + 공개 버전 (수집 스레드 전용)
+    private final AtomicReference<PerformanceMetrics> latestMetrics = new AtomicReference<>();
+    private long publishedVersion = 0;
+
+    // 🆕 변화 구독
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
 
     // 모니터링 주기 (5초마다)
     private static final long MONITORING_INTERVAL_MS = 5000;
@@ -35,16 +88,101 @@ public class PerformanceMonitor {
     private static final float CPU_CRITICAL_THRESHOLD = 85.0f;
     private static final long MEMORY_LOW_THRESHOLD_MB = 200;
     private static final long MEMORY_CRITICAL_THRESHOLD_MB = 100;
+    // 🆕 GC/할당 (상시 서비스의 시선 처리 경로는 할당이 거의 없어야 함)
+    private static final float ALLOCATION_HIGH_MB_PER_MINUTE = 32f;
+    private static final float GC_TIME_HIGH_MS_PER_MINUTE = 500f;
+    private static final float BLOCKING_GC_HIGH_PER_MINUTE = 1f;
+    private static final float HEAP_HIGH_RATIO = 0.85f;
+
+    /**
+     * 🆕 임계치 알림만 받는 경우 (메인 스레드에서 호출, 알림이 있을 때만)
+     */
+    public interface AlertListener {
+        void onPerformanceAlert(AlertType alertType, PerformanceMetrics metrics);
+    }
 
-    // 최근 성능 데이터
-    private int lastBatteryLevel = 100;
-    private float lastCpuUsage = 0f;
-    private long lastAvailableMemoryMB = 0;
-    private boolean lastIsCharging = false;
-
-    public interface PerformanceCallback {
+    /**
+     * 매 샘플 스냅샷 + 알림 (스냅샷만 필요하면 subscribe 사용)
+     */
+    public interface PerformanceCallback extends AlertListener {
         void onPerformanceChanged(PerformanceMetrics metrics);
-        void onPerformanceAlert(AlertType alertType, PerformanceMetrics metrics);
+    }
+
+    /**
+     * 🆕 스냅샷 변화 구독자 (메인 스레드에서 호출)
+     */
+    public interface MetricsSubscriber {
+        void onMetricsChanged(PerformanceMetrics metrics);
+    }
+
+    /**
+     * 🆕 구독자별 변화 기준 - 마지막으로 알린 스냅샷 대비 하나라도 넘으면 알림
+     * (0 이하인 차이 기준은 사용 안 함, 첫 스냅샷은 항상 알림)
+     * 변화가 없어도 주기적으로 받아야 하면 maxIntervalMs (0이면 사용 안 함,
+     * 샘플 주기 이하로 두면 매 샘플 알림 - 샘플 간격은 수집 시간만큼 주기보다 길어짐)
+     */
+    public static final class Significance {
+        public static final Significance DEFAULT = new Builder().build();
+
+        private final int batteryLevelDelta;
+        private final float cpuUsageDelta;
+        private final long availableMemoryMBDelta;
+        private final boolean chargingChange;
+        private final boolean thermalChange;
+        private final long maxIntervalMs;
+
+        private Significance(Builder builder) {
+            this.batteryLevelDelta = builder.batteryLevelDelta;
+            this.cpuUsageDelta = builder.cpuUsageDelta;
+            this.availableMemoryMBDelta = builder.availableMemoryMBDelta;
+            this.chargingChange = builder.chargingChange;
+            this.thermalChange = builder.thermalChange;
+            this.maxIntervalMs = builder.maxIntervalMs;
+        }
+
+        boolean isSignificant(PerformanceMetrics previous, PerformanceMetrics current) {
+            if (previous == null) {
+                return true;
+            }
+            return (batteryLevelDelta > 0 && Math.abs(current.batteryLevel - previous.batteryLevel) >= batteryLevelDelta)
+                    || (cpuUsageDelta > 0 && Math.abs(current.cpuUsage - previous.cpuUsage) >= cpuUsageDelta)
+                    || (availableMemoryMBDelta > 0
+                        && Math.abs(current.availableMemoryMB - previous.availableMemoryMB) >= availableMemoryMBDelta)
+                    || (chargingChange && current.isCharging != previous.isCharging)
+                    || (thermalChange && current.thermalStatus != previous.thermalStatus)
+                    || (maxIntervalMs > 0 && current.timestamp - previous.timestamp >= maxIntervalMs);
+        }
+
+        public static class Builder {
+            private int batteryLevelDelta = 5;
+            private float cpuUsageDelta = 10f;
+            private long availableMemoryMBDelta = 50;
+            private boolean chargingChange = true;
+            private boolean thermalChange = true;
+            private long maxIntervalMs = 0;
+
+            public Builder batteryLevelDelta(int val) { batteryLevelDelta = val; return this; }
+            public Builder cpuUsageDelta(float val) { cpuUsageDelta = val; return this; }
+            public Builder availableMemoryMBDelta(long val) { availableMemoryMBDelta = val; return this; }
+            public Builder chargingChange(boolean val) { chargingChange = val; return this; }
+            public Builder thermalChange(boolean val) { thermalChange = val; return this; }
+            public Builder maxIntervalMs(long val) { maxIntervalMs = val; return this; }
+
+            public Significance build() {
+                return new Significance(this);
+            }
+        }
+    }
+
+    private static final class Subscription {
+        final MetricsSubscriber subscriber;
+        final Significance significance;
+        PerformanceMetrics lastDelivered;   // 수집 스레드 전용
+
+        Subscription(MetricsSubscriber subscriber, Significance significance) {
+            this.subscriber = subscriber;
+            this.significance = significance;
+        }
     }
 
     public enum AlertType {
@@ -53,43 +191,267 @@ public class PerformanceMonitor {
         CPU_HIGH,
         CPU_CRITICAL,
         MEMORY_LOW,
-        MEMORY_CRITICAL
+        MEMORY_CRITICAL,
+        ALLOCATION_HIGH,    // 🆕 분당 할당량 초과
+        GC_PRESSURE,        // 🆕 분당 GC 시간 또는 블로킹 GC 초과
+        HEAP_HIGH           // 🆕 Java 힙 최대치에 근접
+    }
+
+    /**
+     * 🆕 GC/할당 통계 (불변, 비율은 직전 샘플 대비 분당 값)
+     */
+    public static class GcStats {
+        public static final GcStats EMPTY = new GcStats(0f, 0f, 0f, 0f, 0, 0);
+
+        public final float gcPerMinute;
+        public final float gcTimeMsPerMinute;
+        public final float blockingGcPerMinute;
+        public final float allocatedMBPerMinute;
+        public final long heapUsedMB;
+        public final long heapMaxMB;
+
+        public GcStats(float gcPerMinute, float gcTimeMsPerMinute, float blockingGcPerMinute,
+                       float allocatedMBPerMinute, long heapUsedMB, long heapMaxMB) {
+            this.gcPerMinute = gcPerMinute;
+            this.gcTimeMsPerMinute = gcTimeMsPerMinute;
+            this.blockingGcPerMinute = blockingGcPerMinute;
+            this.allocatedMBPerMinute = allocatedMBPerMinute;
+            this.heapUsedMB = heapUsedMB;
+            this.heapMaxMB = heapMaxMB;
+        }
+
+        public float getHeapUsageRatio() {
+            return heapMaxMB > 0 ? (float) heapUsedMB / heapMaxMB : 0f;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("GC %.1f회/분 (%.0fms/분, 블로킹 %.1f회/분), 할당 %.1fMB/분, 힙 %dMB/%dMB",
+                    gcPerMinute, gcTimeMsPerMinute, blockingGcPerMinute, allocatedMBPerMinute,
+                    heapUsedMB, heapMaxMB);
+        }
+    }
+
+    /**
+     * 🆕 스레드별 CPU 상위 N개 (불변, 사용률은 코어 하나 기준 %)
+     */
+    public static class ThreadCpuStats {
+        public static final ThreadCpuStats EMPTY = new ThreadCpuStats(new String[0], new int[0], new float[0], 0);
+
+        private final String[] names;
+        private final int[] tids;
+        private final float[] cpuPercent;
+        public final int threadCount;   // 전체 스레드 수
+
+        ThreadCpuStats(String[] names, int[] tids, float[] cpuPercent, int threadCount) {
+            this.names = names;
+            this.tids = tids;
+            this.cpuPercent = cpuPercent;
+            this.threadCount = threadCount;
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        public String getName(int index) {
+            return names[index];
+        }
+
+        public int getTid(int index) {
+            return tids[index];
+        }
+
+        public float getCpuPercent(int index) {
+            return cpuPercent[index];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("스레드 CPU 상위 (전체 ").append(threadCount).append("개)");
+            for (int i = 0; i < names.length; i++) {
+                sb.append(String.format("\n  %-16s %6d %6.1f%%", names[i], tids[i], cpuPercent[i]));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * 🆕 오버레이 프레임 지연 통계 (불변, 직전 샘플 이후 오버레이가 그려지던 구간만)
+     */
+    public static class JankStats {
+        public static final JankStats EMPTY = new JankStats(0, 0, 0, 0f, new int[FrameJankMonitor.Overlay.values().length]);
+
+        public final int frames;
+        public final int jankFrames;
+        public final int missedVsyncs;
+        public final float longestFrameMs;
+        private final int[] jankByOverlay;
+
+        JankStats(int frames, int jankFrames, int missedVsyncs, float longestFrameMs, int[] jankByOverlay) {
+            this.frames = frames;
+            this.jankFrames = jankFrames;
+            this.missedVsyncs = missedVsyncs;
+            this.longestFrameMs = longestFrameMs;
+            this.jankByOverlay = jankByOverlay;
+        }
+
+        public float getJankRate() {
+            return frames > 0 ? (float) jankFrames / frames : 0f;
+        }
+
+        public int getJankFrames(FrameJankMonitor.Overlay overlay) {
+            return jankByOverlay[overlay.ordinal()];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("프레임 지연 %d/%d (%.1f%%, vsync %d회 누락), 최장 %.1fms [커서 %d, 캘리브레이션 %d, 메뉴 %d]",
+                    jankFrames, frames, getJankRate() * 100, missedVsyncs, longestFrameMs,
+                    getJankFrames(FrameJankMonitor.Overlay.CURSOR),
+                    getJankFrames(FrameJankMonitor.Overlay.CALIBRATION),
+                    getJankFrames(FrameJankMonitor.Overlay.EDGE_MENU));
+        }
     }
 
     public static class PerformanceMetrics {
         public final int batteryLevel;
         public final boolean isCharging;
-        public final float cpuUsage;
+        public final float cpuUsage;          // 시스템 전체 (읽을 수 없는 기기에선 이 프로세스 값)
+        public final float processCpuUsage;   // 🆕 이 프로세스 (전체 코어 대비 %)
         public final long availableMemoryMB;
         public final long totalMemoryMB;
+        public final int thermalStatus;       // 🆕 ThermalSource.STATUS_*
+        public final float thermalHeadroom;   // 🆕 예측 발열 여유 (1.0 = 심한 스로틀링, 미지원 시 NaN)
+        public final float powerMw;           // 🆕 기기 전체 소비 전력 (충전 중/미지원 시 NaN)
+        public final float remainingEnergyJ;  // 🆕 남은 배터리 에너지 (미지원 시 NaN)
+        public final GcStats gcStats;         // 🆕 GC/할당/힙
+        public final ThreadCpuStats threadCpu; // 🆕 스레드별 CPU 상위 N개
+        public final JankStats jank;          // 🆕 오버레이 프레임 지연
+        public final long version;            // 🆕 공개 순번 (수집 스레드가 만든 스냅샷만 1부터, 그 외 0)
         public final long timestamp;
 
-        public PerformanceMetrics(int batteryLevel, boolean isCharging, float cpuUsage,
-                                  long availableMemoryMB, long totalMemoryMB) {
-            this.batteryLevel = batteryLevel;
-            this.isCharging = isCharging;
-            this.cpuUsage = cpuUsage;
-            this.availableMemoryMB = availableMemoryMB;
-            this.totalMemoryMB = totalMemoryMB;
+        private PerformanceMetrics(Builder builder) {
+            this.batteryLevel = builder.batteryLevel;
+            this.isCharging = builder.isCharging;
+            this.cpuUsage = builder.cpuUsage;
+            this.processCpuUsage = builder.processCpuUsage;
+            this.availableMemoryMB = builder.availableMemoryMB;
+            this.totalMemoryMB = builder.totalMemoryMB;
+            this.thermalStatus = builder.thermalStatus;
+            this.thermalHeadroom = builder.thermalHeadroom;
+            this.powerMw = builder.powerMw;
+            this.remainingEnergyJ = builder.remainingEnergyJ;
+            this.gcStats = builder.gcStats != null ? builder.gcStats : GcStats.EMPTY;
+            this.threadCpu = builder.threadCpu != null ? builder.threadCpu : ThreadCpuStats.EMPTY;
+            this.jank = builder.jank != null ? builder.jank : JankStats.EMPTY;
+            this.version = builder.version;
             this.timestamp = System.currentTimeMillis();
         }
 
+        /**
+         * 🆕 스냅샷은 이 모니터만 만듦 - 항목이 늘어나도 생성자를 늘리지 않도록 빌더 사용
+         */
+        static class Builder {
+            private int batteryLevel = 100;
+            private boolean isCharging = false;
+            private float cpuUsage = 0f;
+            private float processCpuUsage = 0f;
+            private long availableMemoryMB = 0;
+            private long totalMemoryMB = 0;
+            private int thermalStatus = ThermalSource.STATUS_NONE;
+            private float thermalHeadroom = Float.NaN;
+            private float powerMw = Float.NaN;
+            private float remainingEnergyJ = Float.NaN;
+            private GcStats gcStats = GcStats.EMPTY;
+            private ThreadCpuStats threadCpu = ThreadCpuStats.EMPTY;
+            private JankStats jank = JankStats.EMPTY;
+            private long version = 0;
+
+            Builder batteryLevel(int val) { batteryLevel = val; return this; }
+            Builder isCharging(boolean val) { isCharging = val; return this; }
+            Builder cpuUsage(float val) { cpuUsage = val; return this; }
+            Builder processCpuUsage(float val) { processCpuUsage = val; return this; }
+            Builder availableMemoryMB(long val) { availableMemoryMB = val; return this; }
+            Builder totalMemoryMB(long val) { totalMemoryMB = val; return this; }
+            Builder thermalStatus(int val) { thermalStatus = val; return this; }
+            Builder thermalHeadroom(float val) { thermalHeadroom = val; return this; }
+            Builder powerMw(float val) { powerMw = val; return this; }
+            Builder remainingEnergyJ(float val) { remainingEnergyJ = val; return this; }
+            Builder gcStats(GcStats val) { gcStats = val; return this; }
+            Builder threadCpu(ThreadCpuStats val) { threadCpu = val; return this; }
+            Builder jank(JankStats val) { jank = val; return this; }
+            Builder version(long val) { version = val; return this; }
+
+            PerformanceMetrics build() {
+                return new PerformanceMetrics(this);
+            }
+        }
+
         @Override
         public String toString() {
-            return String.format("배터리: %d%% (%s), CPU: %.1f%%, 메모리: %dMB/%dMB",
-                    batteryLevel, isCharging ? "충전중" : "방전중", cpuUsage, availableMemoryMB, totalMemoryMB);
+            return String.format("#%d 배터리: %d%% (%s), CPU: %.1f%% (앱 %.1f%%), 메모리: %dMB/%dMB, 발열: %d (여유 %.2f), 전력: %.0fmW",
+                    version, batteryLevel, isCharging ? "충전중" : "방전중", cpuUsage, processCpuUsage,
+                    availableMemoryMB, totalMemoryMB, thermalStatus, thermalHeadroom, powerMw)
+                    + ", " + gcStats + ", " + jank;
         }
     }
 
     public PerformanceMonitor(Context context) {
+        this(context, null);
+    }
+
+    /**
+     * @param thermalSource 발열 상태 공급원 (null이면 PowerManager 사용)
+     */
+    public PerformanceMonitor(Context context, ThermalSource thermalSource) {
         this.context = context.getApplicationContext();
+        this.thermalSource = thermalSource != null ? thermalSource
+                : new AndroidThermalSource(this.context, command -> {
+                    Handler sampler = samplerHandler;
+                    if (sampler != null) {
+                        sampler.post(command);
+                    }
+                });
         this.handler = new Handler(Looper.getMainLooper());
+        this.energyEstimator = new EnergyEstimator(this.context);
+        this.activityManager = (ActivityManager) this.context.getSystemService(Context.ACTIVITY_SERVICE);
+        // 첫 샘플 전까지 쓸 기본 스냅샷 (version 0)
+        latestMetrics.set(new PerformanceMetrics.Builder().totalMemoryMB(2048).build());
+        // 상태 로그는 의미 있는 변화가 있을 때만
+        subscribe(Significance.DEFAULT, metrics -> Log.d(TAG, "성능 상태: " + metrics));
     }
 
     public void setCallback(PerformanceCallback callback) {
         this.callback = callback;
     }
 
+    // 🆕 알림만 받을 대상 (스냅샷은 subscribe로)
+    public void setAlertListener(AlertListener alertListener) {
+        this.alertListener = alertListener;
+    }
+
+    /**
+     * 🆕 스냅샷 변화 구독 (같은 구독자를 다시 등록하면 기준만 교체, 다음 스냅샷은 항상 알림)
+     */
+    public void subscribe(Significance significance, MetricsSubscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriptions.add(new Subscription(subscriber, significance != null ? significance : Significance.DEFAULT));
+    }
+
+    public void unsubscribe(MetricsSubscriber subscriber) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.subscriber == subscriber) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    // 🆕 오버레이 프레임 지연 감지기 연결 (null이면 해제)
+    public void setFrameJankMonitor(FrameJankMonitor frameJankMonitor) {
+        this.frameJankMonitor = frameJankMonitor;
+    }
+
     public void startMonitoring() {
         if (isMonitoring) {
             Log.w(TAG, "이미 모니터링 중입니다");
@@ -97,180 +459,287 @@ public class PerformanceMonitor {
         }
 
         isMonitoring = true;
-        handler.post(monitoringRunnable);
+        samplerThread = new HandlerThread("PerformanceSampler", Process.THREAD_PRIORITY_BACKGROUND);
+        samplerThread.start();
+        samplerHandler = new Handler(samplerThread.getLooper());
+        procStatReader = new ProcStatReader();
+        gcStatsSampler = new GcStatsSampler();
+        threadCpuSampler = new ThreadCpuSampler(procStatReader.getClockTicksPerSecond());
+        prevSystemTotal = -1;
+        prevProcessTicks = -1;
+
+        registerBatteryReceiver();
+        thermalSource.start(thermalListener);
+        samplerHandler.post(monitoringRunnable);
         Log.d(TAG, "성능 모니터링 시작 (주기: " + MONITORING_INTERVAL_MS + "ms)");
     }
 
     public void stopMonitoring() {
         isMonitoring = false;
-        handler.removeCallbacks(monitoringRunnable);
+        unregisterBatteryReceiver();
+        thermalSource.stop();
+
+        if (samplerThread != null) {
+            final ProcStatReader reader = procStatReader;
+            samplerHandler.removeCallbacks(monitoringRunnable);
+            // 파일은 수집 스레드에서 닫고(비용표 저장 포함) 스레드 종료
+            samplerHandler.post(() -> {
+                reader.close();
+                energyEstimator.flush();
+            });
+            samplerThread.quitSafely();
+            samplerThread = null;
+            samplerHandler = null;
+            procStatReader = null;
+            gcStatsSampler = null;
+            threadCpuSampler = null;
+        }
         Log.d(TAG, "성능 모니터링 중지");
     }
 
+    // 수집 스레드에서 실행
     private final Runnable monitoringRunnable = new Runnable() {
         @Override
         public void run() {
             if (!isMonitoring) return;
 
             try {
-                PerformanceMetrics metrics = collectPerformanceMetrics();
-
-                // 성능 변화 체크 및 콜백 호출
-                if (callback != null) {
-                    callback.onPerformanceChanged(metrics);
-                    checkForAlerts(metrics);
+                final PerformanceMetrics metrics = collectPerformanceMetrics();
+                latestMetrics.set(metrics);
+                notifySubscribers(metrics);
+
+                // 매 샘플 콜백 (메인 스레드) - 등록된 경우만
+                final PerformanceCallback cb = callback;
+                if (cb != null) {
+                    handler.post(() -> {
+                        if (isMonitoring) {
+                            cb.onPerformanceChanged(metrics);
+                        }
+                    });
                 }
-
-                // 로그 출력 (너무 자주 출력하지 않도록 제한)
-                if (hasSignificantChange(metrics)) {
-                    Log.d(TAG, "성능 상태: " + metrics.toString());
-                    updateLastMetrics(metrics);
+                // 🔧 알림 조건은 여기서 확인하고 알림이 있을 때만 메인 스레드로
+                AlertListener listener = alertListener;
+                if (listener != null) {
+                    checkForAlerts(listener, metrics);
+                }
+                if (cb != null && cb != listener) {
+                    checkForAlerts(cb, metrics);
                 }
-
             } catch (Exception e) {
                 Log.e(TAG, "성능 모니터링 중 오류: " + e.getMessage());
             }
 
             // 다음 모니터링 예약
-            handler.postDelayed(this, MONITORING_INTERVAL_MS);
+            Handler sampler = samplerHandler;
+            if (isMonitoring && sampler != null) {
+                sampler.postDelayed(this, MONITORING_INTERVAL_MS);
+            }
         }
     };
 
     private PerformanceMetrics collectPerformanceMetrics() {
-        int batteryLevel = getBatteryLevel();
-        boolean isCharging = isCharging();
-        float cpuUsage = getCpuUsage();
-        long availableMemoryMB = getAvailableMemoryMB();
-        long totalMemoryMB = getTotalMemoryMB();
-
-        return new PerformanceMetrics(batteryLevel, isCharging, cpuUsage, availableMemoryMB, totalMemoryMB);
+        long now = SystemClock.elapsedRealtime();
+        float processCpuUsage = sampleProcessCpu(now);
+        float systemCpuUsage = sampleSystemCpu();
+        prevSampleUptime = now;
+
+        activityManager.getMemoryInfo(memoryInfo);
+        long availableMemoryMB = memoryInfo.availMem / (1024 * 1024);
+        long totalMemoryMB = memoryInfo.totalMem / (1024 * 1024);
+
+        boolean isCharging = cachedIsCharging;
+        energyEstimator.sample(now, isCharging, cachedVoltageMv);
+
+        GcStatsSampler gcSampler = gcStatsSampler;
+        GcStats gcStats = gcSampler != null ? gcSampler.sample(now) : GcStats.EMPTY;
+        ThreadCpuSampler threadSampler = threadCpuSampler;
+        ThreadCpuStats threadCpu = threadSampler != null ? threadSampler.sample(now) : ThreadCpuStats.EMPTY;
+        FrameJankMonitor jankMonitor = frameJankMonitor;
+        JankStats jank = jankMonitor != null ? jankMonitor.snapshotAndReset() : JankStats.EMPTY;
+
+        return new PerformanceMetrics.Builder()
+                .batteryLevel(cachedBatteryLevel)
+                .isCharging(isCharging)
+                .cpuUsage(systemCpuUsage >= 0 ? systemCpuUsage : processCpuUsage)
+                .processCpuUsage(processCpuUsage)
+                .availableMemoryMB(availableMemoryMB)
+                .totalMemoryMB(totalMemoryMB)
+                .thermalStatus(thermalSource.getThermalStatus())
+                .thermalHeadroom(thermalSource.getThermalHeadroom(THERMAL_FORECAST_SECONDS))
+                .powerMw(energyEstimator.getPowerMw())
+                .remainingEnergyJ(energyEstimator.getRemainingEnergyJ())
+                .gcStats(gcStats)
+                .threadCpu(threadCpu)
+                .jank(jank)
+                .version(++publishedVersion)
+                .build();
     }
 
-    private int getBatteryLevel() {
-        try {
-            Intent batteryIntent = context.registerReceiver(null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
-            if (batteryIntent != null) {
-                int level = batteryIntent.getIntExtra(BatteryManager.EXTRA_LEVEL, -1);
-                int scale = batteryIntent.getIntExtra(BatteryManager.EXTRA_SCALE, -1);
-                if (level >= 0 && scale > 0) {
-                    return (int) ((level / (float) scale) * 100);
-                }
+    // 🆕 구독자별 기준을 넘은 경우만 메인 스레드로 알림 (수집 스레드에서 실행)
+    private void notifySubscribers(final PerformanceMetrics metrics) {
+        for (final Subscription subscription : subscriptions) {
+            if (!subscription.significance.isSignificant(subscription.lastDelivered, metrics)) {
+                continue;
             }
-        } catch (Exception e) {
-            Log.w(TAG, "배터리 레벨 조회 실패: " + e.getMessage());
+            subscription.lastDelivered = metrics;
+            handler.post(() -> {
+                if (isMonitoring && subscriptions.contains(subscription)) {
+                    subscription.subscriber.onMetricsChanged(metrics);
+                }
+            });
         }
-        return lastBatteryLevel; // 실패 시 이전 값 반환
     }
 
-    private boolean isCharging() {
-        try {
-            Intent batteryIntent = context.registerReceiver(null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
-            if (batteryIntent != null) {
-                int status = batteryIntent.getIntExtra(BatteryManager.EXTRA_STATUS, -1);
-                return status == BatteryManager.BATTERY_STATUS_CHARGING ||
-                        status == BatteryManager.BATTERY_STATUS_FULL;
-            }
-        } catch (Exception e) {
-            Log.w(TAG, "충전 상태 조회 실패: " + e.getMessage());
+    // 🆕 발열 상태가 바뀌면 다음 주기를 기다리지 않고 바로 샘플 (주기는 여기서부터 다시 시작)
+    private final ThermalSource.Listener thermalListener = status -> {
+        Log.d(TAG, "발열 상태 변경: " + status);
+        Handler sampler = samplerHandler;
+        if (isMonitoring && sampler != null) {
+            sampler.removeCallbacks(monitoringRunnable);
+            sampler.post(monitoringRunnable);
         }
-        return lastIsCharging;
-    }
+    };
 
-    private float getCpuUsage() {
-        try {
-            // /proc/stat에서 CPU 사용률 계산 (간단한 근사치)
-            BufferedReader reader = new BufferedReader(new FileReader("/proc/stat"));
-            String cpuLine = reader.readLine();
-            reader.close();
-
-            if (cpuLine != null && cpuLine.startsWith("cpu ")) {
-                String[] tokens = cpuLine.split("\\s+");
-                if (tokens.length >= 5) {
-                    long idle = Long.parseLong(tokens[4]);
-                    long total = 0;
-                    for (int i = 1; i < tokens.length; i++) {
-                        total += Long.parseLong(tokens[i]);
-                    }
+    // 🆕 시스템 CPU 사용률 - 이전 샘플과의 차이, 읽을 수 없거나 첫 샘플이면 -1
+    private float sampleSystemCpu() {
+        ProcStatReader reader = procStatReader;
+        if (reader == null || !reader.readSystem()) {
+            return -1f;
+        }
+        long total = reader.getSystemTotal();
+        long idle = reader.getSystemIdle();
+        long prevTotal = prevSystemTotal;
+        long prevIdle = prevSystemIdle;
+        prevSystemTotal = total;
+        prevSystemIdle = idle;
+
+        long deltaTotal = total - prevTotal;
+        if (prevTotal < 0 || deltaTotal <= 0) {
+            return -1f;
+        }
+        float usage = (deltaTotal - (idle - prevIdle)) * 100f / deltaTotal;
+        return Math.max(0, Math.min(100, usage));
+    }
 
-                    // 간단한 CPU 사용률 근사치 (정확하지 않지만 경향성 파악 가능)
-                    float usage = ((float)(total - idle) / total) * 100;
-                    return Math.max(0, Math.min(100, usage));
-                }
-            }
-        } catch (IOException | NumberFormatException e) {
-            Log.w(TAG, "CPU 사용률 조회 실패: " + e.getMessage());
+    // 🆕 이 프로세스 CPU 사용률 - 경과 시간 × 코어 수 대비 사용한 CPU 시간
+    private float sampleProcessCpu(long now) {
+        ProcStatReader reader = procStatReader;
+        long ticks = reader != null ? reader.readProcessTicks() : -1;
+        if (ticks < 0) {
+            return 0f;
         }
-        return lastCpuUsage; // 실패 시 이전 값 반환
+        long prevTicks = prevProcessTicks;
+        prevProcessTicks = ticks;
+        long elapsedMs = now - prevSampleUptime;
+        if (prevTicks < 0 || elapsedMs <= 0) {
+            return 0f;
+        }
+
+        float cpuMs = (ticks - prevTicks) * 1000f / reader.getClockTicksPerSecond();
+        float usage = cpuMs * 100f / (elapsedMs * Runtime.getRuntime().availableProcessors());
+        return Math.max(0, Math.min(100, usage));
     }
 
-    private long getAvailableMemoryMB() {
+    // 🆕 배터리 상태는 변할 때만 갱신 (리시버는 수집 스레드에서 실행)
+    private final BroadcastReceiver batteryReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            updateBatteryState(intent);
+        }
+    };
+
+    private void registerBatteryReceiver() {
+        if (batteryReceiverRegistered) {
+            return;
+        }
         try {
-            ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
-            ActivityManager.MemoryInfo memoryInfo = new ActivityManager.MemoryInfo();
-            activityManager.getMemoryInfo(memoryInfo);
-            return memoryInfo.availMem / (1024 * 1024); // MB로 변환
+            // sticky 인텐트가 바로 반환되므로 첫 값도 즉시 캐시
+            Intent sticky = context.registerReceiver(batteryReceiver,
+                    new IntentFilter(Intent.ACTION_BATTERY_CHANGED), null, samplerHandler);
+            batteryReceiverRegistered = true;
+            updateBatteryState(sticky);
         } catch (Exception e) {
-            Log.w(TAG, "사용 가능한 메모리 조회 실패: " + e.getMessage());
-            return lastAvailableMemoryMB;
+            Log.w(TAG, "배터리 리시버 등록 실패: " + e.getMessage());
         }
     }
 
-    private long getTotalMemoryMB() {
+    private void unregisterBatteryReceiver() {
+        if (!batteryReceiverRegistered) {
+            return;
+        }
         try {
-            ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
-            ActivityManager.MemoryInfo memoryInfo = new ActivityManager.MemoryInfo();
-            activityManager.getMemoryInfo(memoryInfo);
-            return memoryInfo.totalMem / (1024 * 1024); // MB로 변환
-        } catch (Exception e) {
-            Log.w(TAG, "전체 메모리 조회 실패: " + e.getMessage());
-            return 2048; // 기본값 2GB
+            context.unregisterReceiver(batteryReceiver);
+        } catch (IllegalArgumentException e) {
+            Log.w(TAG, "배터리 리시버 해제 실패: " + e.getMessage());
         }
+        batteryReceiverRegistered = false;
     }
 
-    private void checkForAlerts(PerformanceMetrics metrics) {
+    private void updateBatteryState(Intent batteryIntent) {
+        if (batteryIntent == null) {
+            return;
+        }
+        int level = batteryIntent.getIntExtra(BatteryManager.EXTRA_LEVEL, -1);
+        int scale = batteryIntent.getIntExtra(BatteryManager.EXTRA_SCALE, -1);
+        if (level >= 0 && scale > 0) {
+            cachedBatteryLevel = (int) ((level / (float) scale) * 100);
+        }
+        int status = batteryIntent.getIntExtra(BatteryManager.EXTRA_STATUS, -1);
+        cachedIsCharging = status == BatteryManager.BATTERY_STATUS_CHARGING ||
+                status == BatteryManager.BATTERY_STATUS_FULL;
+        cachedVoltageMv = batteryIntent.getIntExtra(BatteryManager.EXTRA_VOLTAGE, 0);
+    }
+
+    // 수집 스레드에서 확인, 알림마다 메인 스레드로 전달
+    private void checkForAlerts(AlertListener listener, PerformanceMetrics metrics) {
         // 배터리 알림
         if (!metrics.isCharging) {
             if (metrics.batteryLevel <= BATTERY_CRITICAL_THRESHOLD) {
-                callback.onPerformanceAlert(AlertType.BATTERY_CRITICAL, metrics);
+                postAlert(listener, AlertType.BATTERY_CRITICAL, metrics);
             } else if (metrics.batteryLevel <= BATTERY_LOW_THRESHOLD) {
-                callback.onPerformanceAlert(AlertType.BATTERY_LOW, metrics);
+                postAlert(listener, AlertType.BATTERY_LOW, metrics);
             }
         }
 
         // CPU 알림
         if (metrics.cpuUsage >= CPU_CRITICAL_THRESHOLD) {
-            callback.onPerformanceAlert(AlertType.CPU_CRITICAL, metrics);
+            postAlert(listener, AlertType.CPU_CRITICAL, metrics);
         } else if (metrics.cpuUsage >= CPU_HIGH_THRESHOLD) {
-            callback.onPerformanceAlert(AlertType.CPU_HIGH, metrics);
+            postAlert(listener, AlertType.CPU_HIGH, metrics);
         }
 
         // 메모리 알림
         if (metrics.availableMemoryMB <= MEMORY_CRITICAL_THRESHOLD_MB) {
-            callback.onPerformanceAlert(AlertType.MEMORY_CRITICAL, metrics);
+            postAlert(listener, AlertType.MEMORY_CRITICAL, metrics);
         } else if (metrics.availableMemoryMB <= MEMORY_LOW_THRESHOLD_MB) {
-            callback.onPerformanceAlert(AlertType.MEMORY_LOW, metrics);
+            postAlert(listener, AlertType.MEMORY_LOW, metrics);
         }
-    }
-
-    private boolean hasSignificantChange(PerformanceMetrics metrics) {
-        boolean batteryChanged = Math.abs(metrics.batteryLevel - lastBatteryLevel) >= 5;
-        boolean cpuChanged = Math.abs(metrics.cpuUsage - lastCpuUsage) >= 10;
-        boolean memoryChanged = Math.abs(metrics.availableMemoryMB - lastAvailableMemoryMB) >= 50;
-        boolean chargingChanged = metrics.isCharging != lastIsCharging;
 
-        return batteryChanged || cpuChanged || memoryChanged || chargingChanged;
+        // 🆕 GC/할당 알림
+        GcStats gc = metrics.gcStats;
+        if (gc.allocatedMBPerMinute >= ALLOCATION_HIGH_MB_PER_MINUTE) {
+            postAlert(listener, AlertType.ALLOCATION_HIGH, metrics);
+        }
+        if (gc.gcTimeMsPerMinute >= GC_TIME_HIGH_MS_PER_MINUTE
+                || gc.blockingGcPerMinute >= BLOCKING_GC_HIGH_PER_MINUTE) {
+            postAlert(listener, AlertType.GC_PRESSURE, metrics);
+        }
+        if (gc.getHeapUsageRatio() >= HEAP_HIGH_RATIO) {
+            postAlert(listener, AlertType.HEAP_HIGH, metrics);
+        }
     }
 
-    private void updateLastMetrics(PerformanceMetrics metrics) {
-        lastBatteryLevel = metrics.batteryLevel;
-        lastCpuUsage = metrics.cpuUsage;
-        lastAvailableMemoryMB = metrics.availableMemoryMB;
-        lastIsCharging = metrics.isCharging;
+    private void postAlert(final AlertListener listener, final AlertType alertType, final PerformanceMetrics metrics) {
+        handler.post(() -> {
+            if (isMonitoring) {
+                listener.onPerformanceAlert(alertType, metrics);
+            }
+        });
     }
 
-    // 현재 성능 상태를 즉시 조회하는 메서드
+    // 현재 성능 상태 조회 - 마지막 스냅샷 (I/O 없음, 어느 스레드에서나 호출 가능)
     public PerformanceMetrics getCurrentMetrics() {
-        return collectPerformanceMetrics();
+        return latestMetrics.get();
     }
 
     // 성능 등급 반환 (FPS 조정에 활용)
@@ -295,9 +764,18 @@ public class PerformanceMonitor {
         if (metrics.availableMemoryMB <= 100) grade -= 20;
         else if (metrics.availableMemoryMB <= 200) grade -= 10;
 
+        // 🆕 발열 상태에 따른 차감
+        if (metrics.thermalStatus >= ThermalSource.STATUS_MODERATE) grade -= 20;
+        else if (metrics.thermalStatus == ThermalSource.STATUS_LIGHT) grade -= 10;
+
         return Math.max(10, Math.min(100, grade)); // 10-100 범위로 제한
     }
 
+    // 🆕 에너지 측정기 (현재 FPS/기능 조합 설정, 비용표 조회)
+    public EnergyEstimator getEnergyEstimator() {
+        return energyEstimator;
+    }
+
     public boolean isMonitoring() {
         return isMonitoring;
     }
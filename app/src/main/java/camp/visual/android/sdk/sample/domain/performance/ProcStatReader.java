@@ -0,0 +1,250 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.system.Os;
+import android.system.OsConstants;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * 🆕 /proc/stat, /proc/self/stat 누적 CPU 시간 읽기 (할당 없는 파서)
+ * - 파일은 한 번 열어 두고 매번 처음으로 되감아 재사용 버퍼에 읽음
+ * - split/정규식 없이 바이트 단위로 숫자 파싱
+ * - 사용률은 호출 측이 두 샘플의 차이로 계산
+ *
+ * Android 8.0+ 에서는 앱이 /proc/stat을 읽을 수 없으므로 시스템 값은 없을 수 있음 (프로세스 값은 항상 가능)
+ * 샘플러 스레드 전용
+ */
+class ProcStatReader {
+
+    private static final String SYSTEM_STAT = "/proc/stat";
+    private static final String SELF_STAT = "/proc/self/stat";
+
+    // /proc/self/stat에서 ')' 다음 필드 기준 utime(14번째), stime(15번째) 위치
+    private static final int UTIME_FIELD = 11;
+    private static final int STIME_FIELD = 12;
+    private static final int STARTTIME_FIELD = 19;
+
+    private final byte[] buffer = new byte[1024];
+    private final long clockTicksPerSecond;
+
+    private RandomAccessFile systemFile;
+    private RandomAccessFile selfFile;
+    private boolean systemAvailable = true;
+
+    // readSystem() 결과
+    private long systemTotal;
+    private long systemIdle;
+
+    ProcStatReader() {
+        long ticks = 100;
+        try {
+            ticks = Os.sysconf(OsConstants._SC_CLK_TCK);
+        } catch (Exception ignored) {
+            // 기본값 100Hz
+        }
+        clockTicksPerSecond = ticks > 0 ? ticks : 100;
+    }
+
+    long getClockTicksPerSecond() {
+        return clockTicksPerSecond;
+    }
+
+    /**
+     * /proc/stat 첫 줄(cpu 합계) 읽기 - 성공하면 getSystemTotal/Idle로 조회
+     */
+    boolean readSystem() {
+        if (!systemAvailable) {
+            return false;
+        }
+        try {
+            if (systemFile == null) {
+                systemFile = new RandomAccessFile(SYSTEM_STAT, "r");
+            }
+            int length = readFully(systemFile, buffer);
+            return parseSystem(length);
+        } catch (IOException | SecurityException e) {
+            // 접근 불가 기기 - 이후에는 시도하지 않음
+            systemAvailable = false;
+            closeQuietly(systemFile);
+            systemFile = null;
+            return false;
+        }
+    }
+
+    long getSystemTotal() {
+        return systemTotal;
+    }
+
+    long getSystemIdle() {
+        return systemIdle;
+    }
+
+    /**
+     * 이 프로세스의 누적 CPU 시간 (utime + stime, 클록 틱), 실패 시 -1
+     */
+    long readProcessTicks() {
+        try {
+            if (selfFile == null) {
+                selfFile = new RandomAccessFile(SELF_STAT, "r");
+            }
+            int length = readFully(selfFile, buffer);
+            return parseTicks(buffer, length);
+        } catch (IOException e) {
+            closeQuietly(selfFile);
+            selfFile = null;
+            return -1;
+        }
+    }
+
+    void close() {
+        closeQuietly(systemFile);
+        closeQuietly(selfFile);
+        systemFile = null;
+        selfFile = null;
+    }
+
+    static int readFully(RandomAccessFile file, byte[] buffer) throws IOException {
+        file.seek(0);
+        int total = 0;
+        while (total < buffer.length) {
+            int read = file.read(buffer, total, buffer.length - total);
+            if (read <= 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    // "cpu  user nice system idle iowait irq softirq steal ..." (idle = idle + iowait)
+    private boolean parseSystem(int length) {
+        if (length < 4 || buffer[0] != 'c' || buffer[1] != 'p' || buffer[2] != 'u' || buffer[3] != ' ') {
+            return false;
+        }
+        long total = 0;
+        long idle = 0;
+        int field = 0;
+        int i = 4;
+        while (i < length && buffer[i] != '\n') {
+            byte c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                long value = 0;
+                while (i < length && buffer[i] >= '0' && buffer[i] <= '9') {
+                    value = value * 10 + (buffer[i] - '0');
+                    i++;
+                }
+                // guest/guest_nice(9, 10번째)는 user/nice에 이미 포함
+                if (field < 8) {
+                    total += value;
+                    if (field == 3 || field == 4) {
+                        idle += value;
+                    }
+                }
+                field++;
+            } else {
+                i++;
+            }
+        }
+        if (field < 4) {
+            return false;
+        }
+        systemTotal = total;
+        systemIdle = idle;
+        return true;
+    }
+
+    /**
+     * "pid (comm) state ppid ..." 형식(/proc/[pid]/stat, /proc/[pid]/task/[tid]/stat)에서 utime + stime
+     * comm에 공백/괄호가 있을 수 있으므로 마지막 ')' 이후부터 셈
+     * @return 형식이 맞지 않으면 -1
+     */
+    static long parseTicks(byte[] buffer, int length) {
+        int i = length - 1;
+        while (i >= 0 && buffer[i] != ')') {
+            i--;
+        }
+        if (i < 0) {
+            return -1;
+        }
+        i++;
+
+        int field = -1;
+        long utime = -1;
+        while (i < length) {
+            // 공백 건너뛰기
+            while (i < length && buffer[i] == ' ') {
+                i++;
+            }
+            if (i >= length || buffer[i] == '\n') {
+                break;
+            }
+            field++;
+            if (field == UTIME_FIELD || field == STIME_FIELD) {
+                long value = 0;
+                while (i < length && buffer[i] >= '0' && buffer[i] <= '9') {
+                    value = value * 10 + (buffer[i] - '0');
+                    i++;
+                }
+                if (field == UTIME_FIELD) {
+                    utime = value;
+                } else {
+                    return utime + value;
+                }
+            }
+            // 현재 필드 끝까지 이동
+            while (i < length && buffer[i] != ' ' && buffer[i] != '\n') {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 🆕 같은 형식에서 시작 시각 (부팅 후 클록 틱) - tid/pid 재사용 구분용
+     * @return 형식이 맞지 않으면 -1
+     */
+    static long parseStartTime(byte[] buffer, int length) {
+        int i = length - 1;
+        while (i >= 0 && buffer[i] != ')') {
+            i--;
+        }
+        if (i < 0) {
+            return -1;
+        }
+        i++;
+
+        int field = -1;
+        while (i < length) {
+            while (i < length && buffer[i] == ' ') {
+                i++;
+            }
+            if (i >= length || buffer[i] == '\n') {
+                break;
+            }
+            field++;
+            if (field == STARTTIME_FIELD) {
+                long value = 0;
+                while (i < length && buffer[i] >= '0' && buffer[i] <= '9') {
+                    value = value * 10 + (buffer[i] - '0');
+                    i++;
+                }
+                return value;
+            }
+            while (i < length && buffer[i] != ' ' && buffer[i] != '\n') {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static void closeQuietly(RandomAccessFile file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
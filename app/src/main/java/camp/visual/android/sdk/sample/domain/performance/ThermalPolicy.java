@@ -0,0 +1,106 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+/**
+ * 🌡️ 발열 정책 - OS가 강제로 스로틀링하기 전에 먼저 부하를 낮춤
+ * - 입력: 발열 상태(PowerManager 단계) + 예측 발열 여유 (1.0 = 심한 스로틀링)
+ * - 출력: 단계별 최대 FPS 상한, 필터 간소화 여부
+ * - 여유 값은 OS 상태보다 먼저 올라가므로 여유 기준으로 한 단계 일찍 내림
+ * - 올라갈 때는 즉시, 내려올 때는 여유가 기준보다 충분히 낮은 상태가 일정 시간 유지되어야 함
+ *
+ * Android 의존성 없음 (가짜 ThermalSource 값으로 JVM에서 검증 가능)
+ */
+public class ThermalPolicy {
+
+    public enum Level {
+        NORMAL(30, false),
+        WARM(20, true),
+        HOT(15, true),
+        CRITICAL(10, true);
+
+        public final int maxFps;
+        public final boolean reducedFilter;   // 보조 필터/시선 안정화 블렌딩 생략
+
+        Level(int maxFps, boolean reducedFilter) {
+            this.maxFps = maxFps;
+            this.reducedFilter = reducedFilter;
+        }
+    }
+
+    // 예측 여유 기준 (단계 진입)
+    private static final float WARM_HEADROOM = 0.75f;
+    private static final float HOT_HEADROOM = 0.9f;
+    private static final float CRITICAL_HEADROOM = 1.0f;
+
+    // 단계 해제 여유 폭 / 최소 유지 시간
+    private static final float RELEASE_MARGIN = 0.05f;
+    private static final long MIN_HOLD_MS = 30_000;
+
+    private Level level = Level.NORMAL;
+    private long levelSinceMs = 0;
+
+    /**
+     * 샘플마다 호출
+     * @param headroom 예측 발열 여유 (지원하지 않으면 NaN - 상태만으로 판단)
+     * @return 바뀌었으면 새 단계, 아니면 null
+     */
+    public Level update(long nowMs, int status, float headroom) {
+        Level target = max(levelForStatus(status), levelForHeadroom(headroom, 0f));
+
+        if (target.ordinal() > level.ordinal()) {
+            return change(target, nowMs);
+        }
+        if (target.ordinal() < level.ordinal() && nowMs - levelSinceMs >= MIN_HOLD_MS) {
+            // 해제 여유 폭까지 내려와야 한 단계씩 완화 (경계에서 흔들림 방지)
+            Level released = max(levelForStatus(status), levelForHeadroom(headroom, RELEASE_MARGIN));
+            if (released.ordinal() < level.ordinal()) {
+                return change(Level.values()[level.ordinal() - 1], nowMs);
+            }
+        }
+        return null;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void reset() {
+        level = Level.NORMAL;
+        levelSinceMs = 0;
+    }
+
+    private Level change(Level next, long nowMs) {
+        level = next;
+        levelSinceMs = nowMs;
+        return next;
+    }
+
+    // OS 상태 - LIGHT부터 이미 OS가 조절을 시작하므로 한 단계 위로 대응
+    private static Level levelForStatus(int status) {
+        if (status >= ThermalSource.STATUS_SEVERE) {
+            return Level.CRITICAL;
+        } else if (status == ThermalSource.STATUS_MODERATE) {
+            return Level.HOT;
+        } else if (status == ThermalSource.STATUS_LIGHT) {
+            return Level.WARM;
+        }
+        return Level.NORMAL;
+    }
+
+    private static Level levelForHeadroom(float headroom, float margin) {
+        if (Float.isNaN(headroom)) {
+            return Level.NORMAL;
+        }
+        if (headroom >= CRITICAL_HEADROOM - margin) {
+            return Level.CRITICAL;
+        } else if (headroom >= HOT_HEADROOM - margin) {
+            return Level.HOT;
+        } else if (headroom >= WARM_HEADROOM - margin) {
+            return Level.WARM;
+        }
+        return Level.NORMAL;
+    }
+
+    private static Level max(Level a, Level b) {
+        return a.ordinal() >= b.ordinal() ? a : b;
+    }
+}
@@ -0,0 +1,36 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+/**
+ * 🌡️ 발열 상태 공급원
+ * - 실제 기기: PowerManager 기반 (AndroidThermalSource)
+ * - 테스트: 가짜 구현으로 상태/여유를 직접 주입해 ThermalPolicy 검증
+ *
+ * 상태 값은 PowerManager.THERMAL_STATUS_* 와 같음 (0 = NONE ~ 6 = SHUTDOWN)
+ */
+public interface ThermalSource {
+
+    int STATUS_NONE = 0;
+    int STATUS_LIGHT = 1;
+    int STATUS_MODERATE = 2;
+    int STATUS_SEVERE = 3;
+    int STATUS_CRITICAL = 4;
+    int STATUS_EMERGENCY = 5;
+    int STATUS_SHUTDOWN = 6;
+
+    interface Listener {
+        // 상태가 바뀔 때 (호출 스레드는 구현에 따름)
+        void onThermalStatusChanged(int status);
+    }
+
+    void start(Listener listener);
+
+    void stop();
+
+    int getThermalStatus();
+
+    /**
+     * 발열 여유 예측 (1.0 = 심한 스로틀링 시작 지점), 지원하지 않으면 NaN
+     * @param forecastSeconds 몇 초 뒤를 예측할지
+     */
+    float getThermalHeadroom(int forecastSeconds);
+}
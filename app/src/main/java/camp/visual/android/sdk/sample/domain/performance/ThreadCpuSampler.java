@@ -0,0 +1,168 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import android.os.Process;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * 🆕 이 프로세스의 스레드별 CPU 사용량 (/proc/self/task/[tid]/stat)
+ * - 스레드별 누적 CPU 시간(utime + stime)의 샘플 간 차이 → 상위 N개 표
+ * - 읽기 버퍼와 스레드 항목은 재사용 (스레드 이름 문자열은 처음 본 스레드에서만 만듦)
+ * - 사라진 스레드는 항목 제거, 같은 tid가 다시 쓰이면 (시작 시각이 다르면) 항목을 새 스레드로 초기화
+ * - 너무 자주 호출되면 이전 결과를 그대로 반환 (MIN_INTERVAL_MS)
+ *
+ * 사용률은 코어 하나 기준 % (top과 같음, 여러 코어를 쓰면 100 초과 가능)
+ * 수집 스레드 전용
+ */
+class ThreadCpuSampler {
+
+    private static final String TASK_DIR = "/proc/self/task";
+    private static final int TOP_N = 8;
+    private static final long MIN_INTERVAL_MS = 3000;
+
+    private static final class Entry {
+        String name;
+        long prevTicks = -1;
+        long startTime = -1;   // stat의 starttime - 샘플 사이에 tid가 재사용되었는지 확인
+        long deltaTicks;
+        long seenSequence;
+    }
+
+    private final File taskDir = new File(TASK_DIR);
+    private final byte[] buffer = new byte[512];
+    private int lastLength;
+    private final HashMap<Integer, Entry> entries = new HashMap<>();
+    private final long clockTicksPerSecond;
+    private final int mainTid = Process.myPid();
+
+    private long sequence = 0;
+    private long prevSampleMs = -1;
+    private PerformanceMonitor.ThreadCpuStats lastStats = PerformanceMonitor.ThreadCpuStats.EMPTY;
+
+    // 상위 N개 선택용 (재사용)
+    private final Entry[] top = new Entry[TOP_N];
+    private final int[] topTids = new int[TOP_N];
+
+    ThreadCpuSampler(long clockTicksPerSecond) {
+        this.clockTicksPerSecond = clockTicksPerSecond > 0 ? clockTicksPerSecond : 100;
+    }
+
+    PerformanceMonitor.ThreadCpuStats sample(long nowMs) {
+        if (prevSampleMs >= 0 && nowMs - prevSampleMs < MIN_INTERVAL_MS) {
+            return lastStats;
+        }
+        String[] tids = taskDir.list();
+        if (tids == null) {
+            return lastStats;
+        }
+
+        sequence++;
+        int topCount = 0;
+        for (String tidName : tids) {
+            int tid;
+            try {
+                tid = Integer.parseInt(tidName);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            Entry entry = entries.get(tid);
+            boolean isNew = entry == null;
+            long ticks = readTicks(tidName);
+            if (ticks < 0) {
+                continue;
+            }
+            long startTime = ProcStatReader.parseStartTime(buffer, lastLength);
+            if (isNew) {
+                entry = new Entry();
+                entries.put(tid, entry);
+            }
+            if (isNew || entry.startTime != startTime) {
+                // 처음 본 스레드 또는 종료된 스레드의 tid를 새 스레드가 받은 경우
+                entry.name = tid == mainTid ? "main" : parseName();
+                entry.prevTicks = -1;
+                entry.startTime = startTime;
+            }
+            entry.deltaTicks = entry.prevTicks < 0 ? 0 : Math.max(0, ticks - entry.prevTicks);
+            entry.prevTicks = ticks;
+            entry.seenSequence = sequence;
+
+            topCount = insertTop(entry, tid, topCount);
+        }
+
+        // 사라진 스레드 정리
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().seenSequence != sequence) {
+                it.remove();
+            }
+        }
+
+        long elapsedMs = prevSampleMs < 0 ? 0 : nowMs - prevSampleMs;
+        prevSampleMs = nowMs;
+
+        String[] names = new String[topCount];
+        int[] tidsOut = new int[topCount];
+        float[] cpu = new float[topCount];
+        for (int i = 0; i < topCount; i++) {
+            names[i] = top[i].name;
+            tidsOut[i] = topTids[i];
+            cpu[i] = elapsedMs > 0 ? top[i].deltaTicks * 1000f / clockTicksPerSecond * 100f / elapsedMs : 0f;
+            top[i] = null;
+        }
+        lastStats = new PerformanceMonitor.ThreadCpuStats(names, tidsOut, cpu, entries.size());
+        return lastStats;
+    }
+
+    // CPU 사용량 내림차순으로 상위 N개 유지 (삽입 정렬)
+    private int insertTop(Entry entry, int tid, int count) {
+        int position = count;
+        while (position > 0 && top[position - 1].deltaTicks < entry.deltaTicks) {
+            position--;
+        }
+        if (position >= TOP_N) {
+            return count;
+        }
+        int last = Math.min(count, TOP_N - 1);
+        for (int i = last; i > position; i--) {
+            top[i] = top[i - 1];
+            topTids[i] = topTids[i - 1];
+        }
+        top[position] = entry;
+        topTids[position] = tid;
+        return Math.min(count + 1, TOP_N);
+    }
+
+    private long readTicks(String tidName) {
+        try (RandomAccessFile file = new RandomAccessFile(TASK_DIR + "/" + tidName + "/stat", "r")) {
+            lastLength = ProcStatReader.readFully(file, buffer);
+            return ProcStatReader.parseTicks(buffer, lastLength);
+        } catch (IOException e) {
+            // 읽는 사이 종료된 스레드
+            return -1;
+        }
+    }
+
+    // 마지막으로 읽은 stat의 "(comm)" 부분
+    private String parseName() {
+        int start = -1;
+        for (int i = 0; i < lastLength; i++) {
+            if (buffer[i] == '(') {
+                start = i + 1;
+                break;
+            }
+        }
+        int end = lastLength - 1;
+        while (end >= 0 && buffer[end] != ')') {
+            end--;
+        }
+        if (start < 0 || end < start) {
+            return "?";
+        }
+        return new String(buffer, start, end - start);
+    }
+}
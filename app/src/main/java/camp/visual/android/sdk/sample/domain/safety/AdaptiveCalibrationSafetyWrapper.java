@@ -31,6 +31,16 @@ public class AdaptiveCalibrationSafetyWrapper {
     private int consecutiveAdaptations = 0;
     private static final int MAX_CONSECUTIVE_ADAPTATIONS = 3;
     
+    // 🆕 승인된 조정을 실제로 적용할 대상
+    private AdaptationListener listener;
+    
+    public interface AdaptationListener {
+        /** 안전 검증을 통과한 (필요시 스케일링된) 조정량 */
+        void onAdaptationApplied(float adjustmentX, float adjustmentY);
+        /** 누적 드리프트 한계 등으로 재캘리브레이션이 필요할 때 */
+        void onRecalibrationRequested(String reason);
+    }
+    
     public AdaptiveCalibrationSafetyWrapper(AdaptiveCalibrationManager manager) {
         this.adaptiveManager = manager;
         this.sessionStartTime = System.currentTimeMillis();
@@ -38,6 +48,10 @@ public class AdaptiveCalibrationSafetyWrapper {
         Log.d(TAG, "적응형 캘리브레이션 안전 래퍼 초기화");
     }
     
+    public void setAdaptationListener(AdaptationListener listener) {
+        this.listener = listener;
+    }
+    
     /**
      * 🛡️ 안전한 적응형 조정 적용
      */
@@ -101,8 +115,10 @@ public class AdaptiveCalibrationSafetyWrapper {
         Log.d(TAG, String.format("안전한 적응형 조정 적용: (%.2f, %.2f) - 누적: (%.2f, %.2f)", 
               adjustmentX, adjustmentY, totalDriftX, totalDriftY));
         
-        // 실제 적응형 매니저에 적용 (필요시)
-        // adaptiveManager.applyAdjustment(adjustmentX, adjustmentY);
+        // 🔧 실제 적용은 리스너가 담당 (스케일링된 조정량 전달)
+        if (listener != null) {
+            listener.onAdaptationApplied(adjustmentX, adjustmentY);
+        }
         
         return true;
     }
@@ -135,8 +151,9 @@ public class AdaptiveCalibrationSafetyWrapper {
     private void requestRecalibration(String reason) {
         Log.w(TAG, "재캘리브레이션 요청: " + reason);
         
-        // TODO: 사용자에게 재캘리브레이션 알림
-        // 또는 MainActivity/GazeTrackingService에 알림 전송
+        if (listener != null) {
+            listener.onRecalibrationRequested(reason);
+        }
         
         // 통계 기록
         recordRecalibrationRequest(reason);
@@ -3,191 +3,202 @@ package camp.visual.android.sdk.sample.domain.safety;
 import android.graphics.PointF;
 import android.util.Log;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import camp.visual.android.sdk.sample.core.utils.TokenBucket;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationHistoryLog;
+import camp.visual.android.sdk.sample.domain.calibration.CalibrationValidator;
 
 /**
  * 🔒 캘리브레이션 안전성 관리자
  * - 과도한 캘리브레이션 반복 방지
  * - 드리프트 감지 및 품질 검증
- * - 캘리브레이션 이력 추적
+ * - 캘리브레이션 이력 추적 (CalibrationHistoryLog - 재시작 후에도 유지)
  */
 public class CalibrationSafetyManager {
     private static final String TAG = "CalibrationSafety";
     
-    // 캘리브레이션 이력 추적
-    private List<CalibrationRecord> calibrationHistory = new ArrayList<>();
-    private long lastCalibrationTime = 0;
+    // 🔧 캘리브레이션 이력 - 고정 용량 링 + 파일 (서비스/액티비티 공유)
+    private final CalibrationHistoryLog history;
+    private long seenSequence = 0; // 빈도 제한에 반영한 이력 항목 수
+    
     private static final long MIN_CALIBRATION_INTERVAL = 30000; // 30초 최소 간격
+    private static final int MAX_CALIBRATIONS_PER_HOUR = 5;
     
-    // 드리프트 감지를 위한 기준점들
-    private long lastDriftCheck = 0;
-    private static final long DRIFT_CHECK_INTERVAL = 60000; // 1분마다 체크
+    // 🔧 빈도 제한은 토큰 버킷으로 (매 조회마다 이력 스캔 대신 O(1))
+    private final TokenBucket intervalBucket = new TokenBucket(1, MIN_CALIBRATION_INTERVAL);
+    private final TokenBucket hourlyBucket =
+            new TokenBucket(MAX_CALIBRATIONS_PER_HOUR, 3600000L / MAX_CALIBRATIONS_PER_HOUR);
     
-    public static class CalibrationRecord {
-        public final double[] calibrationData;
-        public final long timestamp;
-        public final float qualityScore;
-        public final PointF centerOffset; // 중심점 오프셋 추적
-        
-        public CalibrationRecord(double[] data, float quality, PointF offset) {
-            this.calibrationData = data != null ? data.clone() : new double[0];
-            this.timestamp = System.currentTimeMillis();
-            this.qualityScore = quality;
-            this.centerOffset = new PointF(offset.x, offset.y);
-        }
+    // 🔧 검증 단계 없이 끝난 캘리브레이션 - 좋은 품질로 오인되지 않도록 "미확인" 표시 (평균에서 제외)
+    public static final float QUALITY_UNKNOWN = Float.NaN;
+    
+    public static boolean isQualityKnown(float quality) {
+        return !Float.isNaN(quality);
+    }
+    
+    public CalibrationSafetyManager(CalibrationHistoryLog history) {
+        this.history = history;
+        // 이전 실행의 이력을 빈도 제한에 반영
+        syncRateLimits();
     }
     
     // 🚨 캘리브레이션 전 안전성 검사
     public boolean isSafeToCalibrate() {
         long currentTime = System.currentTimeMillis();
+        syncRateLimits();
         
         // 1. 최소 간격 체크
-        if (currentTime - lastCalibrationTime < MIN_CALIBRATION_INTERVAL) {
-            long remainingTime = MIN_CALIBRATION_INTERVAL - (currentTime - lastCalibrationTime);
+        if (!intervalBucket.canAcquire(currentTime)) {
+            long remainingTime = intervalBucket.millisUntilAvailable(currentTime);
             Log.w(TAG, "캘리브레이션 너무 빠름 - " + (remainingTime / 1000) + "초 후 재시도");
             return false;
         }
         
-        // 2. 과도한 반복 체크 (1시간 내 5회 이상)
-        long oneHourAgo = currentTime - 3600000;
-        long recentCalibrations = calibrationHistory.stream()
-            .filter(record -> record.timestamp > oneHourAgo)
-            .count();
-            
-        if (recentCalibrations >= 5) {
-            Log.w(TAG, "과도한 캘리브레이션 반복 감지 - 1시간 후 재시도");
+        // 2. 과도한 반복 체크 (시간당 5회)
+        if (!hourlyBucket.canAcquire(currentTime)) {
+            Log.w(TAG, "과도한 캘리브레이션 반복 감지 - " + (hourlyBucket.millisUntilAvailable(currentTime) / 60000) + "분 후 재시도");
             return false;
         }
         
         return true;
     }
     
+    // 🆕 빈도 제한상 다음 캘리브레이션이 가능해질 때까지 남은 시간 (ms, 로그 없음)
+    public long getMillisUntilSafe() {
+        long currentTime = System.currentTimeMillis();
+        syncRateLimits();
+        return Math.max(intervalBucket.millisUntilAvailable(currentTime),
+                hourlyBucket.millisUntilAvailable(currentTime));
+    }
+    
     // 🔍 캘리브레이션 완료 후 품질 검증
     public void validateCalibration(double[] calibrationData, PointF currentOffset) {
-        lastCalibrationTime = System.currentTimeMillis();
-        
+        validateCalibration(calibrationData, currentOffset, null, null);
+    }
+    
+    // 🆕 검증 단계 결과가 있으면 실측 오차 기반으로 품질 평가
+    public void validateCalibration(double[] calibrationData, PointF currentOffset,
+                                    CalibrationValidator.Result validation) {
+        validateCalibration(calibrationData, currentOffset, validation, null);
+    }
+    
+    /**
+     * 🆕 품질 평가 후 이력에 기록
+     * @param payloadRef 보정 데이터가 저장된 위치 (프로필 키 등, 이력에는 데이터 대신 참조만 보관)
+     */
+    public void validateCalibration(double[] calibrationData, PointF currentOffset,
+                                    CalibrationValidator.Result validation, String payloadRef) {
         // 품질 점수 계산
-        float qualityScore = calculateQualityScore(calibrationData);
-        
-        // 이력 저장
-        CalibrationRecord record = new CalibrationRecord(calibrationData, qualityScore, currentOffset);
-        calibrationHistory.add(record);
+        float qualityScore = calculateQualityScore(calibrationData, validation);
         
-        // 오래된 이력 정리 (7일 이상)
-        long weekAgo = System.currentTimeMillis() - (7 * 24 * 3600000L);
-        calibrationHistory.removeIf(r -> r.timestamp < weekAgo);
+        // 이력 저장 + 빈도 제한 반영
+        history.append(System.currentTimeMillis(), qualityScore, currentOffset.x, currentOffset.y, payloadRef);
+        syncRateLimits();
         
         // 품질 경고
-        if (qualityScore < 0.7f) {
+        if (!isQualityKnown(qualityScore)) {
+            Log.w(TAG, "캘리브레이션 품질 미확인 (검증 시선 없음)");
+        } else if (qualityScore < 0.7f) {
             Log.w(TAG, "캘리브레이션 품질 낮음: " + qualityScore + " - 재시도 권장");
         }
         
         // 드리프트 체크
-        checkForDrift(record);
+        checkForDrift();
         
-        Log.d(TAG, "캘리브레이션 완료 - 품질: " + qualityScore + ", 총 이력: " + calibrationHistory.size());
+        Log.d(TAG, "캘리브레이션 완료 - 품질: " + qualityScore + ", 총 이력: " + history.size());
+    }
+    
+    // 🆕 이 관리자가 아직 반영하지 않은 이력(다른 화면에서 한 보정 포함)을 토큰 버킷에 반영
+    private void syncRateLimits() {
+        long sequence = history.getSequence();
+        if (sequence == seenSequence) {
+            return;
+        }
+        int size = history.size();
+        int newEntries = (int) Math.min(size, sequence - seenSequence);
+        for (int i = size - newEntries; i < size; i++) {
+            long timestamp = history.getTimestamp(i);
+            intervalBucket.consume(timestamp);
+            hourlyBucket.consume(timestamp);
+        }
+        seenSequence = sequence;
     }
     
     // 🎯 드리프트 감지 알고리즘
-    private void checkForDrift(CalibrationRecord newRecord) {
-        if (calibrationHistory.size() < 2) return;
-        
+    private void checkForDrift() {
         // 최근 3개 캘리브레이션의 중심점 오프셋 비교
-        List<CalibrationRecord> recent = calibrationHistory.stream()
-            .skip(Math.max(0, calibrationHistory.size() - 3))
-            .collect(Collectors.toList());
-            
-        if (recent.size() >= 3) {
-            float avgDriftX = 0, avgDriftY = 0;
-            PointF baseline = recent.get(0).centerOffset;
-            
-            for (int i = 1; i < recent.size(); i++) {
-                PointF current = recent.get(i).centerOffset;
-                avgDriftX += (current.x - baseline.x);
-                avgDriftY += (current.y - baseline.y);
-            }
-            
-            avgDriftX /= (recent.size() - 1);
-            avgDriftY /= (recent.size() - 1);
-            
-            // 드리프트 임계값 (20픽셀 이상)
-            float driftMagnitude = (float) Math.sqrt(avgDriftX * avgDriftX + avgDriftY * avgDriftY);
-            
-            if (driftMagnitude > 20.0f) {
-                Log.w(TAG, "시스템 드리프트 감지! 평균 이동: " + driftMagnitude + "px");
-                // TODO: 사용자에게 알림 또는 자동 보정 제안
-            }
+        int size = history.size();
+        if (size < 3) return;
+        
+        int base = size - 3;
+        float baselineX = history.getOffsetX(base);
+        float baselineY = history.getOffsetY(base);
+        float avgDriftX = 0, avgDriftY = 0;
+        
+        for (int i = base + 1; i < size; i++) {
+            avgDriftX += (history.getOffsetX(i) - baselineX);
+            avgDriftY += (history.getOffsetY(i) - baselineY);
+        }
+        
+        avgDriftX /= 2;
+        avgDriftY /= 2;
+        
+        // 드리프트 임계값 (20픽셀 이상)
+        float driftMagnitude = (float) Math.sqrt(avgDriftX * avgDriftX + avgDriftY * avgDriftY);
+        
+        if (driftMagnitude > 20.0f) {
+            // 보정 사이의 경향만 기록 - 재보정 여부는 사용 중 실측 드리프트로 판단 (RecalibrationScheduler)
+            Log.w(TAG, "시스템 드리프트 감지! 평균 이동: " + driftMagnitude + "px");
         }
     }
     
-    private float calculateQualityScore(double[] calibrationData) {
-        // SDK에서 제공하는 품질 데이터 기반으로 계산
-        // 현재는 단순 예시 - 실제로는 calibrationData 분석 필요
+    // 🔧 실측 검증 결과 기반 품질 점수 (검증 불가 시 QUALITY_UNKNOWN)
+    private float calculateQualityScore(double[] calibrationData, CalibrationValidator.Result validation) {
         if (calibrationData == null || calibrationData.length == 0) {
             return 0.5f;
         }
         
-        // 간단한 품질 평가 (데이터 길이와 분산 기반)
-        float baseScore = 0.7f;
-        if (calibrationData.length >= 10) { // 충분한 데이터
-            baseScore += 0.1f;
+        if (validation != null && validation.isValid()) {
+            Log.d(TAG, "검증 결과: " + validation);
+            return validation.getQualityScore();
         }
         
-        // 추가적인 품질 평가 로직 필요시 여기에 추가
-        return Math.min(1.0f, baseScore + (float)(Math.random() * 0.2f));
+        // 검증 시선 데이터가 없는 경로 (액티비티 단독 보정 등) - 점수를 만들어 내지 않음
+        return QUALITY_UNKNOWN;
     }
     
-    // 📊 캘리브레이션 통계 정보
+    // 📊 캘리브레이션 통계 정보 (분/시간 버킷 집계 - 이력 스캔 없음)
     public String getCalibrationStats() {
         long currentTime = System.currentTimeMillis();
-        long oneHourAgo = currentTime - 3600000;
-        long oneDayAgo = currentTime - (24 * 3600000);
         
-        long recentHour = calibrationHistory.stream()
-            .filter(record -> record.timestamp > oneHourAgo)
-            .count();
-            
-        long recentDay = calibrationHistory.stream()
-            .filter(record -> record.timestamp > oneDayAgo)
-            .count();
-            
-        float avgQuality = calibrationHistory.stream()
-            .filter(record -> record.timestamp > oneDayAgo)
-            .map(record -> record.qualityScore)
-            .reduce(0f, Float::sum) / Math.max(1, recentDay);
-            
+        float averageQuality = history.averageQualityLastDay(currentTime);
         return String.format("캘리브레이션 통계:\n" +
                 "- 지난 1시간: %d회\n" +
                 "- 지난 24시간: %d회\n" +
-                "- 평균 품질: %.2f\n" +
+                "- 평균 품질: %s\n" +
                 "- 총 이력: %d회",
-                recentHour, recentDay, avgQuality, calibrationHistory.size());
+                history.countLastHour(currentTime), history.countLastDay(currentTime),
+                isQualityKnown(averageQuality) ? String.format("%.2f", averageQuality) : "미확인",
+                history.size());
     }
     
     // 강제 리셋 (디버깅용)
     public void reset() {
-        calibrationHistory.clear();
-        lastCalibrationTime = 0;
+        history.clear();
+        intervalBucket.reset();
+        hourlyBucket.reset();
+        seenSequence = history.getSequence();
         Log.d(TAG, "캘리브레이션 안전성 관리자 리셋");
     }
     
-    // 마지막 캘리브레이션 품질 조회
+    // 마지막 캘리브레이션 품질 조회 (검증 없이 끝났으면 QUALITY_UNKNOWN)
     public float getLastCalibrationQuality() {
-        if (calibrationHistory.isEmpty()) return 0f;
-        return calibrationHistory.get(calibrationHistory.size() - 1).qualityScore;
+        int size = history.size();
+        if (size == 0) return 0f;
+        return history.getQuality(size - 1);
     }
     
     // 다음 캘리브레이션까지 남은 시간 (초)
     public long getTimeUntilNextCalibration() {
-        long currentTime = System.currentTimeMillis();
-        long timeSinceLastCalibration = currentTime - lastCalibrationTime;
-        
-        if (timeSinceLastCalibration >= MIN_CALIBRATION_INTERVAL) {
-            return 0; // 즉시 가능
-        }
-        
-        return (MIN_CALIBRATION_INTERVAL - timeSinceLastCalibration) / 1000;
+        return getMillisUntilSafe() / 1000;
     }
 }
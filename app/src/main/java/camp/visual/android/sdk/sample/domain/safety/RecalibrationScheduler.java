@@ -0,0 +1,216 @@
+package camp.visual.android.sdk.sample.domain.safety;
+
+import android.util.Log;
+
+import java.util.PriorityQueue;
+
+import camp.visual.android.sdk.sample.core.utils.TokenBucket;
+import camp.visual.android.sdk.sample.domain.calibration.AdaptiveCalibrationManager;
+import camp.visual.android.sdk.sample.domain.calibration.DriftEstimator;
+
+/**
+ * 🗓️ 재보정 스케줄러 - "언제 다시 보정할지"를 한 곳에서 결정
+ * - 실측 드리프트, 보정 품질 평가, 누적 적응 한계가 각자 재보정 요청을 올림
+ * - 요청은 우선순위 큐에 쌓이고 출처별로 최신 요청 하나만 유효 (이전 요청은 지연 삭제)
+ * - 빈도 제한: 보정 자체는 CalibrationSafetyManager의 토큰 버킷, 안내/자동 보정은 자체 버킷
+ * - 사용자 상태(집중도/졸음 윈도우)가 나쁘면 급하지 않은 요청은 미룸
+ *
+ * decide()는 큐 머리만 확인하므로 호출당 O(1) (만료/대체된 요청 정리는 분할 상환 O(1))
+ */
+public class RecalibrationScheduler {
+
+    private static final String TAG = "RecalibrationScheduler";
+
+    /**
+     * 요청 출처 (기본 우선순위)
+     */
+    public enum Source {
+        QUALITY(1.0f),              // 검증 결과 품질 미달
+        DRIFT(0.9f),                // 사용 중 실측 드리프트
+        ADAPTATION_LIMIT(0.8f);     // 암묵적 보정 누적 한계
+
+        final float basePriority;
+
+        Source(float basePriority) {
+            this.basePriority = basePriority;
+        }
+    }
+
+    public static final class Request {
+        public final Source source;
+        public final float urgency;     // 0~1
+        public final String reason;
+        public final long createdAtMs;
+        final float priority;
+        boolean active = true;
+
+        Request(Source source, float urgency, String reason, long createdAtMs) {
+            this.source = source;
+            this.urgency = urgency;
+            this.reason = reason;
+            this.createdAtMs = createdAtMs;
+            this.priority = source.basePriority * urgency;
+        }
+    }
+
+    /**
+     * decide() 결과 - request가 null이 아니면 지금 실행, 아니면 retryAfterMs 뒤 다시 확인 (0이면 대기 요청 없음)
+     */
+    public static final class Decision {
+        static final Decision IDLE = new Decision(null, 0);
+
+        public final Request request;
+        public final long retryAfterMs;
+
+        Decision(Request request, long retryAfterMs) {
+            this.request = request;
+            this.retryAfterMs = retryAfterMs;
+        }
+
+        public boolean shouldRecalibrate() {
+            return request != null;
+        }
+    }
+
+    // 실측 드리프트 재보정 기준
+    private static final float DRIFT_RECALIBRATION_PX = 60f;  // 약 1.5° (일반적인 휴대폰 밀도/거리)
+    private static final float MIN_DRIFT_CONFIDENCE = 0.6f;
+    private static final float DRIFT_FULL_URGENCY_PX = 120f;
+
+    // 이 이상 급한 요청은 사용자 상태와 무관하게 진행
+    private static final float URGENT = 0.8f;
+
+    // 요청 유효 시간 (상황이 바뀌었을 수 있으므로 오래된 요청은 버림)
+    private static final long REQUEST_TTL_MS = 10 * 60 * 1000;
+
+    // 사용자 상태 때문에 미룬 경우 재확인 간격
+    private static final long USER_STATE_RETRY_MS = 10_000;
+
+    // 안내/자동 재보정 최소 간격 (보정 빈도 제한과 별개로 사용자에게 묻는 빈도 제한)
+    private static final long PROMPT_INTERVAL_MS = 5 * 60 * 1000;
+
+    private final CalibrationSafetyManager safetyManager;
+    private final AdaptiveCalibrationManager userStateSource;
+    private final TokenBucket promptBucket = new TokenBucket(1, PROMPT_INTERVAL_MS);
+
+    private static final int MAX_QUEUE_SIZE = Source.values().length * 4;
+
+    private final PriorityQueue<Request> queue = new PriorityQueue<>(MAX_QUEUE_SIZE + 1,
+            (a, b) -> a.priority != b.priority
+                    ? Float.compare(b.priority, a.priority)
+                    : Long.compare(a.createdAtMs, b.createdAtMs));
+    private final Request[] latestBySource = new Request[Source.values().length];
+
+    /**
+     * @param userStateSource 사용자 상태 신호 (없으면 null)
+     */
+    public RecalibrationScheduler(CalibrationSafetyManager safetyManager,
+                                  AdaptiveCalibrationManager userStateSource) {
+        this.safetyManager = safetyManager;
+        this.userStateSource = userStateSource;
+    }
+
+    /**
+     * 재보정 요청 추가 - 같은 출처의 이전 요청은 대체
+     * @param nowMs SystemClock.uptimeMillis() 기준
+     */
+    public synchronized void submit(Source source, float urgency, String reason, long nowMs) {
+        Request previous = latestBySource[source.ordinal()];
+        if (previous != null) {
+            previous.active = false;
+        }
+        Request request = new Request(source, Math.max(0f, Math.min(1f, urgency)), reason, nowMs);
+        latestBySource[source.ordinal()] = request;
+        queue.add(request);
+        // 머리 뒤에 쌓인 대체된 요청 정리 (큐 크기를 출처 수의 몇 배로 유지)
+        if (queue.size() > MAX_QUEUE_SIZE) {
+            queue.removeIf(r -> !r.active);
+        }
+        Log.d(TAG, "재보정 요청: " + source + " (긴급도 " + request.urgency + ") - " + reason);
+    }
+
+    /**
+     * 실측 드리프트 신호 - 충분히 크고 확실할 때만 요청
+     */
+    public void submitDrift(DriftEstimator.Estimate estimate, long nowMs) {
+        if (estimate.confidence < MIN_DRIFT_CONFIDENCE || estimate.magnitude < DRIFT_RECALIBRATION_PX) {
+            return;
+        }
+        float urgency = estimate.confidence * Math.min(1f, estimate.magnitude / DRIFT_FULL_URGENCY_PX);
+        submit(Source.DRIFT, urgency, "실측 드리프트 " + Math.round(estimate.magnitude) + "px", nowMs);
+    }
+
+    /**
+     * 보정 품질 평가 신호 - 재보정 권장일 때만 요청
+     */
+    public void submitQuality(AdaptiveCalibrationManager.CalibrationQuality quality, long nowMs) {
+        if (!quality.needsRecalibration) {
+            return;
+        }
+        submit(Source.QUALITY, 1f - quality.qualityScore / 100f, quality.assessment, nowMs);
+    }
+
+    /**
+     * 🎯 지금 재보정을 실행할지 결정 (O(1))
+     * @param busy 보정이 이미 진행 중인지
+     */
+    public synchronized Decision decide(long nowMs, boolean busy) {
+        Request head = peekValid(nowMs);
+        if (head == null) {
+            return Decision.IDLE;
+        }
+        if (busy) {
+            return new Decision(null, USER_STATE_RETRY_MS);
+        }
+
+        long wait = Math.max(promptBucket.millisUntilAvailable(nowMs), safetyManager.getMillisUntilSafe());
+        if (wait > 0) {
+            return new Decision(null, wait);
+        }
+
+        if (head.urgency < URGENT && userStateSource != null && !userStateSource.isUserStateFavorable()) {
+            return new Decision(null, USER_STATE_RETRY_MS);
+        }
+
+        return new Decision(head, 0);
+    }
+
+    /**
+     * decide()가 돌려준 요청을 실행(안내 또는 자동 보정)했을 때 호출
+     */
+    public synchronized void markDispatched(Request request, long nowMs) {
+        promptBucket.consume(nowMs);
+        request.active = false;
+        if (latestBySource[request.source.ordinal()] == request) {
+            latestBySource[request.source.ordinal()] = null;
+        }
+        Log.d(TAG, "재보정 실행: " + request.source + " - " + request.reason);
+    }
+
+    /**
+     * 새 보정이 적용되면 이전 보정 기준의 요청은 모두 무효
+     */
+    public synchronized void onCalibrationApplied() {
+        queue.clear();
+        for (int i = 0; i < latestBySource.length; i++) {
+            latestBySource[i] = null;
+        }
+    }
+
+    public synchronized boolean hasPending(long nowMs) {
+        return peekValid(nowMs) != null;
+    }
+
+    // 대체/만료된 요청을 머리에서 제거 후 유효한 최우선 요청 반환
+    private Request peekValid(long nowMs) {
+        Request head = queue.peek();
+        while (head != null && (!head.active || nowMs - head.createdAtMs > REQUEST_TTL_MS)) {
+            queue.poll();
+            if (latestBySource[head.source.ordinal()] == head) {
+                latestBySource[head.source.ordinal()] = null;
+            }
+            head = queue.peek();
+        }
+        return head;
+    }
+}
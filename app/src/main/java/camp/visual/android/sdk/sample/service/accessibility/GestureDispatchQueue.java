@@ -0,0 +1,319 @@
+package camp.visual.android.sdk.sample.service.accessibility;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * 🆕 제스처 디스패치 큐
+ * - 어느 스레드에서든 제스처를 넣을 수 있음 (내부 동기화)
+ * - 용량 제한 + 종류별 정책
+ *   · CLICK: 절대 버리지 않음 (가득 차면 오래된 스크롤/스와이프를 밀어냄)
+ *   · SCROLL: 대기 중인 같은 방향 스크롤과 병합
+ *   · SWIPE / NAVIGATION_SWIPE: 최신 요청만 유지 (latest-wins)
+ * - 큐 깊이 / 대기 시간 계측
+ */
+public class GestureDispatchQueue {
+
+    public static final int DEFAULT_CAPACITY = 8;
+
+    // 병합된 스크롤 한 번에 허용되는 최대 횟수
+    public static final int MAX_COALESCED_SCROLLS = 6;
+
+    public enum Kind {
+        CLICK, SCROLL, SWIPE, NAVIGATION_SWIPE
+    }
+
+    /**
+     * 대기 중인 제스처 요청
+     */
+    public static final class Request {
+        public final Kind kind;
+        public final MyAccessibilityService.Direction direction;
+        public final MyAccessibilityService.ScrollAmount scrollAmount;
+        public final float x;
+        public final float y;
+
+        // 스크롤 병합 시 갱신 (횟수 합산, 응시 깊이는 최대값 유지)
+        int count;
+        float dwellDepth;
+        final long enqueuedAtMs;
+
+        private Request(Kind kind, MyAccessibilityService.Direction direction,
+                        MyAccessibilityService.ScrollAmount scrollAmount,
+                        float x, float y, int count, float dwellDepth, long enqueuedAtMs) {
+            this.kind = kind;
+            this.direction = direction;
+            this.scrollAmount = scrollAmount;
+            this.x = x;
+            this.y = y;
+            this.count = count;
+            this.dwellDepth = dwellDepth;
+            this.enqueuedAtMs = enqueuedAtMs;
+        }
+
+        public static Request click(float x, float y, long nowMs) {
+            return new Request(Kind.CLICK, null, null, x, y, 1, 0f, nowMs);
+        }
+
+        public static Request scroll(MyAccessibilityService.Direction direction,
+                                     MyAccessibilityService.ScrollAmount amount, int count, long nowMs) {
+            return scroll(direction, amount, count, 0f, nowMs);
+        }
+
+        /**
+         * 🆕 응시 깊이(0~1)가 포함된 연속 스크롤 요청
+         */
+        public static Request scroll(MyAccessibilityService.Direction direction,
+                                     MyAccessibilityService.ScrollAmount amount, int count,
+                                     float dwellDepth, long nowMs) {
+            return new Request(Kind.SCROLL, direction, amount, 0, 0, Math.max(1, count),
+                    Math.max(0f, Math.min(1f, dwellDepth)), nowMs);
+        }
+
+        public static Request swipe(MyAccessibilityService.Direction direction, long nowMs) {
+            return new Request(Kind.SWIPE, direction, null, 0, 0, 1, 0f, nowMs);
+        }
+
+        public static Request navigationSwipe(MyAccessibilityService.Direction direction, long nowMs) {
+            return new Request(Kind.NAVIGATION_SWIPE, direction, null, 0, 0, 1, 0f, nowMs);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public float getDwellDepth() {
+            return dwellDepth;
+        }
+
+        public long getEnqueuedAtMs() {
+            return enqueuedAtMs;
+        }
+
+        private boolean isSwipe() {
+            return kind == Kind.SWIPE || kind == Kind.NAVIGATION_SWIPE;
+        }
+    }
+
+    /**
+     * offer() 결과
+     */
+    public enum OfferResult {
+        ENQUEUED,   // 새로 추가됨
+        COALESCED,  // 기존 스크롤에 병합됨
+        REPLACED,   // 기존 스와이프를 대체함
+        DROPPED     // 용량 초과로 거부됨
+    }
+
+    private final int capacity;
+    private final ArrayDeque<Request> pending;
+
+    // 계측 값 (모두 lock 안에서만 갱신)
+    private int maxDepth = 0;
+    private long enqueuedCount = 0;
+    private long dispatchedCount = 0;
+    private long coalescedCount = 0;
+    private long replacedCount = 0;
+    private long droppedCount = 0;
+    private long evictedCount = 0;
+    private long totalWaitMs = 0;
+    private long maxWaitMs = 0;
+
+    public GestureDispatchQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GestureDispatchQueue(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.pending = new ArrayDeque<>(this.capacity + 1);
+    }
+
+    public synchronized OfferResult offer(Request request) {
+        enqueuedCount++;
+        OfferResult result;
+
+        switch (request.kind) {
+            case SCROLL:
+                result = offerScroll(request);
+                break;
+            case SWIPE:
+            case NAVIGATION_SWIPE:
+                result = offerSwipe(request);
+                break;
+            case CLICK:
+            default:
+                result = offerClick(request);
+                break;
+        }
+
+        if (pending.size() > maxDepth) {
+            maxDepth = pending.size();
+        }
+        return result;
+    }
+
+    private OfferResult offerClick(Request request) {
+        // 클릭은 버리지 않음: 가득 찼다면 가장 오래된 비클릭 제스처를 밀어냄
+        if (pending.size() >= capacity) {
+            evictOldestNonClick();
+        }
+        pending.addLast(request);
+        return OfferResult.ENQUEUED;
+    }
+
+    private OfferResult offerScroll(Request request) {
+        // 마지막으로 대기 중인 요청이 같은 방향 스크롤이면 병합 (순서 보존)
+        Request last = pending.peekLast();
+        if (last != null && last.kind == Kind.SCROLL && last.direction == request.direction) {
+            last.count = Math.min(MAX_COALESCED_SCROLLS, last.count + request.count);
+            last.dwellDepth = Math.max(last.dwellDepth, request.dwellDepth);
+            coalescedCount++;
+            return OfferResult.COALESCED;
+        }
+
+        if (pending.size() >= capacity) {
+            droppedCount++;
+            return OfferResult.DROPPED;
+        }
+        pending.addLast(request);
+        return OfferResult.ENQUEUED;
+    }
+
+    private OfferResult offerSwipe(Request request) {
+        boolean replaced = false;
+        Iterator<Request> it = pending.iterator();
+        while (it.hasNext()) {
+            if (it.next().isSwipe()) {
+                it.remove();
+                replaced = true;
+            }
+        }
+
+        if (pending.size() >= capacity && !evictOldestScroll()) {
+            droppedCount++;
+            return OfferResult.DROPPED;
+        }
+        pending.addLast(request);
+
+        if (replaced) {
+            replacedCount++;
+            return OfferResult.REPLACED;
+        }
+        return OfferResult.ENQUEUED;
+    }
+
+    private void evictOldestNonClick() {
+        Iterator<Request> it = pending.iterator();
+        while (it.hasNext()) {
+            if (it.next().kind != Kind.CLICK) {
+                it.remove();
+                evictedCount++;
+                return;
+            }
+        }
+        // 전부 클릭이면 용량을 잠시 초과하더라도 유지
+    }
+
+    private boolean evictOldestScroll() {
+        Iterator<Request> it = pending.iterator();
+        while (it.hasNext()) {
+            if (it.next().kind == Kind.SCROLL) {
+                it.remove();
+                evictedCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 다음 제스처를 꺼냄 (없으면 null). 대기 시간이 함께 기록됨
+     */
+    public synchronized Request poll(long nowMs) {
+        Request request = pending.pollFirst();
+        if (request != null) {
+            long waitMs = Math.max(0, nowMs - request.enqueuedAtMs);
+            totalWaitMs += waitMs;
+            if (waitMs > maxWaitMs) {
+                maxWaitMs = waitMs;
+            }
+            dispatchedCount++;
+        }
+        return request;
+    }
+
+    /**
+     * 특정 종류의 대기 요청을 모두 제거
+     * @return 제거된 개수
+     */
+    public synchronized int removeAll(Kind kind) {
+        int removed = 0;
+        Iterator<Request> it = pending.iterator();
+        while (it.hasNext()) {
+            if (it.next().kind == kind) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public synchronized void clear() {
+        pending.clear();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(pending.size(), maxDepth, enqueuedCount, dispatchedCount,
+                coalescedCount, replacedCount, droppedCount, evictedCount,
+                dispatchedCount > 0 ? (float) totalWaitMs / dispatchedCount : 0f, maxWaitMs);
+    }
+
+    /**
+     * 큐 계측 스냅샷
+     */
+    public static final class Stats {
+        public final int depth;
+        public final int maxDepth;
+        public final long enqueued;
+        public final long dispatched;
+        public final long coalesced;
+        public final long replaced;
+        public final long dropped;
+        public final long evicted;
+        public final float averageWaitMs;
+        public final long maxWaitMs;
+
+        Stats(int depth, int maxDepth, long enqueued, long dispatched, long coalesced,
+              long replaced, long dropped, long evicted, float averageWaitMs, long maxWaitMs) {
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+            this.enqueued = enqueued;
+            this.dispatched = dispatched;
+            this.coalesced = coalesced;
+            this.replaced = replaced;
+            this.dropped = dropped;
+            this.evicted = evicted;
+            this.averageWaitMs = averageWaitMs;
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("제스처 큐: 깊이 %d (최대 %d), 요청 %d, 실행 %d, 병합 %d, 대체 %d, 거부 %d, 축출 %d, 평균 대기 %.1fms (최대 %dms)",
+                    depth, maxDepth, enqueued, dispatched, coalesced, replaced, dropped, evicted,
+                    averageWaitMs, maxWaitMs);
+        }
+    }
+}
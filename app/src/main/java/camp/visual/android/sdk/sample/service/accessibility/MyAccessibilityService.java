@@ -3,9 +3,11 @@ package camp.visual.android.sdk.sample.service.accessibility;
 import android.accessibilityservice.AccessibilityService;
 import android.accessibilityservice.GestureDescription;
 import android.graphics.Path;
+import android.graphics.Rect;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.accessibility.AccessibilityEvent;
 import android.view.accessibility.AccessibilityNodeInfo;
@@ -14,6 +16,9 @@ import android.util.DisplayMetrics;
 import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 
+import camp.visual.android.sdk.sample.core.utils.MemoryPressureCoordinator;
+import camp.visual.android.sdk.sample.domain.interaction.TargetIndex;
+
 public class MyAccessibilityService extends AccessibilityService {
 
     private static MyAccessibilityService instance;
@@ -24,18 +29,102 @@ public class MyAccessibilityService extends AccessibilityService {
     private static final float SCROLL_AMOUNT_MEDIUM = 0.2f; // 화면 높이의 20%
     private static final float SCROLL_AMOUNT_LARGE = 0.3f; // 화면 높이의 30%
 
-    // 현재 진행 중인 제스처 여부
+    // 현재 진행 중인 제스처 여부 (메인 스레드에서만 변경)
     private boolean isGestureInProgress = false;
     
     // 스와이프 설정
     private static final float SWIPE_DISTANCE_RATIO = 0.8f; // 화면 넓이의 80%
 
-    // 제스처 완료 핸들러
-    private Handler gestureHandler = new Handler(Looper.getMainLooper());
-    private Runnable gestureCompletionRunnable = new Runnable() {
+    // 🆕 제스처 큐 계측 로그 주기 (디스패치 횟수 기준)
+    private static final int QUEUE_STATS_LOG_INTERVAL = 20;
+
+    // 🆕 제스처 디스패치 큐 (어느 스레드에서든 enqueue 가능)
+    private final GestureDispatchQueue gestureQueue = new GestureDispatchQueue();
+
+    // 🔧 제스처 디스패치 핸들러 - 고정 지연 대신 GestureResultCallback에서 다음 제스처 실행
+    private final Handler gestureHandler = new Handler(Looper.getMainLooper());
+    private final Runnable dispatchNextRunnable = this::dispatchNext;
+
+    // 🆕 연속 스크롤 설정 (하나의 GestureDescription 안에 스트로크를 이어 붙임)
+    private static final long SCROLL_STROKE_GAP_MS = 40;          // 스트로크 사이 손가락 재배치 시간
+    private static final long SCROLL_STROKE_SLOW_MS = 300;        // 응시 깊이 0일 때 스트로크 시간
+    private static final long SCROLL_STROKE_FAST_MS = 120;        // 응시 깊이 1일 때 스트로크 시간
+    private static final float SCROLL_DEPTH_DISTANCE_BOOST = 0.5f; // 응시 깊이 1일 때 거리 50% 증가
+
+    // 🆕 시선 비례 스트리밍 스크롤 설정 (continueStroke로 계속 연장되는 하나의 터치)
+    private static final long SMOOTH_SEGMENT_MS = 100;          // 스트로크 연장 단위
+    private static final long SMOOTH_RELEASE_MS = 60;           // 제자리 정지 후 손가락 떼기 (플링 방지)
+    private static final float SMOOTH_TRACK_MIN_RATIO = 0.2f;   // 손가락 이동 가능 범위 (화면 높이 대비)
+    private static final float SMOOTH_TRACK_MAX_RATIO = 0.8f;
+    private static final float SMOOTH_MIN_RATE = 20f;           // px/s, 이보다 느리면 손가락을 뗌 (롱프레스 방지)
+
+    // 시선 스레드에서 매 프레임 갱신되는 값
+    private volatile float smoothScrollRate = 0f;
+    private volatile boolean smoothScrollRequested = false;
+
+    // 메인 스레드 전용 상태
+    private boolean smoothScrollActive = false;
+    private boolean smoothReleasing = false;
+    private GestureDescription.StrokeDescription smoothStroke;
+    private float smoothFingerX;
+    private float smoothFingerY;
+    private final Runnable smoothScrollKick = this::startSmoothScrollIfIdle;
+    // 불감대 대기 중 속도 확인 (제스처 잠금 없이 폴링, 속도가 오르면 다시 시작)
+    private final Runnable smoothIdlePollRunnable = new Runnable() {
         @Override
         public void run() {
-            isGestureInProgress = false;
+            if (!smoothScrollRequested || smoothScrollActive) {
+                return;
+            }
+            if (Math.abs(smoothScrollRate) < SMOOTH_MIN_RATE) {
+                gestureHandler.postDelayed(this, SMOOTH_SEGMENT_MS);
+                return;
+            }
+            startSmoothScrollIfIdle();
+        }
+    };
+
+    private final GestureResultCallback smoothResultCallback = new GestureResultCallback() {
+        @Override
+        public void onCompleted(GestureDescription gestureDescription) {
+            if (smoothReleasing) {
+                smoothReleasing = false;
+                smoothStroke = null;
+            }
+            continueSmoothScroll();
+        }
+
+        @Override
+        public void onCancelled(GestureDescription gestureDescription) {
+            Log.d(TAG, "부드러운 스크롤 스트로크 취소됨");
+            // 다음 프레임의 updateSmoothScroll()이 새 터치로 다시 시작하도록 요청 상태도 해제
+            smoothScrollRequested = false;
+            finishSmoothScroll();
+        }
+    };
+
+    // 🆕 클릭 대상 인덱스 (화면 변경 시 재구성, 시선 스레드에서 읽음)
+    private static final long TARGET_INDEX_REBUILD_DELAY_MS = 300;   // 이벤트 폭주 시 재구성 간격
+    private static final int TARGET_INDEX_MAX_NODES = 600;           // 순회 노드 상한 (큰 트리 보호)
+    private static final int TARGET_INDEX_MAX_DEPTH = 40;
+    private static final float TARGET_MAX_SCREEN_COVERAGE = 0.5f;    // 화면 절반 이상 덮는 컨테이너는 제외
+    private static final float TARGET_INDEX_AOI_RADIUS = 40f;        // UserSettings 기본 AOI 반경
+
+    private volatile TargetIndex targetIndex = TargetIndex.empty();
+    private boolean targetIndexRebuildPending = false;
+    private final Rect nodeBounds = new Rect();
+    private int visitedNodeCount = 0;
+    private final Runnable rebuildTargetIndexRunnable = this::rebuildTargetIndex;
+
+    private final GestureResultCallback queueResultCallback = new GestureResultCallback() {
+        @Override
+        public void onCompleted(GestureDescription gestureDescription) {
+            onGestureFinished(false);
+        }
+
+        @Override
+        public void onCancelled(GestureDescription gestureDescription) {
+            onGestureFinished(true);
         }
     };
 
@@ -47,12 +136,98 @@ public class MyAccessibilityService extends AccessibilityService {
     protected void onServiceConnected() {
         super.onServiceConnected();
         instance = this;
+        // 🆕 메모리 압박이 심하면 클릭 대상 인덱스를 비움 (다음 화면 변경 이벤트에 다시 만듦)
+        MemoryPressureCoordinator.getInstance().register("target_index",
+                MemoryPressureCoordinator.PRIORITY_TARGET_INDEX, MemoryPressureCoordinator.Severity.HIGH,
+                severity -> shedTargetIndex());
         Log.d(TAG, "접근성 서비스가 연결되었습니다.");
     }
 
     @Override
     public void onAccessibilityEvent(AccessibilityEvent event) {
-        // 필요한 경우 특정 이벤트 처리
+        switch (event.getEventType()) {
+            case AccessibilityEvent.TYPE_WINDOW_STATE_CHANGED:
+            case AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED:
+            case AccessibilityEvent.TYPE_VIEW_SCROLLED:
+                scheduleTargetIndexRebuild();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 🆕 화면 내용이 바뀌면 클릭 대상 인덱스 재구성 예약
+     * - 예약이 걸려 있는 동안 들어온 이벤트는 무시 (초당 최대 몇 번만 순회)
+     */
+    private void scheduleTargetIndexRebuild() {
+        if (targetIndexRebuildPending) {
+            return;
+        }
+        targetIndexRebuildPending = true;
+        gestureHandler.postDelayed(rebuildTargetIndexRunnable, TARGET_INDEX_REBUILD_DELAY_MS);
+    }
+
+    private void rebuildTargetIndex() {
+        targetIndexRebuildPending = false;
+
+        AccessibilityNodeInfo root = getRootInActiveWindow();
+        if (root == null) {
+            targetIndex = TargetIndex.empty();
+            return;
+        }
+
+        long start = SystemClock.uptimeMillis();
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        float maxArea = dm.widthPixels * (float) dm.heightPixels * TARGET_MAX_SCREEN_COVERAGE;
+
+        TargetIndex.Builder builder = new TargetIndex.Builder();
+        visitedNodeCount = 0;
+        collectTargets(root, 0, maxArea, builder);
+        root.recycle();
+
+        targetIndex = builder.build(dm.widthPixels, dm.heightPixels, TARGET_INDEX_AOI_RADIUS, start);
+        Log.d(TAG, "클릭 대상 인덱스 재구성: 대상 " + builder.size() + "개 / 노드 " + visitedNodeCount
+                + "개, " + (SystemClock.uptimeMillis() - start) + "ms");
+    }
+
+    private void collectTargets(AccessibilityNodeInfo node, int depth, float maxArea,
+                                TargetIndex.Builder builder) {
+        if (++visitedNodeCount > TARGET_INDEX_MAX_NODES || !node.isVisibleToUser()) {
+            return;
+        }
+
+        if (node.isEnabled() && (node.isClickable() || node.isLongClickable())) {
+            node.getBoundsInScreen(nodeBounds);
+            if ((float) nodeBounds.width() * nodeBounds.height() < maxArea) {
+                builder.add(nodeBounds.left, nodeBounds.top, nodeBounds.right, nodeBounds.bottom);
+            }
+        }
+
+        if (depth >= TARGET_INDEX_MAX_DEPTH) {
+            return;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            AccessibilityNodeInfo child = node.getChild(i);
+            if (child != null) {
+                collectTargets(child, depth + 1, maxArea, builder);
+                child.recycle();
+            }
+        }
+    }
+
+    /**
+     * 🆕 현재 화면의 클릭 대상 인덱스 (서비스가 없으면 빈 인덱스)
+     */
+    public static TargetIndex getTargetIndex() {
+        MyAccessibilityService service = instance;
+        return service != null ? service.targetIndex : TargetIndex.empty();
+    }
+
+    private long shedTargetIndex() {
+        TargetIndex index = targetIndex;
+        targetIndex = TargetIndex.empty();
+        return index.estimateBytes();
     }
 
     @Override
@@ -60,41 +235,24 @@ public class MyAccessibilityService extends AccessibilityService {
         Log.d(TAG, "접근성 서비스 중단됨");
     }
 
+    @Override
+    public void onDestroy() {
+        gestureHandler.removeCallbacksAndMessages(null);
+        gestureQueue.clear();
+        smoothScrollRequested = false;
+        targetIndex = TargetIndex.empty();
+        MemoryPressureCoordinator.getInstance().unregister("target_index");
+        Log.d(TAG, "접근성 서비스 종료 - " + gestureQueue.getStats());
+        if (instance == this) {
+            instance = null;
+        }
+        super.onDestroy();
+    }
+
     public static void performClickAt(float x, float y) {
         if (instance != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            if (instance.isGestureInProgress) {
-                Log.d(TAG, "다른 제스처가 진행 중입니다. 클릭 무시됨");
-                return;
-            }
-
-            instance.isGestureInProgress = true;
-
-            Path clickPath = new Path();
-            clickPath.moveTo(x, y);
-            GestureDescription.StrokeDescription clickStroke =
-                    new GestureDescription.StrokeDescription(clickPath, 0, 50);
-            GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
-            gestureBuilder.addStroke(clickStroke);
-
-            Log.d(TAG, "클릭 실행 (접근성 서비스): x=" + x + ", y=" + y);
-
-            // 화면 크기 정보도 로그에 출력
-            DisplayMetrics dm = instance.getResources().getDisplayMetrics();
-            Log.d(TAG, "화면 크기: " + dm.widthPixels + "x" + dm.heightPixels);
-
-            instance.dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
-                @Override
-                public void onCompleted(GestureDescription gestureDescription) {
-                    Log.d(TAG, "클릭 제스처 완료됨");
-                    instance.gestureHandler.postDelayed(instance.gestureCompletionRunnable, 100);
-                }
-
-                @Override
-                public void onCancelled(GestureDescription gestureDescription) {
-                    Log.d(TAG, "클릭 제스처 취소됨");
-                    instance.gestureHandler.postDelayed(instance.gestureCompletionRunnable, 50);
-                }
-            }, null);
+            Log.d(TAG, "클릭 요청 (접근성 서비스): x=" + x + ", y=" + y);
+            instance.enqueueGesture(GestureDispatchQueue.Request.click(x, y, SystemClock.uptimeMillis()));
         } else {
             Log.e(TAG, "접근성 서비스가 초기화되지 않았거나 API 레벨이 낮음");
         }
@@ -114,70 +272,7 @@ public class MyAccessibilityService extends AccessibilityService {
 
     public void performScroll(Direction direction, ScrollAmount amount) {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            if (isGestureInProgress) {
-                Log.d(TAG, "다른 제스처가 진행 중입니다. 스크롤 무시됨");
-                return;
-            }
-
-            isGestureInProgress = true;
-
-            int screenHeight = getResources().getDisplayMetrics().heightPixels;
-            int screenWidth = getResources().getDisplayMetrics().widthPixels;
-            float startX = screenWidth / 2f;
-            float startY, endY;
-            float scrollAmount;
-
-            // 스크롤 거리 설정
-            switch (amount) {
-                case SMALL:
-                    scrollAmount = SCROLL_AMOUNT_SMALL;
-                    break;
-                case LARGE:
-                    scrollAmount = SCROLL_AMOUNT_LARGE;
-                    break;
-                case MEDIUM:
-                default:
-                    scrollAmount = SCROLL_AMOUNT_MEDIUM;
-                    break;
-            }
-
-            if (direction == Direction.UP) {
-                // 위로 스크롤 (화면은 아래로 이동)
-                startY = screenHeight * 0.6f;
-                endY = screenHeight * (0.6f - scrollAmount);
-            } else {
-                // 아래로 스크롤 (화면은 위로 이동)
-                startY = screenHeight * 0.4f;
-                endY = screenHeight * (0.4f + scrollAmount);
-            }
-
-            Path path = new Path();
-            path.moveTo(startX, startY);
-            path.lineTo(startX, endY);
-
-            // 스크롤 기간 설정 - 스크롤 거리에 따라 조정
-            long duration = 200 + (long)(scrollAmount * 300); // 200~300ms
-
-            GestureDescription.StrokeDescription stroke =
-                    new GestureDescription.StrokeDescription(path, 0, duration);
-            GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
-            gestureBuilder.addStroke(stroke);
-
-            Log.d(TAG, direction + " 스크롤 수행 중... 거리: " + (scrollAmount * 100) + "% 화면");
-
-            dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
-                @Override
-                public void onCompleted(GestureDescription gestureDescription) {
-                    Log.d(TAG, "스크롤 제스처 완료됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 300);
-                }
-
-                @Override
-                public void onCancelled(GestureDescription gestureDescription) {
-                    Log.d(TAG, "스크롤 제스처 취소됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 150);
-                }
-            }, null);
+            enqueueGesture(GestureDispatchQueue.Request.scroll(direction, amount, 1, SystemClock.uptimeMillis()));
         } else {
             Log.e(TAG, "API 레벨이 낮아 제스처를 지원하지 않음");
         }
@@ -185,25 +280,25 @@ public class MyAccessibilityService extends AccessibilityService {
 
     /**
      * 연속 스크롤을 수행하는 메서드
+     * 🔧 스트로크를 이어 붙인 하나의 제스처로 실행 (postDelayed 재귀 없음)
      * @param direction 스크롤 방향
      * @param count 연속 스크롤 횟수
      */
     public void performContinuousScroll(Direction direction, int count) {
-        if (count <= 0) return;
-
-        if (isGestureInProgress) {
-            // 이미 제스처가 진행 중이면 잠시 후 다시 시도
-            gestureHandler.postDelayed(() -> performContinuousScroll(direction, count), 500);
-            return;
-        }
+        performContinuousScroll(direction, count, 0f);
+    }
 
-        // 첫 스크롤 실행
-        performScroll(direction, ScrollAmount.MEDIUM);
+    /**
+     * 🆕 응시 깊이에 따라 속도가 달라지는 연속 스크롤
+     * @param direction 스크롤 방향
+     * @param count 연속 스크롤 횟수
+     * @param dwellDepth 엣지 응시 깊이 (0 = 방금 트리거, 1 = 오래 응시) - 클수록 빠르고 길게 스크롤
+     */
+    public void performContinuousScroll(Direction direction, int count, float dwellDepth) {
+        if (count <= 0) return;
 
-        // 남은 스크롤 예약 (각 스크롤 간 500ms 간격)
-        if (count > 1) {
-            gestureHandler.postDelayed(() -> performContinuousScroll(direction, count - 1), 500);
-        }
+        enqueueGesture(GestureDispatchQueue.Request.scroll(direction, ScrollAmount.MEDIUM, count,
+                dwellDepth, SystemClock.uptimeMillis()));
     }
 
     /**
@@ -217,63 +312,7 @@ public class MyAccessibilityService extends AccessibilityService {
         }
 
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            if (isGestureInProgress) {
-                Log.d(TAG, "다른 제스처가 진행 중입니다. 스와이프 무시됨");
-                return;
-            }
-
-            isGestureInProgress = true;
-
-            DisplayMetrics dm = getResources().getDisplayMetrics();
-            int screenHeight = dm.heightPixels;
-            int screenWidth = dm.widthPixels;
-            
-            // 스와이프 시작/끝 좌표 계산
-            float startY = screenHeight * 0.5f; // 화면 중앙 높이
-            float endY = startY;
-            float startX, endX;
-            
-            if (direction == Direction.LEFT) {
-                // 우측에서 좌측으로 스와이프 (뒤로가기)
-                startX = screenWidth * 0.95f;
-                endX = screenWidth * 0.1f;
-                Log.d(TAG, "우측→좌측 스와이프 실행 (뒤로가기)");
-            } else {
-                // 좌측에서 우측으로 스와이프 (앞으로가기)
-                startX = screenWidth * 0.05f;
-                endX = screenWidth * 0.9f;
-                Log.d(TAG, "좌측→우측 스와이프 실행 (앞으로가기)");
-            }
-
-            // 스와이프 경로 생성
-            Path swipePath = new Path();
-            swipePath.moveTo(startX, startY);
-            swipePath.lineTo(endX, endY);
-
-            // 스와이프 지속 시간 (빠르고 강력한 스와이프)
-            long swipeDuration = 400; // 400ms로 빠른 스와이프
-
-            GestureDescription.StrokeDescription swipeStroke =
-                    new GestureDescription.StrokeDescription(swipePath, 0, swipeDuration);
-            GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
-            gestureBuilder.addStroke(swipeStroke);
-
-            Log.d(TAG, String.format("스와이프 실행: (%.1f,%.1f) → (%.1f,%.1f), 지속시간: %dms", 
-                    startX, startY, endX, endY, swipeDuration));
-
-            dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
-                @Override
-                public void onCompleted(GestureDescription gestureDescription) {
-                    Log.d(TAG, "스와이프 제스처 완료됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 200);
-                }
-
-                @Override
-                public void onCancelled(GestureDescription gestureDescription) {
-                    Log.d(TAG, "스와이프 제스처 취소됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 100);
-                }
-            }, null);
+            enqueueGesture(GestureDispatchQueue.Request.swipe(direction, SystemClock.uptimeMillis()));
         } else {
             Log.e(TAG, "API 레벨이 낮아 스와이프 제스처를 지원하지 않음");
         }
@@ -290,66 +329,432 @@ public class MyAccessibilityService extends AccessibilityService {
         }
 
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            if (isGestureInProgress) {
-                Log.d(TAG, "다른 제스처가 진행 중입니다. 네비게이션 스와이프 무시됨");
+            enqueueGesture(GestureDispatchQueue.Request.navigationSwipe(direction, SystemClock.uptimeMillis()));
+        } else {
+            Log.e(TAG, "API 레벨이 낮아 네비게이션 스와이프를 지원하지 않음");
+        }
+    }
+
+    // ==================== 🆕 제스처 큐 디스패치 ====================
+
+    /**
+     * 제스처를 큐에 넣고 디스패치를 예약 (스레드 무관)
+     */
+    private void enqueueGesture(GestureDispatchQueue.Request request) {
+        GestureDispatchQueue.OfferResult result = gestureQueue.offer(request);
+
+        switch (result) {
+            case DROPPED:
+                Log.w(TAG, request.kind + " 제스처 거부됨 (큐 가득 참, 깊이: " + gestureQueue.size() + ")");
                 return;
+            case COALESCED:
+                Log.d(TAG, request.direction + " 스크롤 병합됨");
+                break;
+            case REPLACED:
+                Log.d(TAG, "대기 중인 스와이프를 최신 요청으로 대체: " + request.direction);
+                break;
+            default:
+                break;
+        }
+
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            dispatchNext();
+        } else {
+            gestureHandler.post(dispatchNextRunnable);
+        }
+    }
+
+    /**
+     * 진행 중인 제스처가 없으면 다음 제스처를 실행 (메인 스레드)
+     */
+    private void dispatchNext() {
+        if (isGestureInProgress) {
+            return;
+        }
+
+        GestureDispatchQueue.Request request = gestureQueue.poll(SystemClock.uptimeMillis());
+        if (request == null) {
+            return;
+        }
+        logQueueStatsIfNeeded();
+
+        GestureDescription gesture = buildGesture(request);
+        if (gesture == null) {
+            gestureHandler.post(dispatchNextRunnable);
+            return;
+        }
+
+        isGestureInProgress = true;
+        boolean dispatched = dispatchGesture(gesture, queueResultCallback, gestureHandler);
+        if (!dispatched) {
+            Log.w(TAG, request.kind + " 제스처 디스패치 실패");
+            isGestureInProgress = false;
+            gestureHandler.post(dispatchNextRunnable);
+        }
+    }
+
+    private void onGestureFinished(boolean cancelled) {
+        if (cancelled) {
+            Log.d(TAG, "제스처 취소됨");
+        }
+        isGestureInProgress = false;
+        dispatchNext();
+        if (!isGestureInProgress) {
+            startSmoothScrollIfIdle();
+        }
+    }
+
+    // ==================== 🆕 시선 비례 스트리밍 스크롤 ====================
+
+    /**
+     * 매 프레임 호출 가능 (스레드 무관, 할당 없음)
+     * @param fingerRatePxPerSec 손가락 이동 속도 - 양수는 아래로(이전 내용), 음수는 위로(다음 내용)
+     */
+    public void updateSmoothScroll(float fingerRatePxPerSec) {
+        smoothScrollRate = fingerRatePxPerSec;
+        if (!smoothScrollRequested) {
+            smoothScrollRequested = true;
+            gestureHandler.post(smoothScrollKick);
+        }
+    }
+
+    /**
+     * 스트리밍 스크롤 중지 - 진행 중인 스트로크는 다음 구간에서 제자리 정지 후 손가락을 뗌
+     */
+    public void stopSmoothScroll() {
+        smoothScrollRequested = false;
+        smoothScrollRate = 0f;
+    }
+
+    public static void updateSmoothScrollAction(float fingerRatePxPerSec) {
+        if (instance != null) {
+            instance.updateSmoothScroll(fingerRatePxPerSec);
+        }
+    }
+
+    public static void stopSmoothScrollAction() {
+        if (instance != null) {
+            instance.stopSmoothScroll();
+        }
+    }
+
+    private void startSmoothScrollIfIdle() {
+        if (!smoothScrollRequested || smoothScrollActive || isGestureInProgress) {
+            // 다른 제스처가 끝나면 onGestureFinished()에서 다시 시도
+            return;
+        }
+        smoothScrollActive = true;
+        isGestureInProgress = true;
+        Log.d(TAG, "부드러운 스크롤 시작");
+        continueSmoothScroll();
+    }
+
+    /**
+     * 다음 구간 결정 (메인 스레드, 이전 구간 완료 콜백 직후)
+     */
+    private void continueSmoothScroll() {
+        if (!smoothScrollActive) {
+            return;
+        }
+
+        if (!smoothScrollRequested) {
+            if (smoothStroke != null) {
+                dispatchSmoothRelease();
+            } else {
+                finishSmoothScroll();
             }
+            return;
+        }
 
-            isGestureInProgress = true;
-
-            DisplayMetrics dm = getResources().getDisplayMetrics();
-            int screenHeight = dm.heightPixels;
-            int screenWidth = dm.widthPixels;
-            
-            // 네비게이션 스와이프 좌표 (엣지에서 시작)
-            float startY = screenHeight * 0.7f; // 하단 30% 지점
-            float endY = startY;
-            float startX, endX;
-            
-            if (direction == Direction.LEFT) {
-                // 우측 엣지에서 시작하는 뒤로가기 스와이프
-                startX = screenWidth - 1f; // 완전히 오른쪽 가장자리
-                endX = screenWidth * 0.5f; // 화면 중앙까지
-                Log.d(TAG, "우측 엣지→중앙 네비게이션 스와이프 (뒤로가기)");
+        float rate = smoothScrollRate;
+        if (Math.abs(rate) < SMOOTH_MIN_RATE) {
+            if (smoothStroke != null) {
+                dispatchSmoothRelease();
             } else {
-                // 좌측 엣지에서 시작하는 앞으로가기/메뉴 스와이프
-                startX = 1f; // 완전히 왼쪽 가장자리
-                endX = screenWidth * 0.5f; // 화면 중앙까지
-                Log.d(TAG, "좌측 엣지→중앙 네비게이션 스와이프 (앞으로가기/메뉴)");
+                pauseSmoothScroll();
+            }
+            return;
+        }
+
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        float minY = dm.heightPixels * SMOOTH_TRACK_MIN_RATIO;
+        float maxY = dm.heightPixels * SMOOTH_TRACK_MAX_RATIO;
+
+        if (smoothStroke == null) {
+            // 새 터치: 이동 방향의 반대쪽 끝에서 시작
+            smoothFingerX = dm.widthPixels / 2f;
+            smoothFingerY = rate > 0 ? minY : maxY;
+        }
+
+        float nextY = smoothFingerY + rate * SMOOTH_SEGMENT_MS / 1000f;
+        if (nextY < minY || nextY > maxY) {
+            // 이동 범위 끝 - 손가락을 떼고 반대쪽에서 다시 시작
+            dispatchSmoothRelease();
+            return;
+        }
+
+        Path path = new Path();
+        path.moveTo(smoothFingerX, smoothFingerY);
+        path.lineTo(smoothFingerX, nextY);
+
+        GestureDescription.StrokeDescription stroke = smoothStroke == null
+                ? new GestureDescription.StrokeDescription(path, 0, SMOOTH_SEGMENT_MS, true)
+                : smoothStroke.continueStroke(path, 0, SMOOTH_SEGMENT_MS, true);
+        smoothFingerY = nextY;
+        dispatchSmoothStroke(stroke);
+    }
+
+    private void dispatchSmoothRelease() {
+        if (smoothStroke == null) {
+            // 아직 첫 스트로크 전 - 뗄 손가락 없음
+            finishSmoothScroll();
+            return;
+        }
+        Path path = new Path();
+        path.moveTo(smoothFingerX, smoothFingerY);
+        smoothReleasing = true;
+        dispatchSmoothStroke(smoothStroke.continueStroke(path, 0, SMOOTH_RELEASE_MS, false));
+    }
+
+    private void dispatchSmoothStroke(GestureDescription.StrokeDescription stroke) {
+        smoothStroke = stroke;
+        GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
+        gestureBuilder.addStroke(stroke);
+        if (!dispatchGesture(gestureBuilder.build(), smoothResultCallback, gestureHandler)) {
+            Log.w(TAG, "부드러운 스크롤 디스패치 실패");
+            finishSmoothScroll();
+        }
+    }
+
+    /**
+     * 손가락을 뗀 채로 속도가 오를 때까지 대기
+     * - 제스처 잠금을 풀어 그동안 큐의 클릭/스와이프가 실행되게 함
+     * - 큐 제스처가 끝나면 onGestureFinished()에서, 큐가 비어 있으면 폴링으로 다시 시작
+     */
+    private void pauseSmoothScroll() {
+        smoothScrollActive = false;
+        isGestureInProgress = false;
+        dispatchNext();
+        gestureHandler.removeCallbacks(smoothIdlePollRunnable);
+        if (!isGestureInProgress) {
+            gestureHandler.postDelayed(smoothIdlePollRunnable, SMOOTH_SEGMENT_MS);
+        }
+    }
+
+    private void finishSmoothScroll() {
+        gestureHandler.removeCallbacks(smoothIdlePollRunnable);
+        boolean wasActive = smoothScrollActive;
+        smoothScrollActive = false;
+        smoothReleasing = false;
+        smoothStroke = null;
+        if (wasActive) {
+            Log.d(TAG, "부드러운 스크롤 종료");
+            isGestureInProgress = false;
+            dispatchNext();
+        }
+    }
+
+    private void logQueueStatsIfNeeded() {
+        GestureDispatchQueue.Stats stats = gestureQueue.getStats();
+        if (stats.dispatched % QUEUE_STATS_LOG_INTERVAL == 0) {
+            Log.d(TAG, stats.toString());
+        }
+    }
+
+    /**
+     * 큐 계측 값 조회
+     */
+    public static GestureDispatchQueue.Stats getGestureQueueStats() {
+        return instance != null ? instance.gestureQueue.getStats() : null;
+    }
+
+    @Nullable
+    private GestureDescription buildGesture(GestureDispatchQueue.Request request) {
+        switch (request.kind) {
+            case CLICK:
+                return buildClickGesture(request.x, request.y);
+            case SCROLL:
+                return buildScrollGesture(request.direction, request.scrollAmount,
+                        request.getCount(), request.getDwellDepth());
+            case SWIPE:
+                return buildSwipeGesture(request.direction);
+            case NAVIGATION_SWIPE:
+                return buildNavigationSwipeGesture(request.direction);
+            default:
+                return null;
+        }
+    }
+
+    private GestureDescription buildClickGesture(float x, float y) {
+        Path clickPath = new Path();
+        clickPath.moveTo(x, y);
+        GestureDescription.StrokeDescription clickStroke =
+                new GestureDescription.StrokeDescription(clickPath, 0, 50);
+        GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
+        gestureBuilder.addStroke(clickStroke);
+
+        Log.d(TAG, "클릭 실행 (접근성 서비스): x=" + x + ", y=" + y);
+
+        // 화면 크기 정보도 로그에 출력
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        Log.d(TAG, "화면 크기: " + dm.widthPixels + "x" + dm.heightPixels);
+
+        return gestureBuilder.build();
+    }
+
+    /**
+     * 스크롤 제스처 생성
+     * 🔧 count만큼의 스트로크를 시간축으로 이어 붙인 하나의 GestureDescription
+     */
+    private GestureDescription buildScrollGesture(Direction direction, ScrollAmount amount,
+                                                  int count, float dwellDepth) {
+        int screenHeight = getResources().getDisplayMetrics().heightPixels;
+        int screenWidth = getResources().getDisplayMetrics().widthPixels;
+        float startX = screenWidth / 2f;
+        float startY, endY;
+        float scrollAmount;
+
+        // 스크롤 거리 설정
+        switch (amount) {
+            case SMALL:
+                scrollAmount = SCROLL_AMOUNT_SMALL;
+                break;
+            case LARGE:
+                scrollAmount = SCROLL_AMOUNT_LARGE;
+                break;
+            case MEDIUM:
+            default:
+                scrollAmount = SCROLL_AMOUNT_MEDIUM;
+                break;
+        }
+
+        // 🆕 응시 깊이에 따라 거리와 속도 증가
+        scrollAmount = Math.min(SCROLL_AMOUNT_LARGE + 0.1f,
+                scrollAmount * (1f + SCROLL_DEPTH_DISTANCE_BOOST * dwellDepth));
+
+        if (direction == Direction.UP) {
+            // 위로 스크롤 (화면은 아래로 이동)
+            startY = screenHeight * 0.6f;
+            endY = screenHeight * (0.6f - scrollAmount);
+        } else {
+            // 아래로 스크롤 (화면은 위로 이동)
+            startY = screenHeight * 0.4f;
+            endY = screenHeight * (0.4f + scrollAmount);
+        }
+
+        Path path = new Path();
+        path.moveTo(startX, startY);
+        path.lineTo(startX, endY);
+
+        // 스크롤 기간 설정 - 단일 스크롤은 기존과 동일 (200~300ms), 연속 스크롤은 응시 깊이로 속도 결정
+        long duration;
+        if (count <= 1 && dwellDepth <= 0f) {
+            duration = 200 + (long)(scrollAmount * 300);
+        } else {
+            duration = SCROLL_STROKE_SLOW_MS
+                    - (long)((SCROLL_STROKE_SLOW_MS - SCROLL_STROKE_FAST_MS) * dwellDepth);
+        }
+
+        int strokeCount = Math.max(1, Math.min(count, GestureDescription.getMaxStrokeCount()));
+        long maxGestureDuration = GestureDescription.getMaxGestureDuration();
+        GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
+        long startTime = 0;
+        int added = 0;
+        for (int i = 0; i < strokeCount; i++) {
+            if (startTime + duration > maxGestureDuration) {
+                break;
             }
+            gestureBuilder.addStroke(new GestureDescription.StrokeDescription(path, startTime, duration));
+            startTime += duration + SCROLL_STROKE_GAP_MS;
+            added++;
+        }
+
+        Log.d(TAG, String.format("%s 스크롤 수행 중... 거리: %.0f%% 화면, %d회, 스트로크 %dms, 총 %dms",
+                direction, scrollAmount * 100, added, duration, startTime - SCROLL_STROKE_GAP_MS));
 
-            // 네비게이션 스와이프 경로 생성
-            Path navPath = new Path();
-            navPath.moveTo(startX, startY);
-            navPath.lineTo(endX, endY);
-
-            // 네비게이션 스와이프는 더 느리고 부드럽게
-            long navDuration = 600;
-
-            GestureDescription.StrokeDescription navStroke =
-                    new GestureDescription.StrokeDescription(navPath, 0, navDuration);
-            GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
-            gestureBuilder.addStroke(navStroke);
-
-            Log.d(TAG, String.format("네비게이션 스와이프: (%.1f,%.1f) → (%.1f,%.1f), 지속시간: %dms", 
-                    startX, startY, endX, endY, navDuration));
-
-            dispatchGesture(gestureBuilder.build(), new GestureResultCallback() {
-                @Override
-                public void onCompleted(GestureDescription gestureDescription) {
-                    Log.d(TAG, "네비게이션 스와이프 완료됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 250);
-                }
-
-                @Override
-                public void onCancelled(GestureDescription gestureDescription) {
-                    Log.d(TAG, "네비게이션 스와이프 취소됨");
-                    gestureHandler.postDelayed(gestureCompletionRunnable, 125);
-                }
-            }, null);
+        return gestureBuilder.build();
+    }
+
+    private GestureDescription buildSwipeGesture(Direction direction) {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        int screenHeight = dm.heightPixels;
+        int screenWidth = dm.widthPixels;
+
+        // 스와이프 시작/끝 좌표 계산
+        float startY = screenHeight * 0.5f; // 화면 중앙 높이
+        float endY = startY;
+        float startX, endX;
+
+        if (direction == Direction.LEFT) {
+            // 우측에서 좌측으로 스와이프 (뒤로가기)
+            startX = screenWidth * 0.95f;
+            endX = screenWidth * 0.1f;
+            Log.d(TAG, "우측→좌측 스와이프 실행 (뒤로가기)");
         } else {
-            Log.e(TAG, "API 레벨이 낮아 네비게이션 스와이프를 지원하지 않음");
+            // 좌측에서 우측으로 스와이프 (앞으로가기)
+            startX = screenWidth * 0.05f;
+            endX = screenWidth * 0.9f;
+            Log.d(TAG, "좌측→우측 스와이프 실행 (앞으로가기)");
         }
+
+        // 스와이프 경로 생성
+        Path swipePath = new Path();
+        swipePath.moveTo(startX, startY);
+        swipePath.lineTo(endX, endY);
+
+        // 스와이프 지속 시간 (빠르고 강력한 스와이프)
+        long swipeDuration = 400; // 400ms로 빠른 스와이프
+
+        GestureDescription.StrokeDescription swipeStroke =
+                new GestureDescription.StrokeDescription(swipePath, 0, swipeDuration);
+        GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
+        gestureBuilder.addStroke(swipeStroke);
+
+        Log.d(TAG, String.format("스와이프 실행: (%.1f,%.1f) → (%.1f,%.1f), 지속시간: %dms", 
+                startX, startY, endX, endY, swipeDuration));
+
+        return gestureBuilder.build();
+    }
+
+    private GestureDescription buildNavigationSwipeGesture(Direction direction) {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        int screenHeight = dm.heightPixels;
+        int screenWidth = dm.widthPixels;
+
+        // 네비게이션 스와이프 좌표 (엣지에서 시작)
+        float startY = screenHeight * 0.7f; // 하단 30% 지점
+        float endY = startY;
+        float startX, endX;
+
+        if (direction == Direction.LEFT) {
+            // 우측 엣지에서 시작하는 뒤로가기 스와이프
+            startX = screenWidth - 1f; // 완전히 오른쪽 가장자리
+            endX = screenWidth * 0.5f; // 화면 중앙까지
+            Log.d(TAG, "우측 엣지→중앙 네비게이션 스와이프 (뒤로가기)");
+        } else {
+            // 좌측 엣지에서 시작하는 앞으로가기/메뉴 스와이프
+            startX = 1f; // 완전히 왼쪽 가장자리
+            endX = screenWidth * 0.5f; // 화면 중앙까지
+            Log.d(TAG, "좌측 엣지→중앙 네비게이션 스와이프 (앞으로가기/메뉴)");
+        }
+
+        // 네비게이션 스와이프 경로 생성
+        Path navPath = new Path();
+        navPath.moveTo(startX, startY);
+        navPath.lineTo(endX, endY);
+
+        // 네비게이션 스와이프는 더 느리고 부드럽게
+        long navDuration = 600;
+
+        GestureDescription.StrokeDescription navStroke =
+                new GestureDescription.StrokeDescription(navPath, 0, navDuration);
+        GestureDescription.Builder gestureBuilder = new GestureDescription.Builder();
+        gestureBuilder.addStroke(navStroke);
+
+        Log.d(TAG, String.format("네비게이션 스와이프: (%.1f,%.1f) → (%.1f,%.1f), 지속시간: %dms", 
+                startX, startY, endX, endY, navDuration));
+
+        return gestureBuilder.build();
     }
 
     /**
@@ -7,10 +7,14 @@ import android.app.Service;
 import android.content.Context;
 import android.content.Intent;
 import android.graphics.PixelFormat;
+import android.graphics.PointF;
 import android.os.Build;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
 import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
 import android.os.Vibrator;
 import android.util.DisplayMetrics;
 import android.util.Log;
@@ -23,16 +27,41 @@ import androidx.annotation.Nullable;
 import androidx.core.app.NotificationCompat;
 
 import camp.visual.android.sdk.sample.R;
+import camp.visual.android.sdk.sample.core.utils.MemoryPressureCoordinator;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationHistoryLog;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationProfileStore;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationRecord;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationRepository;
+import camp.visual.android.sdk.sample.data.calibration.FileCalibrationRepository;
 import camp.visual.android.sdk.sample.data.repository.EyeTrackingRepository;
 import camp.visual.android.sdk.sample.data.repository.EyedidTrackingRepository;
 import camp.visual.android.sdk.sample.data.settings.SettingsRepository;
 import camp.visual.android.sdk.sample.data.settings.SharedPrefsSettingsRepository;
+import camp.visual.android.sdk.sample.domain.calibration.AdaptiveCalibrationManager;
+import camp.visual.android.sdk.sample.domain.calibration.CalibrationFixationGate;
+import camp.visual.android.sdk.sample.domain.calibration.CalibrationValidator;
+import camp.visual.android.sdk.sample.domain.calibration.CorrectionMap;
+import camp.visual.android.sdk.sample.domain.calibration.DriftEstimator;
+import camp.visual.android.sdk.sample.domain.calibration.ImplicitCalibrationLearner;
 import camp.visual.android.sdk.sample.domain.filter.EnhancedOneEuroFilterManager;
+import camp.visual.android.sdk.sample.domain.interaction.BlinkClassifier;
 import camp.visual.android.sdk.sample.domain.interaction.ClickDetector;
 import camp.visual.android.sdk.sample.domain.interaction.EdgeScrollDetector;
+import camp.visual.android.sdk.sample.domain.interaction.SmoothScrollController;
+import camp.visual.android.sdk.sample.domain.interaction.TargetIndex;
 // SwipeDetector 제거 - EdgeScrollDetector가 스와이프 기능도 포함
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
+import camp.visual.android.sdk.sample.domain.performance.AllocationTracker;
+import camp.visual.android.sdk.sample.domain.performance.EnergyCostTable;
+import camp.visual.android.sdk.sample.domain.performance.EnergyEstimator;
+import camp.visual.android.sdk.sample.domain.performance.FpsGovernor;
+import camp.visual.android.sdk.sample.domain.performance.FrameJankMonitor;
+import camp.visual.android.sdk.sample.domain.performance.GazeActivityModel;
 import camp.visual.android.sdk.sample.domain.performance.PerformanceMonitor;
+import camp.visual.android.sdk.sample.domain.performance.ThermalPolicy;
+import camp.visual.android.sdk.sample.domain.safety.AdaptiveCalibrationSafetyWrapper;
+import camp.visual.android.sdk.sample.domain.safety.CalibrationSafetyManager;
+import camp.visual.android.sdk.sample.domain.safety.RecalibrationScheduler;
 import camp.visual.android.sdk.sample.service.accessibility.MyAccessibilityService;
 import camp.visual.android.sdk.sample.ui.main.MainActivity;
 import camp.visual.android.sdk.sample.ui.views.CalibrationViewer;
@@ -40,7 +69,10 @@ import camp.visual.android.sdk.sample.ui.views.OverlayCursorView;
 import camp.visual.android.sdk.sample.ui.views.overlay.EdgeMenuManager;
 import camp.visual.eyedid.gazetracker.callback.CalibrationCallback;
 
+import java.io.FileDescriptor;
+import java.io.PrintWriter;
 import java.lang.ref.WeakReference;
+import java.util.List;
 import camp.visual.eyedid.gazetracker.callback.TrackingCallback;
 import camp.visual.eyedid.gazetracker.constant.CalibrationModeType;
 import camp.visual.eyedid.gazetracker.metrics.BlinkInfo;
@@ -49,7 +81,7 @@ import camp.visual.eyedid.gazetracker.metrics.GazeInfo;
 import camp.visual.eyedid.gazetracker.metrics.UserStatusInfo;
 import camp.visual.eyedid.gazetracker.metrics.state.TrackingState;
 
-public class GazeTrackingService extends Service implements PerformanceMonitor.PerformanceCallback {
+public class GazeTrackingService extends Service implements PerformanceMonitor.AlertListener {
 
     private static final String TAG = "GazeTrackingService";
     private static final String CHANNEL_ID = "GazeTrackingServiceChannel";
@@ -57,16 +89,71 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
     // 컴포넌트
     private EyedidTrackingRepository trackingRepository;
     private SettingsRepository settingsRepository;
+    private CalibrationRepository calibrationRepository;
+    private CalibrationProfileStore calibrationProfileStore;
+    private CalibrationSafetyManager calibrationSafetyManager;
+    private HandlerThread calibrationSaveThread;   // 🆕 보정 파일 쓰기 전용
+    private Handler calibrationSaveHandler;
     private UserSettings userSettings;
     private ClickDetector clickDetector;
     private EdgeScrollDetector edgeScrollDetector;
     // SwipeDetector 제거 - EdgeScrollDetector가 스와이프도 담당
 
+    // 🆕 시선 비례 부드러운 스크롤 (설정에서 켠 경우에만 사용)
+    private final SmoothScrollController smoothScrollController = new SmoothScrollController();
+    private boolean smoothScrolling = false;
+
+    // 🔧 상태바 높이 캐시 (-1 = 아직 조회 전)
+    private int statusBarHeight = -1;
+
+    // 🆕 눈 깜빡임 클릭 (보고 깜빡이면 1초 응시 없이 클릭)
+    private final BlinkClassifier blinkClassifier = new BlinkClassifier();
+    private static final float BLINK_ANCHOR_MIN_PROGRESS = 0.2f; // 최소 200ms 응시한 지점을 클릭 대상으로
+    private static final long BLINK_ANCHOR_MAX_AGE_MS = 1000;    // 눈을 감기 직전까지 응시하고 있었어야 함 (두 번 깜빡임 간격 포함)
+    private float blinkAnchorX = -1;
+    private float blinkAnchorY = -1;
+    private long blinkAnchorTime = 0;
+    private boolean blinkAnchorValid = false;
+    private boolean wasEyesClosed = false;
+
+    // 🆕 암묵적 배경 재보정 (응시 클릭 → 실제 대상 중심, 설정에서 켠 경우에만)
+    private final ImplicitCalibrationLearner implicitLearner = new ImplicitCalibrationLearner();
+    private AdaptiveCalibrationSafetyWrapper adaptationSafety;
+    private static final float IMPLICIT_MAX_TARGET_SIZE = 240f; // 큰 대상은 중심을 봤다고 가정할 수 없음
+    private final float[] implicitPoint = new float[2];
+    private final float[] pendingAdaptation = new float[2];
+
+    // 🆕 위치별 보정 격자 (전역 커서 오프셋 + 아핀 보정 후 남는 위치별 잔차)
+    private final CorrectionMap correctionMap = new CorrectionMap();
+    private final float[] correctionVector = new float[2];
+
+    // 🆕 보정 직후 검증 단계 (실측 오차로 품질 평가, 약 3초)
+    private AdaptiveCalibrationManager adaptiveCalibrationManager;
+    private CalibrationValidator calibrationValidator;
+    private UserStatusInfo lastUserStatusInfo;
+    private UserStatusInfo preCalibrationStatus;
+
+    // 🆕 사용 중 실측 드리프트 (메뉴 버튼/클릭 대상 응시 오차) - 기준 초과 시에만 재보정
+    private final DriftEstimator driftEstimator = new DriftEstimator();
+
+    // 🆕 드리프트/품질/적응 한계 재보정 요청을 한 곳에서 빈도 제한하고 실행 시점 결정
+    private RecalibrationScheduler recalibrationScheduler;
+    private final Runnable recalibrationCheck = this::dispatchRecalibration;
+
     // 🆕 향상된 필터링 시스템
     private EnhancedOneEuroFilterManager enhancedFilterManager;
 
     // 🆕 성능 모니터링 시스템
     private PerformanceMonitor performanceMonitor;
+    private EnergyEstimator energyEstimator;
+    private FrameJankMonitor frameJankMonitor;
+
+    // 🆕 선택적 할당 추적 창 (시선 처리 단계별 할당량, 진단용)
+    private final AllocationTracker allocationTracker = new AllocationTracker();
+    // 🆕 프레임이 멈춰도 창이 끝나도록 (전역 할당 카운팅이 켜진 채 남지 않게)
+    private final Runnable allocationTrackingTimeout = allocationTracker::stop;
+    private static final long DEFAULT_ALLOCATION_TRACKING_SECONDS = 30;
+    private static final long MAX_ALLOCATION_TRACKING_SECONDS = 300;
 
     // 시스템 서비스 및 UI
     private WindowManager windowManager;
@@ -82,10 +169,44 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
     private boolean isCalibrating = false;
     private boolean skipProgress = false;
 
+    // 🆕 보정 지점별 샘플 수집 시작 게이트 (고정 시선 감지, 프레임이 없을 때만 타임아웃)
+    private final CalibrationFixationGate fixationGate = new CalibrationFixationGate();
+    // 🔧 타임아웃은 기존 고정 대기(1000ms)를 넘지 않음 - 고정 시선을 못 잡아도 보정이 느려지지 않게
+    private static final long POINT_GATE_TIMEOUT_MS = 1000;
+    private int calibrationPointIndex = 0;
+    private final Runnable calibrationGateTimeout = () -> {
+        if (fixationGate.forceOpen(SystemClock.uptimeMillis())) {
+            Log.d(TAG, "보정 지점 고정 시선 대기 시간 초과 - 샘플 수집 시작");
+            beginCalibrationSampleCollection();
+        }
+    };
+
+    // 🆕 저장된 캘리브레이션 재사용 (이보다 오래되면 1포인트 보정으로 다듬기)
+    private static final long CALIBRATION_MAX_AGE_MS = 7L * 24 * 60 * 60 * 1000;
+    private static final long REFINEMENT_START_DELAY_MS = 1000; // 추적 시작 대기
+
     // 🆕 성능 최적화 상태
     private boolean performanceOptimizationEnabled = true;
-    private long lastPerformanceCheck = 0;
-    private static final long PERFORMANCE_CHECK_INTERVAL = 10000; // 10초마다 체크
+
+    // 🆕 FPS 조절기 (CPU/지연 예산 + 배터리 상한, 히스테리시스)
+    private final FpsGovernor fpsGovernor = new FpsGovernor();
+
+    // 🆕 시선 활동 상태 (얼굴 없음/시선 정지 시 저속 추적, 얼굴 재포착/시선 이동 시 즉시 복원)
+    private final GazeActivityModel gazeActivityModel = new GazeActivityModel();
+    private final Runnable applyTrackingRate = this::applyTrackingRate;
+
+    // 🆕 발열 정책 (OS 스로틀링 전에 FPS 상한/필터 간소화)
+    private final ThermalPolicy thermalPolicy = new ThermalPolicy();
+
+    // 🔧 발열 정책/FPS 조절기용 스냅샷 구독 - 매 샘플 (5초)
+    //    지연 p95/드롭 예산은 스냅샷에 없어 변화 기준으로 깨울 수 없고,
+    //    조절기 평활/유지 시간도 5초 주기 기준 (FpsGovernorTest와 같은 주기)
+    //    발열 상태 변화로 앞당겨진 샘플은 thermalChange로 전달
+    private static final PerformanceMonitor.Significance GOVERNOR_SIGNIFICANCE =
+            new PerformanceMonitor.Significance.Builder()
+                    .maxIntervalMs(5_000)
+                    .build();
+    private final PerformanceMonitor.MetricsSubscriber performanceSubscriber = this::onPerformanceSnapshot;
 
     // 🆕 엣지 메뉴 매니저
     private EdgeMenuManager edgeMenuManager;
@@ -113,7 +234,15 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
     private void initRepositories() {
         trackingRepository = new EyedidTrackingRepository();
         settingsRepository = new SharedPrefsSettingsRepository(this);
+        calibrationRepository = new FileCalibrationRepository(this);
+        calibrationProfileStore = CalibrationProfileStore.getInstance(this);
+        calibrationSafetyManager = new CalibrationSafetyManager(CalibrationHistoryLog.getInstance(this));
         userSettings = settingsRepository.getUserSettings();
+
+        // 🆕 보정 저장 (파일 쓰기 + 교체)은 메인 스레드 밖에서
+        calibrationSaveThread = new HandlerThread("CalibrationSave", Process.THREAD_PRIORITY_BACKGROUND);
+        calibrationSaveThread.start();
+        calibrationSaveHandler = new Handler(calibrationSaveThread.getLooper());
     }
 
     private void initDetectors() {
@@ -132,18 +261,60 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         Log.d(TAG, "향상된 OneEuroFilter 초기화 - 프리셋: " + userSettings.getOneEuroFilterPreset().getDisplayName());
         Log.d(TAG, "안경 보정 기능: " + (enhancedFilterManager.isGlassesCompensationEnabled() ? "활성화" : "비활성화"));
         Log.d(TAG, "통합 엣지 감지기(스크롤+스와이프) 초기화 완료");
+
+        // 🆕 암묵적 재보정 - 안전 래퍼가 승인한 만큼만 적용
+        adaptiveCalibrationManager = new AdaptiveCalibrationManager();
+        adaptationSafety = new AdaptiveCalibrationSafetyWrapper(adaptiveCalibrationManager);
+        calibrationValidator = new CalibrationValidator(getResources().getDisplayMetrics().xdpi / 2.54f);
+        recalibrationScheduler = new RecalibrationScheduler(calibrationSafetyManager, adaptiveCalibrationManager);
+
+        adaptationSafety.setAdaptationListener(new AdaptiveCalibrationSafetyWrapper.AdaptationListener() {
+            @Override
+            public void onAdaptationApplied(float adjustmentX, float adjustmentY) {
+                implicitLearner.applyApproved(adjustmentX, adjustmentY);
+                // 측정된 오차 일부가 방금 보정되었으므로 기존 관측의 신뢰도를 낮춤
+                driftEstimator.discount(0.5f, SystemClock.uptimeMillis());
+            }
+
+            @Override
+            public void onRecalibrationRequested(String reason) {
+                recalibrationScheduler.submit(RecalibrationScheduler.Source.ADAPTATION_LIMIT, 0.7f, reason,
+                        SystemClock.uptimeMillis());
+                handler.post(recalibrationCheck);
+            }
+        });
     }
 
     // 🆕 엣지 메뉴 매니저 초기화
     private void initEdgeMenuManager() {
         edgeMenuManager = new EdgeMenuManager(this);
+        edgeMenuManager.setTargetFixationListener(this::observeDrift);
+        for (View menu : edgeMenuManager.getMenuViews()) {
+            frameJankMonitor.track(menu, FrameJankMonitor.Overlay.EDGE_MENU);
+        }
         Log.d(TAG, "엣지 메뉴 매니저 초기화 완료");
     }
 
     // 🆕 성능 모니터링 초기화
     private void initPerformanceMonitoring() {
         performanceMonitor = new PerformanceMonitor(this);
-        performanceMonitor.setCallback(this);
+        performanceMonitor.setAlertListener(this);
+        performanceMonitor.subscribe(GOVERNOR_SIGNIFICANCE, performanceSubscriber);
+        energyEstimator = performanceMonitor.getEnergyEstimator();
+        fpsGovernor.setEnergyCostTable(energyEstimator.getCostTable());
+
+        // 🆕 오버레이 창 프레임 지연 감지 (그려지는 동안에만 동작)
+        frameJankMonitor = new FrameJankMonitor(this);
+        frameJankMonitor.track(overlayCursorView, FrameJankMonitor.Overlay.CURSOR);
+        frameJankMonitor.track(calibrationViewer, FrameJankMonitor.Overlay.CALIBRATION);
+        performanceMonitor.setFrameJankMonitor(frameJankMonitor);
+
+        // 🆕 FPS 조절기 결정만 실제 FPS 변경으로 이어짐 (메인 스레드에서 호출)
+        fpsGovernor.setCurrentFps(trackingRepository.getCurrentFPS(), SystemClock.uptimeMillis());
+        fpsGovernor.setDecisionListener(decision -> {
+            Log.d(TAG, "FPS 조절: " + decision);
+            applyTrackingRate();
+        });
 
         if (performanceOptimizationEnabled) {
             performanceMonitor.startMonitoring();
@@ -205,9 +376,17 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
                 trackingRepository.startTracking();
                 Log.d(TAG, "GazeTracker 초기화 성공 (HIGH 정확도 모드)");
 
+                // 🆕 저장된 캘리브레이션을 먼저 적용하고, 필요한 경우에만 보정
+                CalibrationRecord.Compatibility warmStart = restoreSavedCalibration(true);
+
                 // 자동 보정 시작
                 if (userSettings.isAutoOnePointCalibrationEnabled() && !isCalibrating) {
-                    startAutoCalibration();
+                    if (warmStart == CalibrationRecord.Compatibility.STALE) {
+                        Log.d(TAG, "저장된 보정이 오래됨");
+                        startRefinementCalibration();
+                    } else if (warmStart == CalibrationRecord.Compatibility.MISMATCH) {
+                        startAutoCalibration();
+                    }
                 }
             } else {
                 Log.e(TAG, "GazeTracker 초기화 실패: " + error);
@@ -225,6 +404,68 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         }, 1000);
     }
 
+    /**
+     * 🆕 저장된 캘리브레이션 복원 - 현재 사용자 프로필 우선
+     * @param allowLastCalibration 기본 프로필이면 마지막 보정 파일도 사용 (서비스 시작 시)
+     * @return COMPATIBLE/STALE이면 적용됨, MISMATCH면 저장된 것이 없거나 사용할 수 없음
+     */
+    private CalibrationRecord.Compatibility restoreSavedCalibration(boolean allowLastCalibration) {
+        CalibrationRecord current = CalibrationRecord.forCurrentDevice(this, trackingRepository.getTracker(),
+                userSettings.isGlassesCompensationEnabled(), null, System.currentTimeMillis());
+
+        String profileId = userSettings.getCalibrationProfileId();
+        CalibrationProfileStore.Profile profile = calibrationProfileStore.get(profileId, current);
+        CalibrationRecord saved;
+        if (profile != null) {
+            saved = profile.record;
+            Log.d(TAG, String.format("프로필 '%s' 캘리브레이션 발견 (품질 %s)", profileId,
+                    profile.hasQualityScore() ? String.format("%.2f", profile.qualityScore) : "미확인"));
+        } else if (allowLastCalibration && CalibrationProfileStore.DEFAULT_PROFILE_ID.equals(profileId)) {
+            saved = calibrationRepository.load();
+        } else {
+            saved = null;
+        }
+
+        if (saved == null) {
+            Log.d(TAG, "저장된 캘리브레이션 없음 - 전체 보정 필요");
+            return CalibrationRecord.Compatibility.MISMATCH;
+        }
+
+        CalibrationRecord.Compatibility compatibility = saved.checkAgainst(current, CALIBRATION_MAX_AGE_MS);
+        if (compatibility == CalibrationRecord.Compatibility.MISMATCH) {
+            Log.d(TAG, "저장된 캘리브레이션이 현재 환경과 다름 - " + saved + " / 현재 " + current);
+            return compatibility;
+        }
+
+        if (!trackingRepository.applyCalibrationData(saved.getCalibrationData())) {
+            return CalibrationRecord.Compatibility.MISMATCH;
+        }
+
+        Log.d(TAG, "저장된 캘리브레이션 적용 (" + compatibility + "): " + saved);
+        resetImplicitCalibration();
+        Toast.makeText(this, "저장된 시선 보정 적용", Toast.LENGTH_SHORT).show();
+        return compatibility;
+    }
+
+    // 🆕 저장된 보정 기반 1포인트 다듬기
+    private void startRefinementCalibration() {
+        Log.d(TAG, "기존 보정 기반 1포인트 보정으로 다듬기");
+
+        handler.postDelayed(() -> {
+            if (isCalibrating || trackingRepository == null) {
+                return;
+            }
+            isCalibrating = true;
+            preCalibrationStatus = lastUserStatusInfo;
+            overlayCursorView.setVisibility(View.INVISIBLE);
+
+            if (!trackingRepository.startRefinementCalibration(CalibrationModeType.ONE_POINT)) {
+                // 저장된 보정은 이미 적용되어 있으므로 그대로 사용
+                resetCalibrationState();
+            }
+        }, REFINEMENT_START_DELAY_MS);
+    }
+
     private void startCalibration() {
         if (trackingRepository == null || trackingRepository.getTracker() == null) {
             Log.e(TAG, "trackingRepository 또는 tracker가 null입니다");
@@ -237,6 +478,7 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         }
 
         isCalibrating = true;
+        preCalibrationStatus = lastUserStatusInfo;
         overlayCursorView.setVisibility(View.INVISIBLE);
 
         boolean ok = trackingRepository.getTracker().startCalibration(CalibrationModeType.DEFAULT);
@@ -272,6 +514,9 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
                         .refractionCorrectionFactor(userSettings.getRefractionCorrectionFactor())
                         .dynamicFilteringEnabled(userSettings.isDynamicFilteringEnabled())
                         .targetFPS(userSettings.getTargetFPS())
+                        .smoothScrollEnabled(userSettings.isSmoothScrollEnabled())
+                        .blinkDetectionEnabled(userSettings.isBlinkDetectionEnabled())
+                        .calibrationProfileId(userSettings.getCalibrationProfileId())
                         .build();
                 
                 // 설정 저장
@@ -322,11 +567,56 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
     private final TrackingCallback trackingCallback = new TrackingCallback() {
         @Override
         public void onMetrics(long timestamp, GazeInfo gazeInfo, FaceInfo faceInfo, BlinkInfo blinkInfo, UserStatusInfo userStatusInfo) {
+            // 🆕 할당 추적 창이 켜져 있으면 단계별로 귀속 (꺼져 있으면 volatile 읽기만)
+            allocationTracker.beginFrame(SystemClock.uptimeMillis());
+            try {
+                processFrame(timestamp, gazeInfo, blinkInfo, userStatusInfo);
+            } finally {
+                allocationTracker.endFrame();
+            }
+        }
+
+        private void processFrame(long timestamp, GazeInfo gazeInfo, BlinkInfo blinkInfo, UserStatusInfo userStatusInfo) {
+            // 🆕 프레임 지연 기록 (FPS 조절 예산)
+            fpsGovernor.recordFrame(SystemClock.uptimeMillis(), System.currentTimeMillis() - timestamp);
+
             DisplayMetrics dm = getResources().getDisplayMetrics();
             float screenWidth = dm.widthPixels;
             float screenHeight = dm.heightPixels;
 
+            // 🆕 의도적 깜빡임 감지 (눈을 감는 동안은 추적이 실패할 수 있으므로 상태와 무관하게 처리)
+            handleBlinkSelection(timestamp, blinkInfo);
+
+            if (userStatusInfo != null) {
+                lastUserStatusInfo = userStatusInfo;
+                // 🆕 사용자 상태 윈도우 통계 갱신 (보정 전후 상태 평가용)
+                adaptiveCalibrationManager.analyzeUserStatus(userStatusInfo);
+            }
+
+            // 🆕 시선 활동 상태 갱신 - 바뀌면 다음 프레임부터 새 FPS 적용
+            boolean menuVisible = edgeMenuManager.isMenuVisible();
+            boolean interacting = isCalibrating || calibrationValidator.isActive()
+                    || menuVisible || smoothScrolling
+                    || edgeScrollDetector.isActive() || clickDetector.getProgress() > 0f;
+            if (gazeActivityModel.update(SystemClock.uptimeMillis(),
+                    gazeInfo.trackingState == TrackingState.SUCCESS, gazeInfo.x, gazeInfo.y, interacting)) {
+                handler.post(applyTrackingRate);
+            }
+
+            // 🆕 에너지 측정 구간을 현재 FPS/기능 조합에 귀속 (값이 같으면 비교만 함)
+            energyEstimator.setConfiguration(trackingRepository.getCurrentFPS(), energyFeatures(menuVisible));
+
+            // 🆕 보정 지점 고정 시선 감지 (깜빡임/추적 실패 프레임은 제외)
+            if (isCalibrating && fixationGate.isWaiting()) {
+                boolean validFrame = gazeInfo.trackingState == TrackingState.SUCCESS
+                        && (blinkInfo == null || !blinkInfo.isBlink);
+                if (fixationGate.update(SystemClock.uptimeMillis(), gazeInfo.x, gazeInfo.y, validFrame)) {
+                    handler.post(() -> beginCalibrationSampleCollection());
+                }
+            }
+
             if (gazeInfo.trackingState == TrackingState.SUCCESS) {
+                allocationTracker.mark(AllocationTracker.Stage.FILTER);
                 // 🆕 향상된 필터링 시스템 사용
                 float filteredX, filteredY;
                 long filterTime = android.os.SystemClock.elapsedRealtime();
@@ -354,12 +644,31 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
                     }
                 }
 
-                // 오프셋 적용
-                filteredX += userSettings.getCursorOffsetX();
-                filteredY += userSettings.getCursorOffsetY();
+                allocationTracker.mark(AllocationTracker.Stage.CORRECTION);
+                // 🆕 암묵적 재보정 모델 적용 (학습 결과가 적용된 경우에만)
+                implicitLearner.setScreenSize(screenWidth, screenHeight);
+                if (userSettings.isBackgroundLearningEnabled() && !implicitLearner.isIdentity()) {
+                    implicitLearner.correct(filteredX, filteredY, implicitPoint);
+                    filteredX = implicitPoint[0];
+                    filteredY = implicitPoint[1];
+                }
+
+                // 오프셋 적용 (🔧 전역 오프셋 → 위치별 보정 격자, 학습 설정과 무관하게 항상)
+                // 격자는 검증 잔차로도 채워지며, 클릭 기반 학습만 백그라운드 학습 설정을 따름
+                correctionMap.setScreenSize(screenWidth, screenHeight);
+                correctionMap.setBaseOffset(userSettings.getCursorOffsetX(), userSettings.getCursorOffsetY());
+                correctionMap.lookup(filteredX, filteredY, correctionVector);
+                filteredX += correctionVector[0];
+                filteredY += correctionVector[1];
 
                 float safeX = Math.max(0, Math.min(filteredX, screenWidth - 1));
                 float safeY = Math.max(0, Math.min(filteredY, screenHeight - 1));
+                allocationTracker.mark(AllocationTracker.Stage.INTERACTION);
+
+                // 🆕 보정 검증 중이면 사용자에게 보일 위치 그대로 수집
+                if (calibrationValidator.isActive()) {
+                    calibrationValidator.addSample(SystemClock.uptimeMillis(), filteredX, filteredY);
+                }
 
                 if (!isCalibrating) {
                     overlayCursorView.updatePosition(safeX, safeY);
@@ -375,6 +684,11 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
                         return; // 메뉴 상호작용 중에는 다른 상호작용 비활성화
                     }
 
+                    // 🆕 부드러운 스크롤 모드: 상/하단 띠에서는 엣지/클릭 처리 대신 연속 스크롤
+                    if (handleSmoothScroll(safeY, screenHeight)) {
+                        return;
+                    }
+
                     // 🆕 엣지 스크롤 처리 (좌우 모서리 포함)
                     EdgeScrollDetector.Edge edge = edgeScrollDetector.update(safeX, safeY, screenWidth, screenHeight);
 
@@ -385,8 +699,8 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
 
                         if (action == EdgeScrollDetector.ScrollAction.SCROLL_DOWN) {
                             overlayCursorView.setCursorText("③");
-                            scrollDown(userSettings.getContinuousScrollCount());
-                            handler.postDelayed(() -> resetAll(), 500);
+                            // 🔧 엣지 상태는 유지 - 계속 응시하면 응시 깊이에 따라 더 빠르게 연속 스크롤
+                            scrollDown(userSettings.getContinuousScrollCount(), edgeScrollDetector.getDwellDepth());
                         }
                     } else if (edge == EdgeScrollDetector.Edge.BOTTOM) {
                         overlayCursorView.setTextPosition(true);
@@ -395,8 +709,8 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
 
                         if (action == EdgeScrollDetector.ScrollAction.SCROLL_UP) {
                             overlayCursorView.setCursorText("③");
-                            scrollUp(userSettings.getContinuousScrollCount());
-                            handler.postDelayed(() -> resetAll(), 500);
+                            // 🔧 엣지 상태는 유지 - 계속 응시하면 응시 깊이에 따라 더 빠르게 연속 스크롤
+                            scrollUp(userSettings.getContinuousScrollCount(), edgeScrollDetector.getDwellDepth());
                         }
                     } else if (edge == EdgeScrollDetector.Edge.LEFT_TOP) {
                         // 🆕 좌측 상단 엣지 처리 - 네비게이션 메뉴
@@ -447,34 +761,34 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
                             handler.postDelayed(() -> resetAll(), 800);
                         }
                     } else if (!edgeScrollDetector.isActive()) {
-                        // 🆕 엣지가 활성화되지 않은 경우에만 클릭 감지
+                        // 🆕 눈 감는 중의 시선 좌표는 버림
+                        if (userSettings.isBlinkDetectionEnabled() && blinkClassifier.isClosed()) {
+                            return;
+                        }
+
+                        // 🆕 엣지가 활성화되지 않은 경우에만 클릭 감지 (대상 크기에 따라 응시 시간 조정)
+                        clickDetector.setTargetIndex(MyAccessibilityService.getTargetIndex(), getStatusBarHeight());
                         boolean clicked = clickDetector.update(safeX, safeY);
+                        if (userSettings.isBlinkDetectionEnabled()) {
+                            updateBlinkAnchor();
+                        }
                         overlayCursorView.setProgress(clickDetector.getProgress());
                         overlayCursorView.setCursorText("●");
 
                         if (clicked) {
                             performClick(safeX, safeY);
+                            learnFromClick();
                         }
                     }
                 }
             }
-
-            // 🆕 성능 기반 FPS 조정 (주기적으로)
-            checkAndAdjustPerformance();
         }
 
         @Override
         public void onDrop(long timestamp) {
-            // 🆕 프레임 드롭 감지 시 성능 조정
+            // 🆕 프레임 드롭은 기록만 - 다음 성능 스냅샷에서 FPS 조절기가 반영
             Log.w(TAG, "프레임 드롭 감지: " + timestamp);
-            if (performanceOptimizationEnabled && performanceMonitor != null) {
-                handler.post(() -> {
-                    PerformanceMonitor.PerformanceMetrics metrics = performanceMonitor.getCurrentMetrics();
-                    trackingRepository.adjustFPSBasedOnPerformance(
-                            metrics.batteryLevel, metrics.cpuUsage, metrics.availableMemoryMB
-                    );
-                });
-            }
+            fpsGovernor.recordDrop();
         }
     };
 
@@ -502,28 +816,24 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         }
     }
 
-    // 🆕 성능 체크 및 조정
-    private void checkAndAdjustPerformance() {
-        long currentTime = System.currentTimeMillis();
-        if (performanceOptimizationEnabled && performanceMonitor != null &&
-                currentTime - lastPerformanceCheck > PERFORMANCE_CHECK_INTERVAL) {
-
-            lastPerformanceCheck = currentTime;
-
-            PerformanceMonitor.PerformanceMetrics metrics = performanceMonitor.getCurrentMetrics();
-            trackingRepository.adjustFPSBasedOnPerformance(
-                    metrics.batteryLevel, metrics.cpuUsage, metrics.availableMemoryMB
-            );
+    // 🔧 매 성능 샘플 스냅샷 (GOVERNOR_SIGNIFICANCE, 메인 스레드)
+    private void onPerformanceSnapshot(PerformanceMonitor.PerformanceMetrics metrics) {
+        // 🆕 발열 단계 - 필터 간소화는 FPS 조절 여부와 무관하게 적용
+        ThermalPolicy.Level thermalChange = thermalPolicy.update(SystemClock.uptimeMillis(),
+                metrics.thermalStatus, metrics.thermalHeadroom);
+        if (thermalChange != null) {
+            Log.d(TAG, "발열 단계: " + thermalChange + " (상태 " + metrics.thermalStatus
+                    + ", 여유 " + metrics.thermalHeadroom + ")");
+            enhancedFilterManager.setReducedComplexity(thermalChange.reducedFilter);
         }
-    }
 
-    // 🆕 PerformanceMonitor.PerformanceCallback 구현
-    @Override
-    public void onPerformanceChanged(PerformanceMonitor.PerformanceMetrics metrics) {
-        if (performanceOptimizationEnabled) {
-            trackingRepository.adjustFPSBasedOnPerformance(
-                    metrics.batteryLevel, metrics.cpuUsage, metrics.availableMemoryMB
-            );
+        // 저속 추적 중의 부하는 활성 FPS의 예산 판단 근거가 아니므로 조절기 갱신 안 함
+        if (performanceOptimizationEnabled && trackingRepository.isPerformanceMonitoringEnabled()
+                && gazeActivityModel.isActive()) {
+            fpsGovernor.setEnergyFeatures(energyFeatures(false));
+            fpsGovernor.update(SystemClock.uptimeMillis(), metrics.processCpuUsage,
+                    metrics.batteryLevel, metrics.isCharging, metrics.availableMemoryMB,
+                    thermalPolicy.getLevel().maxFps, metrics.remainingEnergyJ);
         }
     }
 
@@ -537,8 +847,21 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
             case CPU_CRITICAL:
                 alertMessage = "CPU 과부하! FPS 자동 조정 중";
                 break;
+            case ALLOCATION_HIGH:
+            case GC_PRESSURE:
+                alertMessage = "GC/할당 과다 - " + metrics.gcStats;
+                break;
+            case HEAP_HIGH:
+                alertMessage = "Java 힙 부족 - " + metrics.gcStats;
+                // 🆕 다시 만들기 쉬운 캐시만 먼저 비움
+                MemoryPressureCoordinator.getInstance().shed(MemoryPressureCoordinator.Severity.LOW,
+                        "HEAP_HIGH 알림");
+                break;
             case MEMORY_CRITICAL:
                 alertMessage = "메모리 부족! 성능 조정 중";
+                // 🆕 onTrimMemory를 기다리지 않고 다시 만들 수 있는 캐시부터 비움
+                MemoryPressureCoordinator.getInstance().shed(MemoryPressureCoordinator.Severity.MEDIUM,
+                        "MEMORY_CRITICAL 알림");
                 break;
         }
 
@@ -547,6 +870,96 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         }
     }
 
+    /**
+     * 🆕 시선 비례 부드러운 스크롤 처리 (매 프레임)
+     * @return 스크롤 중이면 true - 이번 프레임의 엣지/클릭 처리를 생략
+     */
+    private boolean handleSmoothScroll(float y, float screenHeight) {
+        if (!userSettings.isSmoothScrollEnabled()) {
+            if (smoothScrolling) {
+                stopSmoothScroll();
+            }
+            return false;
+        }
+
+        float rate = smoothScrollController.update(y, screenHeight, android.os.SystemClock.uptimeMillis());
+        if (!smoothScrollController.isActive()) {
+            if (smoothScrolling) {
+                stopSmoothScroll();
+            }
+            return false;
+        }
+
+        if (!smoothScrolling) {
+            smoothScrolling = true;
+            clickDetector.reset();
+            edgeScrollDetector.resetAll();
+            overlayCursorView.setProgress(0f);
+            Log.d(TAG, "부드러운 스크롤 시작");
+        }
+
+        MyAccessibilityService.updateSmoothScrollAction(rate);
+        overlayCursorView.setTextPosition(rate < 0);
+        overlayCursorView.setCursorText(rate > 0 ? "▲" : rate < 0 ? "▼" : "●");
+        return true;
+    }
+
+    /**
+     * 🆕 보고 깜빡이기 클릭 - 길게 또는 두 번 깜빡이면 직전 응시 지점을 즉시 클릭
+     */
+    private void handleBlinkSelection(long timestamp, BlinkInfo blinkInfo) {
+        if (!userSettings.isBlinkDetectionEnabled() || isCalibrating || blinkInfo == null) {
+            return;
+        }
+
+        BlinkClassifier.Event event = blinkClassifier.update(timestamp, blinkInfo.isBlink);
+
+        // 눈을 감는 순간 클릭 대상 고정 (직전까지 응시하던 지점만 유효)
+        boolean closed = blinkClassifier.isClosed();
+        if (closed && !wasEyesClosed) {
+            blinkAnchorValid = blinkAnchorX >= 0
+                    && System.currentTimeMillis() - blinkAnchorTime <= BLINK_ANCHOR_MAX_AGE_MS;
+        }
+        wasEyesClosed = closed;
+
+        if (event == BlinkClassifier.Event.NONE) {
+            return;
+        }
+
+        if (edgeMenuManager.isMenuVisible() || smoothScrolling || edgeScrollDetector.isActive()
+                || !blinkAnchorValid) {
+            Log.d(TAG, "의도적 깜빡임 무시 (" + event + ") - 클릭 대상 없음");
+            return;
+        }
+
+        Log.d(TAG, "의도적 깜빡임 클릭 (" + event + ")");
+        blinkAnchorValid = false;
+        clickDetector.reset();
+        overlayCursorView.setProgress(0f);
+        performClick(blinkAnchorX, blinkAnchorY);
+    }
+
+    /**
+     * 깜빡임 클릭 대상 갱신 - 충분히 머문 응시 중심을 우선 사용
+     * (눈꺼풀이 내려가는 순간의 튀는 좌표로 대상이 바뀌지 않도록)
+     */
+    private void updateBlinkAnchor() {
+        if (clickDetector.getProgress() >= BLINK_ANCHOR_MIN_PROGRESS) {
+            blinkAnchorX = clickDetector.getFixationX();
+            blinkAnchorY = clickDetector.getFixationY();
+            blinkAnchorTime = System.currentTimeMillis();
+        }
+    }
+
+    private void stopSmoothScroll() {
+        smoothScrolling = false;
+        smoothScrollController.reset();
+        MyAccessibilityService.stopSmoothScrollAction();
+        overlayCursorView.setCursorText("●");
+        overlayCursorView.setTextPosition(false);
+        Log.d(TAG, "부드러운 스크롤 중지");
+    }
+
     private void resetAll() {
         edgeScrollDetector.resetAll();
         clickDetector.reset();
@@ -556,14 +969,15 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         overlayCursorView.setProgress(0f);
     }
 
-    private void scrollUp(int count) {
+    private void scrollUp(int count, float dwellDepth) {
         if (MyAccessibilityService.getInstance() != null) {
-            Log.d(TAG, "위로 스크롤 실행 (" + count + "회)");
+            Log.d(TAG, "위로 스크롤 실행 (" + count + "회, 응시 깊이 " + dwellDepth + ")");
 
-            if (count <= 1) {
+            if (count <= 1 && dwellDepth <= 0f) {
                 MyAccessibilityService.getInstance().performScroll(MyAccessibilityService.Direction.UP);
             } else {
-                MyAccessibilityService.getInstance().performContinuousScroll(MyAccessibilityService.Direction.UP, count);
+                MyAccessibilityService.getInstance().performContinuousScroll(
+                        MyAccessibilityService.Direction.UP, count, dwellDepth);
             }
 
             lastScrollTime = System.currentTimeMillis();
@@ -572,14 +986,15 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         }
     }
 
-    private void scrollDown(int count) {
+    private void scrollDown(int count, float dwellDepth) {
         if (MyAccessibilityService.getInstance() != null) {
-            Log.d(TAG, "아래로 스크롤 실행 (" + count + "회)");
+            Log.d(TAG, "아래로 스크롤 실행 (" + count + "회, 응시 깊이 " + dwellDepth + ")");
 
-            if (count <= 1) {
+            if (count <= 1 && dwellDepth <= 0f) {
                 MyAccessibilityService.getInstance().performScroll(MyAccessibilityService.Direction.DOWN);
             } else {
-                MyAccessibilityService.getInstance().performContinuousScroll(MyAccessibilityService.Direction.DOWN, count);
+                MyAccessibilityService.getInstance().performContinuousScroll(
+                        MyAccessibilityService.Direction.DOWN, count, dwellDepth);
             }
 
             lastScrollTime = System.currentTimeMillis();
@@ -588,15 +1003,104 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         }
     }
 
+    /**
+     * 🆕 응시 클릭이 알려진 대상 위에서 일어났으면 드리프트 관측으로 쓰고,
+     * 배경 학습이 켜져 있으면 (보정 전 시선, 대상 중심) 쌍으로 학습
+     */
+    private void learnFromClick() {
+        TargetIndex index = clickDetector.getTargetIndex();
+        int target = clickDetector.getLastClickTarget();
+        if (target == TargetIndex.NO_TARGET
+                || index.getWidth(target) > IMPLICIT_MAX_TARGET_SIZE
+                || index.getHeight(target) > IMPLICIT_MAX_TARGET_SIZE) {
+            return;
+        }
+
+        float clickX = clickDetector.getLastClickMeanX();
+        float clickY = clickDetector.getLastClickMeanY();
+
+        // 대상은 화면 좌표 → 시선(윈도우) 좌표
+        float targetX = index.getCenterX(target);
+        float targetY = index.getCenterY(target) - getStatusBarHeight();
+
+        observeDrift(targetX, targetY, clickX, clickY);
+
+        if (!userSettings.isBackgroundLearningEnabled()) {
+            return;
+        }
+
+        // 클릭 좌표(보정 + 격자 오프셋 적용됨) → 보정 전 시선 좌표
+        correctionMap.lookup(clickX, clickY, correctionVector);
+        implicitLearner.uncorrect(clickX - correctionVector[0], clickY - correctionVector[1], implicitPoint);
+        float rawX = implicitPoint[0];
+        float rawY = implicitPoint[1];
+
+        if (!implicitLearner.addSample(rawX, rawY, targetX, targetY)) {
+            return;
+        }
+
+        // 아핀 모델로 설명되지 않는 위치별 잔차는 격자에 누적 (학습 모델 기준 → 적용 모델이 따라와도 중복 보정 없음)
+        implicitLearner.correctFitted(rawX, rawY, implicitPoint);
+        correctionMap.addResidual(targetX, targetY, targetX - implicitPoint[0], targetY - implicitPoint[1], 1f);
+
+        if (implicitLearner.getPendingAdjustment(pendingAdaptation)) {
+            adaptationSafety.safelyApplyAdaptation(pendingAdaptation[0], pendingAdaptation[1]);
+        }
+    }
+
+    /**
+     * 🆕 위치를 아는 대상을 응시한 결과를 드리프트 추정에 반영하고, 실측 오차가 크면 재보정
+     * @param gazeX 대상 응시 중 보정 후 시선 평균 (시선 좌표계)
+     */
+    private void observeDrift(float targetX, float targetY, float gazeX, float gazeY) {
+        long now = SystemClock.uptimeMillis();
+        DriftEstimator.Estimate estimate = driftEstimator.observe(targetX, targetY, gazeX, gazeY, now, 1f);
+        recalibrationScheduler.submitDrift(estimate, now);
+        dispatchRecalibration();
+    }
+
+    /**
+     * 🆕 재보정 스케줄러 결정 실행 - 자동 1포인트 보정이 켜져 있으면 바로 보정, 아니면 안내만
+     * 지금 실행할 수 없으면 스케줄러가 알려준 시간 뒤에 다시 확인
+     */
+    private void dispatchRecalibration() {
+        handler.removeCallbacks(recalibrationCheck);
+        long now = SystemClock.uptimeMillis();
+        RecalibrationScheduler.Decision decision = recalibrationScheduler.decide(now, isCalibrating);
+        if (!decision.shouldRecalibrate()) {
+            if (decision.retryAfterMs > 0) {
+                handler.postDelayed(recalibrationCheck, decision.retryAfterMs);
+            }
+            return;
+        }
+        recalibrationScheduler.markDispatched(decision.request, now);
+
+        if (userSettings.isAutoOnePointCalibrationEnabled()) {
+            Log.d(TAG, "재보정 실행 (" + decision.request.source + "): " + decision.request.reason);
+            Toast.makeText(this, decision.request.reason + " - 1포인트 보정", Toast.LENGTH_SHORT).show();
+            startRefinementCalibration();
+        } else {
+            Toast.makeText(this, decision.request.reason + "\n시선 보정을 권장합니다", Toast.LENGTH_LONG).show();
+        }
+    }
+
+    // 🆕 새 보정이 적용되면 이전 보정 기준으로 학습한 결과는 폐기
+    private void resetImplicitCalibration() {
+        implicitLearner.reset();
+        correctionMap.clearResiduals();
+        driftEstimator.reset();
+        adaptationSafety.resetSession();
+        recalibrationScheduler.onCalibrationApplied();
+    }
+
     private void performClick(float x, float y) {
         Log.d(TAG, "클릭 실행 (커서 위치): (" + x + ", " + y + ")");
 
         float cursorX = x;
         float cursorY = y;
 
-        int statusBarHeight = getStatusBarHeight();
         float adjustedX = cursorX;
-        float adjustedY = cursorY + statusBarHeight;
+        float adjustedY = cursorY + getStatusBarHeight();
 
         Log.d(TAG, "클릭 실행 (최종 위치): (" + adjustedX + ", " + adjustedY + ")");
 
@@ -604,12 +1108,13 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         MyAccessibilityService.performClickAt(adjustedX, adjustedY);
     }
 
+    // 🔧 매 프레임 조회되므로 리소스 식별자 검색 결과 캐시
     private int getStatusBarHeight() {
-        int resourceId = getResources().getIdentifier("status_bar_height", "dimen", "android");
-        if (resourceId > 0) {
-            return getResources().getDimensionPixelSize(resourceId);
+        if (statusBarHeight < 0) {
+            int resourceId = getResources().getIdentifier("status_bar_height", "dimen", "android");
+            statusBarHeight = resourceId > 0 ? getResources().getDimensionPixelSize(resourceId) : 0;
         }
-        return 0;
+        return statusBarHeight;
     }
 
     private final CalibrationCallback calibrationCallback = new CalibrationCallback() {
@@ -630,22 +1135,97 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
 
         @Override
         public void onCalibrationFinished(double[] calibrationData) {
-            hideCalibrationView();
-            isCalibrating = false;
+            skipProgress = true;
+            handler.post(() -> finishFixationGate());
+            resetImplicitCalibration();
             
-            // 🆕 캘리브레이션 완료 후 커서 오프셋 자동 리셋
+            // 🆕 캘리브레이션 완료 후 커서 오프셋 자동 리셋 (검증은 새 보정만으로 측정)
             resetCursorOffsetsAfterCalibration();
-            
-            Toast.makeText(GazeTrackingService.this, "보정 완료 (HIGH 정확도)\n커서 오프셋이 초기화되었습니다", Toast.LENGTH_LONG).show();
+
+            // 🆕 검증 단계가 끝나면 품질 점수와 함께 저장
+            handler.post(() -> startCalibrationValidation(calibrationData));
         }
 
         @Override
         public void onCalibrationCanceled(double[] calibrationData) {
+            handler.post(() -> finishFixationGate());
             resetCalibrationState();
             Toast.makeText(GazeTrackingService.this, "보정 취소", Toast.LENGTH_SHORT).show();
         }
     };
 
+    // 🆕 보정 직후 검증 지점을 차례로 표시 (지점당 POINT_DURATION_MS)
+    private void startCalibrationValidation(double[] calibrationData) {
+        DisplayMetrics dm = getResources().getDisplayMetrics();
+        float[] targets = CalibrationValidator.defaultTargets(dm.widthPixels, dm.heightPixels);
+        int pointCount = targets.length / 2;
+
+        calibrationValidator.start(targets);
+        calibrationViewer.setVisibility(View.VISIBLE);
+        calibrationViewer.setEnableText(false);
+
+        for (int i = 0; i < pointCount; i++) {
+            final int point = i;
+            handler.postDelayed(() -> {
+                calibrationViewer.setPointAnimationPower(0);
+                calibrationViewer.nextPointColor();
+                calibrationViewer.setPointPosition(targets[point * 2], targets[point * 2 + 1]);
+                calibrationValidator.beginPoint(point, SystemClock.uptimeMillis());
+            }, i * CalibrationValidator.POINT_DURATION_MS);
+        }
+        handler.postDelayed(() -> finishCalibrationValidation(calibrationData),
+                pointCount * CalibrationValidator.POINT_DURATION_MS);
+    }
+
+    private void finishCalibrationValidation(double[] calibrationData) {
+        CalibrationValidator.Result validation = calibrationValidator.finish();
+        hideCalibrationView();
+        isCalibrating = false;
+
+        // 🆕 다음 서비스 시작 / 사용자 전환 시 재사용하도록 보정 결과 저장
+        saveCalibration(calibrationData, validation);
+
+        AdaptiveCalibrationManager.CalibrationQuality quality = adaptiveCalibrationManager.evaluateCalibrationQuality(
+                preCalibrationStatus, lastUserStatusInfo, true, validation);
+        recalibrationScheduler.submitQuality(quality, SystemClock.uptimeMillis());
+        dispatchRecalibration();
+
+        if (validation.isValid()) {
+            // 검증 지점별 잔차를 위치별 보정 격자 초기값으로 사용
+            for (int i = 0; i < validation.getPointCount(); i++) {
+                if (validation.isPointValid(i)) {
+                    float targetX = validation.getTargetX(i);
+                    float targetY = validation.getTargetY(i);
+                    correctionMap.addResidual(targetX, targetY,
+                            targetX - validation.getMeanX(i), targetY - validation.getMeanY(i), 1f);
+                }
+            }
+            Toast.makeText(this, String.format("보정 완료 - 품질 %d점\n%s",
+                    quality.qualityScore, quality.assessment), Toast.LENGTH_LONG).show();
+        } else {
+            Toast.makeText(this, "보정 완료 (검증 시선 부족)\n커서 오프셋이 초기화되었습니다", Toast.LENGTH_LONG).show();
+        }
+    }
+
+    // 🆕 마지막 보정 파일 + 현재 사용자 프로필에 저장 (검증 품질 점수 포함)
+    // 🔧 품질 평가는 메인 스레드, 파일 쓰기/교체는 보정 저장 스레드에서
+    private void saveCalibration(double[] calibrationData, CalibrationValidator.Result validation) {
+        final CalibrationRecord record = CalibrationRecord.forCurrentDevice(this, trackingRepository.getTracker(),
+                userSettings.isGlassesCompensationEnabled(), calibrationData, System.currentTimeMillis());
+
+        final String profileId = userSettings.getCalibrationProfileId();
+        calibrationSafetyManager.validateCalibration(calibrationData,
+                new PointF(userSettings.getCursorOffsetX(), userSettings.getCursorOffsetY()), validation,
+                CalibrationProfileStore.key(profileId, record.isGlassesCompensation(), record.getOrientation(),
+                        record.getCameraModel()));
+        final float qualityScore = calibrationSafetyManager.getLastCalibrationQuality();
+
+        calibrationSaveHandler.post(() -> {
+            calibrationRepository.save(record);
+            calibrationProfileStore.put(profileId, record, qualityScore);
+        });
+    }
+
     private void showCalibrationPointView(final float x, final float y) {
         Log.d(TAG, "캘리브레이션 포인트 원본: (" + x + ", " + y + ")");
 
@@ -676,12 +1256,30 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         calibrationViewer.nextPointColor();
         calibrationViewer.setPointPosition(adjustedX, adjustedY);
 
-        new Handler(Looper.getMainLooper()).postDelayed(() -> {
-            if (trackingRepository.getTracker() != null) {
-                trackingRepository.getTracker().startCollectSamples();
-                skipProgress = false;
-            }
-        }, 1000);
+        // 🔧 고정 1초 대기 대신 지점 근처 고정 시선이 감지되면 바로 수집 시작
+        handler.removeCallbacks(calibrationGateTimeout);
+        fixationGate.arm(adjustedX, adjustedY, SystemClock.uptimeMillis());
+        handler.postDelayed(calibrationGateTimeout, POINT_GATE_TIMEOUT_MS);
+        calibrationPointIndex++;
+    }
+
+    private void beginCalibrationSampleCollection() {
+        handler.removeCallbacks(calibrationGateTimeout);
+        if (isCalibrating && trackingRepository.getTracker() != null) {
+            trackingRepository.getTracker().startCollectSamples();
+            skipProgress = false;
+        }
+    }
+
+    // 🆕 보정 종료/취소 시 게이트 정리 및 대기 통계 기록
+    private void finishFixationGate() {
+        handler.removeCallbacks(calibrationGateTimeout);
+        fixationGate.disarm();
+        if (calibrationPointIndex > 0) {
+            Log.d(TAG, "보정 지점 대기: " + fixationGate.getSummary());
+        }
+        fixationGate.resetStats();
+        calibrationPointIndex = 0;
     }
 
     private void hideCalibrationView() {
@@ -760,6 +1358,39 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         Log.d(TAG, "통합 엣지 감지기(스크롤+스와이프) 재초기화 완료");
     }
 
+    /**
+     * 🆕 현재 설정의 사용자 프로필로 전환 (설정에 프로필 ID를 저장한 뒤 호출)
+     * - 저장된 보정이 있으면 바로 적용, 오래됐으면 1포인트 보정, 없으면 전체 보정
+     * @return 재보정 없이 바로 사용할 수 있으면 true
+     */
+    public boolean switchCalibrationProfile() {
+        if (trackingRepository == null || trackingRepository.getTracker() == null || isCalibrating) {
+            Log.w(TAG, "프로필 전환 불가 - 추적기 준비 안됨 또는 보정 중");
+            return false;
+        }
+
+        userSettings = settingsRepository.getUserSettings();
+        Log.d(TAG, "캘리브레이션 프로필 전환: " + userSettings.getCalibrationProfileId());
+
+        CalibrationRecord.Compatibility result = restoreSavedCalibration(false);
+        switch (result) {
+            case COMPATIBLE:
+                return true;
+            case STALE:
+                startRefinementCalibration();
+                return true;
+            case MISMATCH:
+            default:
+                startAutoCalibration();
+                return false;
+        }
+    }
+
+    // 🆕 저장된 사용자 프로필 ID 목록 (최근 사용 순)
+    public List<String> getCalibrationProfileIds() {
+        return calibrationProfileStore.getProfileIds();
+    }
+
     // 🆕 성능 최적화 설정 메서드들
     public void setPerformanceOptimizationEnabled(boolean enabled) {
         performanceOptimizationEnabled = enabled;
@@ -801,14 +1432,46 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         return trackingRepository != null ? trackingRepository.getCurrentFPS() : 30;
     }
 
+    /**
+     * 🆕 할당 추적 창 시작 - 끝나면 시선 처리 단계별 프레임당 할당량을 로그로 보고
+     * 🔧 어느 스레드에서나 (dump 명령은 바인더 스레드), 프레임이 멈춰도 시간이 지나면 종료
+     */
+    public void startAllocationTracking(long durationMs) {
+        allocationTracker.start(durationMs, SystemClock.uptimeMillis());
+        handler.removeCallbacks(allocationTrackingTimeout);
+        handler.postDelayed(allocationTrackingTimeout, durationMs);
+    }
+
     // 🆕 수동 FPS 설정
     public void setManualFPS(int fps) {
         if (trackingRepository != null) {
             trackingRepository.setTrackingFPS(fps);
+            fpsGovernor.setCurrentFps(fps, SystemClock.uptimeMillis());
             Log.d(TAG, "수동 FPS 설정: " + fps);
         }
     }
 
+    // 🆕 활동 상태와 FPS 조절기 결정을 합쳐 실제 추적 FPS 적용 (메인 스레드)
+    private void applyTrackingRate() {
+        int fps = gazeActivityModel.getTargetFps(fpsGovernor.getCurrentFps());
+        if (fps != trackingRepository.getCurrentFPS()) {
+            trackingRepository.setTrackingFPS(fps);
+            Log.d(TAG, "시선 활동 " + gazeActivityModel.getState() + " - 추적 FPS " + fps);
+        }
+    }
+
+    // 🆕 에너지 비용표의 기능 조합 (FPS 조절은 메뉴가 닫힌 평상시 조합 기준)
+    private int energyFeatures(boolean menuVisible) {
+        int features = 0;
+        if (enhancedFilterManager.isReducedComplexity()) {
+            features |= EnergyCostTable.FEATURE_REDUCED_FILTER;
+        }
+        if (menuVisible) {
+            features |= EnergyCostTable.FEATURE_MENU_OVERLAY;
+        }
+        return features;
+    }
+
     private void checkAccessibilityService() {
         if (MyAccessibilityService.getInstance() == null) {
             Toast.makeText(this, "접근성 서비스를 켜주세요", Toast.LENGTH_SHORT).show();
@@ -829,6 +1492,52 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         return START_STICKY;
     }
 
+    // 🆕 adb shell dumpsys activity service GazeTrackingService - 최신 성능 스냅샷과 스레드별 CPU 표
+    // 🆕 ... GazeTrackingService alloc [초] - 할당 추적 창 시작 (결과는 logcat AllocationTracker)
+    @Override
+    protected void dump(FileDescriptor fd, PrintWriter writer, String[] args) {
+        if (args != null && args.length > 0 && "alloc".equals(args[0])) {
+            long seconds = DEFAULT_ALLOCATION_TRACKING_SECONDS;
+            if (args.length > 1) {
+                try {
+                    seconds = Long.parseLong(args[1]);
+                } catch (NumberFormatException e) {
+                    writer.println("사용법: alloc [초]");
+                    return;
+                }
+            }
+            seconds = Math.max(1, Math.min(MAX_ALLOCATION_TRACKING_SECONDS, seconds));
+            startAllocationTracking(seconds * 1000);
+            writer.println("할당 추적 시작 (" + seconds + "초) - 결과는 logcat AllocationTracker");
+            return;
+        }
+
+        PerformanceMonitor.PerformanceMetrics metrics = getCurrentPerformanceMetrics();
+        writer.println("GazeTrackingService");
+        writer.println("  FPS: " + getCurrentFPS() + " (조절기 " + fpsGovernor.getCurrentFps()
+                + ", 시선 활동 " + gazeActivityModel.getState() + ", 발열 " + thermalPolicy.getLevel() + ")");
+        if (metrics == null) {
+            writer.println("  성능 모니터링 꺼짐");
+            return;
+        }
+        writer.println("  " + metrics);
+        writer.println("  " + metrics.threadCpu);
+        writer.println("  " + metrics.jank);
+    }
+
+    // 🆕 메모리 압박 시 등록된 캐시를 우선순위 순서로 비움
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        MemoryPressureCoordinator.getInstance().onTrimMemory(level);
+    }
+
+    @Override
+    public void onLowMemory() {
+        super.onLowMemory();
+        MemoryPressureCoordinator.getInstance().onLowMemory();
+    }
+
     @Override
     public void onDestroy() {
         super.onDestroy();
@@ -837,7 +1546,16 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         // 🆕 성능 모니터링 중지
         if (performanceMonitor != null) {
             performanceMonitor.stopMonitoring();
+            performanceMonitor.unsubscribe(performanceSubscriber);
+            performanceMonitor.setAlertListener(null);
+            performanceMonitor.setFrameJankMonitor(null);
         }
+        if (frameJankMonitor != null) {
+            frameJankMonitor.stop();
+        }
+
+        // 🆕 진행 중인 부드러운 스크롤 중지
+        MyAccessibilityService.stopSmoothScrollAction();
 
         // 뷰 제거
         if (overlayCursorView != null && windowManager != null) {
@@ -864,6 +1582,12 @@ public class GazeTrackingService extends Service implements PerformanceMonitor.P
         if (handler != null) {
             handler.removeCallbacksAndMessages(null);
         }
+        // 🆕 할당 추적 창이 열려 있으면 타이머를 기다리지 않고 닫음
+        allocationTracker.stop();
+        // 🆕 예약된 보정 저장은 끝낸 뒤 종료
+        if (calibrationSaveThread != null) {
+            calibrationSaveThread.quitSafely();
+        }
 
         // 🆕 엣지 메뉴 매니저 정리
         if (edgeMenuManager != null) {
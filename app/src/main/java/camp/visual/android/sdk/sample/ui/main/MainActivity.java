@@ -1,6 +1,7 @@
 package camp.visual.android.sdk.sample.ui.main;
 
 import android.content.Intent;
+import android.graphics.PointF;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -24,11 +25,18 @@ import camp.visual.android.sdk.sample.core.managers.PermissionManager;
 import camp.visual.android.sdk.sample.core.security.SecurityManager;
 import camp.visual.android.sdk.sample.core.utils.PerformanceLogger;
 import camp.visual.android.sdk.sample.core.utils.ResourceManager;
+import camp.visual.android.sdk.sample.core.utils.MemoryPressureCoordinator;
 import camp.visual.android.sdk.sample.core.utils.ThrottledUIUpdater;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationHistoryLog;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationProfileStore;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationRecord;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationRepository;
+import camp.visual.android.sdk.sample.data.calibration.FileCalibrationRepository;
 import camp.visual.android.sdk.sample.data.settings.SettingsRepository;
 import camp.visual.android.sdk.sample.data.settings.SharedPrefsSettingsRepository;
 import camp.visual.android.sdk.sample.domain.calibration.AdaptiveCalibrationManager;
 import camp.visual.android.sdk.sample.domain.model.UserSettings;
+import camp.visual.android.sdk.sample.domain.safety.CalibrationSafetyManager;
 import camp.visual.android.sdk.sample.service.tracking.GazeTrackingService;
 import camp.visual.android.sdk.sample.ui.settings.SettingsActivity;
 import camp.visual.android.sdk.sample.ui.views.CalibrationViewer;
@@ -57,6 +65,8 @@ public class MainActivity extends AppCompatActivity implements
     private PermissionManager permissionManager;
     private CalibrationController calibrationController;
     private SettingsRepository settingsRepository;
+    private CalibrationRepository calibrationRepository;
+    private CalibrationSafetyManager calibrationSafetyManager;
     private ThrottledUIUpdater uiUpdater;
     
     // 🎨 UI 컴포넌트
@@ -156,6 +166,8 @@ public class MainActivity extends AppCompatActivity implements
             // 설정 리포지토리
             settingsRepository = new SharedPrefsSettingsRepository(this);
             userSettings = settingsRepository.getUserSettings();
+            calibrationRepository = new FileCalibrationRepository(this);
+            calibrationSafetyManager = new CalibrationSafetyManager(CalibrationHistoryLog.getInstance(this));
             
             // 권한 매니저
             permissionManager = new PermissionManager(this);
@@ -528,6 +540,23 @@ public class MainActivity extends AppCompatActivity implements
     @Override
     public void onCalibrationCompleted(double[] calibrationData, long duration) {
         updateStatusText("캘리브레이션 완료 ✅");
+        
+        // 🆕 서비스 시작 / 사용자 전환 시 재사용하도록 보정 결과 저장
+        if (calibrationRepository != null) {
+            userSettings = settingsRepository.getUserSettings();
+            CalibrationRecord record = CalibrationRecord.forCurrentDevice(this,
+                    calibrationController.getGazeTracker(), userSettings.isGlassesCompensationEnabled(),
+                    calibrationData, System.currentTimeMillis());
+            calibrationRepository.save(record);
+
+            String profileId = userSettings.getCalibrationProfileId();
+            calibrationSafetyManager.validateCalibration(calibrationData,
+                    new PointF(userSettings.getCursorOffsetX(), userSettings.getCursorOffsetY()), null,
+                    CalibrationProfileStore.key(profileId, record.isGlassesCompensation(), record.getOrientation(),
+                            record.getCameraModel()));
+            CalibrationProfileStore.getInstance(this).put(profileId, record,
+                    calibrationSafetyManager.getLastCalibrationQuality());
+        }
         if (btnCalibration != null) {
             btnCalibration.setEnabled(true);
         }
@@ -763,6 +792,19 @@ public class MainActivity extends AppCompatActivity implements
         super.onDestroy();
     }
     
+    // 🆕 메모리 압박 시 등록된 캐시를 우선순위 순서로 비움
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        MemoryPressureCoordinator.getInstance().onTrimMemory(level);
+    }
+    
+    @Override
+    public void onLowMemory() {
+        super.onLowMemory();
+        MemoryPressureCoordinator.getInstance().onLowMemory();
+    }
+    
     /**
      * 🎯 외부에서 캘리브레이션 트리거 (서비스에서 호출)
      */
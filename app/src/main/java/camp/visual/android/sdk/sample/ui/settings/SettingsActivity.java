@@ -4,6 +4,7 @@ import android.os.Bundle;
 import android.util.Log;
 import android.view.MenuItem;
 import android.widget.Button;
+import android.widget.EditText;
 import android.widget.RadioButton;
 import android.widget.RadioGroup;
 import android.widget.SeekBar;
@@ -16,6 +17,7 @@ import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
 import camp.visual.android.sdk.sample.R;
+import camp.visual.android.sdk.sample.data.calibration.CalibrationProfileStore;
 import camp.visual.android.sdk.sample.data.settings.SettingsRepository;
 import camp.visual.android.sdk.sample.data.settings.SharedPrefsSettingsRepository;
 import camp.visual.android.sdk.sample.domain.model.OneEuroFilterPreset;
@@ -23,6 +25,8 @@ import camp.visual.android.sdk.sample.domain.model.UserSettings;
 import camp.visual.android.sdk.sample.service.tracking.GazeTrackingService;
 import camp.visual.android.sdk.sample.ui.main.MainActivity;
 
+import java.util.List;
+
 public class SettingsActivity extends AppCompatActivity {
 
     private SettingsRepository settingsRepository;
@@ -31,6 +35,8 @@ public class SettingsActivity extends AppCompatActivity {
     // 기본 설정
     private Switch backgroundLearningSwitch;
     private Switch autoOnePointCalibrationSwitch;
+    private Switch smoothScrollSwitch;
+    private Switch blinkClickSwitch;
 
     // 커서 위치 조정
     private SeekBar cursorOffsetXBar;
@@ -42,6 +48,9 @@ public class SettingsActivity extends AppCompatActivity {
     private Button btnResetCursorOffset;
     private Button btnPrecisionCalibration;
 
+    // 🆕 사용자(캘리브레이션 프로필) 전환
+    private Button btnSwitchProfile;
+
     // 커서 움직임 설정
     private RadioGroup performanceRadioGroup;
     private RadioButton radioStability;
@@ -76,6 +85,8 @@ public class SettingsActivity extends AppCompatActivity {
         // 기본 설정
         backgroundLearningSwitch = findViewById(R.id.switch_background_learning);
         autoOnePointCalibrationSwitch = findViewById(R.id.switch_auto_one_point_calibration);
+        smoothScrollSwitch = findViewById(R.id.switch_smooth_scroll);
+        blinkClickSwitch = findViewById(R.id.switch_blink_click);
 
         // 커서 위치 조정
         cursorOffsetXBar = findViewById(R.id.seekbar_cursor_offset_x);
@@ -94,6 +105,8 @@ public class SettingsActivity extends AppCompatActivity {
             Log.w("SettingsActivity", "btn_precision_calibration을 찾을 수 없습니다. XML에 추가가 필요합니다.");
         }
 
+        btnSwitchProfile = findViewById(R.id.btn_switch_profile);
+
         // 커서 움직임 설정
         performanceRadioGroup = findViewById(R.id.radio_group_performance);
         radioStability = findViewById(R.id.radio_performance_stability);
@@ -114,6 +127,10 @@ public class SettingsActivity extends AppCompatActivity {
         // 기본 설정
         backgroundLearningSwitch.setChecked(currentSettings.isBackgroundLearningEnabled());
         autoOnePointCalibrationSwitch.setChecked(currentSettings.isAutoOnePointCalibrationEnabled());
+        smoothScrollSwitch.setChecked(currentSettings.isSmoothScrollEnabled());
+        blinkClickSwitch.setChecked(currentSettings.isBlinkDetectionEnabled());
+
+        updateProfileButtonText();
 
         // 커서 오프셋
         cursorOffsetXBar.setProgress((int)(currentSettings.getCursorOffsetX() + 50));
@@ -161,6 +178,17 @@ public class SettingsActivity extends AppCompatActivity {
             }
         });
 
+        smoothScrollSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> {
+            saveSettings();
+        });
+
+        blinkClickSwitch.setOnCheckedChangeListener((buttonView, isChecked) -> {
+            saveSettings();
+            if (isChecked) {
+                Toast.makeText(this, "보고 길게 또는 두 번 깜빡이면 클릭", Toast.LENGTH_SHORT).show();
+            }
+        });
+
         // 🆕 커서 오프셋 초기화 버튼 리스너
         if (btnResetCursorOffset != null) {
             btnResetCursorOffset.setOnClickListener(v -> {
@@ -175,6 +203,11 @@ public class SettingsActivity extends AppCompatActivity {
             });
         }
 
+        // 🆕 사용자 전환 버튼 리스너
+        if (btnSwitchProfile != null) {
+            btnSwitchProfile.setOnClickListener(v -> showProfileDialog());
+        }
+
         // 커서 움직임 설정 리스너
         performanceRadioGroup.setOnCheckedChangeListener((group, checkedId) -> {
             saveSettings();
@@ -242,6 +275,83 @@ public class SettingsActivity extends AppCompatActivity {
                 .show();
     }
 
+    // 🆕 저장된 사용자 목록 + 새 사용자
+    private void showProfileDialog() {
+        List<String> profileIds = CalibrationProfileStore.getInstance(this).getProfileIds();
+        String current = currentSettings.getCalibrationProfileId();
+        if (!profileIds.contains(current)) {
+            profileIds.add(0, current);
+        }
+
+        String[] items = new String[profileIds.size() + 1];
+        for (int i = 0; i < profileIds.size(); i++) {
+            String id = profileIds.get(i);
+            items[i] = id.equals(current) ? id + " (현재)" : id;
+        }
+        items[profileIds.size()] = "➕ 새 사용자";
+
+        new AlertDialog.Builder(this)
+                .setTitle("사용자 전환")
+                .setItems(items, (dialog, which) -> {
+                    if (which == profileIds.size()) {
+                        showNewProfileDialog();
+                    } else {
+                        switchProfile(profileIds.get(which));
+                    }
+                })
+                .setNegativeButton("취소", null)
+                .show();
+    }
+
+    private void showNewProfileDialog() {
+        EditText input = new EditText(this);
+        input.setHint("이름");
+        input.setSingleLine(true);
+
+        new AlertDialog.Builder(this)
+                .setTitle("새 사용자")
+                .setMessage("새 사용자는 처음 한 번 시선 보정이 필요합니다.")
+                .setView(input)
+                .setPositiveButton("추가", (dialog, which) -> {
+                    String name = input.getText().toString().trim();
+                    if (name.isEmpty()) {
+                        Toast.makeText(this, "이름을 입력하세요", Toast.LENGTH_SHORT).show();
+                        return;
+                    }
+                    switchProfile(name);
+                })
+                .setNegativeButton("취소", null)
+                .show();
+    }
+
+    private void switchProfile(String profileId) {
+        if (profileId.equals(currentSettings.getCalibrationProfileId())) {
+            return;
+        }
+
+        // saveSettings()는 화면의 값 + currentSettings의 프로필 ID로 저장
+        currentSettings = new UserSettings.Builder()
+                .calibrationProfileId(profileId)
+                .build();
+        saveSettings();
+        updateProfileButtonText();
+
+        GazeTrackingService service = GazeTrackingService.getInstance();
+        if (service != null) {
+            boolean ready = service.switchCalibrationProfile();
+            Toast.makeText(this, ready ? "'" + profileId + "' 보정 적용" : "'" + profileId + "' 시선 보정 시작",
+                    Toast.LENGTH_SHORT).show();
+        } else {
+            Toast.makeText(this, "'" + profileId + "' 사용자로 전환 - 서비스 시작 시 적용", Toast.LENGTH_SHORT).show();
+        }
+    }
+
+    private void updateProfileButtonText() {
+        if (btnSwitchProfile != null) {
+            btnSwitchProfile.setText("사용자 전환 (현재: " + currentSettings.getCalibrationProfileId() + ")");
+        }
+    }
+
     private void setupCursorOffsetListeners() {
         cursorOffsetXBar.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
@@ -338,6 +448,9 @@ public class SettingsActivity extends AppCompatActivity {
         UserSettings.Builder builder = new UserSettings.Builder()
                 .autoOnePointCalibrationEnabled(autoOnePointCalibrationSwitch.isChecked())
                 .backgroundLearningEnabled(backgroundLearningSwitch.isChecked())
+                .smoothScrollEnabled(smoothScrollSwitch.isChecked())
+                .blinkDetectionEnabled(blinkClickSwitch.isChecked())
+                .calibrationProfileId(currentSettings.getCalibrationProfileId())
                 .cursorOffsetX(cursorOffsetXBar.getProgress() - 50)
                 .cursorOffsetY(cursorOffsetYBar.getProgress() - 50)
                 .oneEuroFilterPreset(getPerformancePreset())
@@ -27,6 +27,13 @@ public class EdgeMenuManager {
     private long hoverStartTime = 0;
     private static final long HOVER_CLICK_DURATION = 1000; // 1초 hover로 클릭
     
+    // 🆕 호버 중 시선 평균 (버튼 선택 시 드리프트 관측으로 전달, 도착 직후 샘플 제외)
+    private static final long HOVER_SETTLE_MS = 200;
+    private float hoverGazeSumX = 0f;
+    private float hoverGazeSumY = 0f;
+    private int hoverGazeCount = 0;
+    private TargetFixationListener targetFixationListener = null;
+    
     // UI 레이어 콜백
     private UILayerCallback uiLayerCallback = null;
     
@@ -183,6 +190,9 @@ public class EdgeMenuManager {
             
             // 이전 호버 진행률 초기화
             activeMenu.setHoverProgress(0f);
+            hoverGazeSumX = 0f;
+            hoverGazeSumY = 0f;
+            hoverGazeCount = 0;
             
             if (hoveredButton != null) {
                 Log.d(TAG, "버튼 호버 시작: " + hoveredButton.label);
@@ -194,12 +204,22 @@ public class EdgeMenuManager {
             long hoverDuration = System.currentTimeMillis() - hoverStartTime;
             float progress = Math.min(1f, (float) hoverDuration / HOVER_CLICK_DURATION);
             
+            if (hoverDuration >= HOVER_SETTLE_MS) {
+                hoverGazeSumX += x;
+                hoverGazeSumY += y;
+                hoverGazeCount++;
+            }
+            
             // 시각적 호버 진행률 업데이트
             activeMenu.setHoverProgress(progress);
             
             if (hoverDuration >= HOVER_CLICK_DURATION) {
                 // 호버 클릭 실행
                 Log.d(TAG, "호버 클릭 실행: " + hoveredButton.label);
+                if (targetFixationListener != null && hoverGazeCount > 0) {
+                    targetFixationListener.onTargetFixated(hoveredButton.centerX, hoveredButton.centerY,
+                            hoverGazeSumX / hoverGazeCount, hoverGazeSumY / hoverGazeCount);
+                }
                 hoveredButton.execute();
                 
                 // 메뉴 숨기기
@@ -227,6 +247,11 @@ public class EdgeMenuManager {
         return activeMenu == systemMenu;
     }
     
+    // 🆕 메뉴 창 뷰 (프레임 지연 감지 등록용)
+    public EdgeMenuOverlay[] getMenuViews() {
+        return new EdgeMenuOverlay[] { navigationMenu, systemMenu };
+    }
+    
     public void cleanup() {
         try {
             if (activeMenu != null) {
@@ -266,6 +291,18 @@ public class EdgeMenuManager {
         return menuType + " 메뉴 - " + state + cancelStatus + hoverStatus;
     }
     
+    // 🆕 버튼 응시 관측 리스너 설정 (드리프트 추정용)
+    public void setTargetFixationListener(TargetFixationListener listener) {
+        this.targetFixationListener = listener;
+    }
+    
+    /**
+     * 🆕 버튼 선택 시 (버튼 중심, 호버 중 시선 평균) 전달
+     */
+    public interface TargetFixationListener {
+        void onTargetFixated(float targetX, float targetY, float gazeX, float gazeY);
+    }
+    
     // UI 레이어 콜백 인터페이스
     public interface UILayerCallback {
         /**
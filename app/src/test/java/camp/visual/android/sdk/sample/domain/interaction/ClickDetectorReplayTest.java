@@ -0,0 +1,217 @@
+package camp.visual.android.sdk.sample.domain.interaction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import camp.visual.android.sdk.sample.domain.model.UserSettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 합성 시선 궤적 재생 - 고정 응시 시간(기존) vs 적응형 응시 시간(ClickDetector)
+ * - 30Hz 샘플, 고정 시드 가우시안 잡음
+ * - 의도한 응시: 큰 고립 버튼 / 작은 밀집 아이콘 위에서 충분히 오래 머묾
+ * - 훑어보기: 작은 밀집 아이콘 위에서 기본 응시 시간 전후로 머물다 떠남 (클릭 의도 없음)
+ */
+public class ClickDetectorReplayTest {
+
+    private static final long FRAME_MS = 33;
+    private static final int SCREEN_WIDTH = 1080;
+    private static final int SCREEN_HEIGHT = 2340;
+
+    // 큰 고립 버튼 (짧은 변이 AOI 지름의 3배 이상, 주변 대상 없음)
+    private static final float LARGE_LEFT = 360, LARGE_TOP = 1800, LARGE_RIGHT = 720, LARGE_BOTTOM = 2100;
+    // 작은 아이콘 격자 (60px, 간격 90px → 이웃 4개 이상)
+    private static final float GRID_LEFT = 90, GRID_TOP = 300, ICON = 60, PITCH = 90;
+    private static final int GRID_COLUMNS = 10, GRID_ROWS = 10;
+
+    private UserSettings settings;
+    private float dwellMs;
+    private TargetIndex index;
+
+    @Before
+    public void setUp() {
+        settings = new UserSettings.Builder().build();
+        dwellMs = settings.getFixationDurationMs();
+
+        TargetIndex.Builder builder = new TargetIndex.Builder();
+        builder.add(LARGE_LEFT, LARGE_TOP, LARGE_RIGHT, LARGE_BOTTOM);
+        for (int row = 0; row < GRID_ROWS; row++) {
+            for (int col = 0; col < GRID_COLUMNS; col++) {
+                float l = GRID_LEFT + col * PITCH;
+                float t = GRID_TOP + row * PITCH;
+                builder.add(l, t, l + ICON, t + ICON);
+            }
+        }
+        index = builder.build(SCREEN_WIDTH, SCREEN_HEIGHT, settings.getAoiRadius(), 0L);
+    }
+
+    @Test
+    public void stableDwellOnLargeIsolatedTargetClicksSooner() {
+        Trace trace = new Trace(1);
+        trace.fixate((LARGE_LEFT + LARGE_RIGHT) / 2, (LARGE_TOP + LARGE_BOTTOM) / 2, 3f, (long) (dwellMs * 1.5f));
+
+        long fixed = trace.replayFixed().firstClickMs;
+        long adaptive = trace.replayAdaptive().firstClickMs;
+
+        assertTrue("기존 방식도 클릭해야 함", fixed >= 0);
+        assertTrue("적응형이 더 빨리 클릭해야 함: " + adaptive + " vs " + fixed, adaptive >= 0 && adaptive < fixed);
+        assertTrue("최소 배율(0.6) 아래로는 줄지 않음", adaptive >= dwellMs * 0.6f - FRAME_MS);
+    }
+
+    @Test
+    public void glanceAtDenseSmallTargetDoesNotClick() {
+        Trace trace = new Trace(2);
+        trace.fixate(iconCenterX(3), iconCenterY(4), 6f, (long) (dwellMs * 1.15f));
+        trace.fixate(iconCenterX(8), iconCenterY(8), 6f, 300);
+
+        assertEquals("기존 방식은 훑어보기에도 클릭", 1, trace.replayFixed().clicks);
+        assertEquals("적응형은 밀집된 작은 대상에서 더 오래 기다림", 0, trace.replayAdaptive().clicks);
+    }
+
+    @Test
+    public void mixedSessionKeepsHitsAndReducesFalseClicks() {
+        Random random = new Random(3);
+        Trace trace = new Trace(4);
+        int intended = 0;
+        for (int i = 0; i < 60; i++) {
+            int col = random.nextInt(GRID_COLUMNS);
+            int row = random.nextInt(GRID_ROWS);
+            switch (i % 3) {
+                case 0:
+                    // 의도한 클릭 - 큰 버튼
+                    trace.fixate((LARGE_LEFT + LARGE_RIGHT) / 2 + random.nextInt(80) - 40,
+                            (LARGE_TOP + LARGE_BOTTOM) / 2 + random.nextInt(80) - 40, 4f,
+                            (long) (dwellMs * 1.6f), true);
+                    intended++;
+                    break;
+                case 1:
+                    // 의도한 클릭 - 작은 아이콘 (최대 배율 1.5 이상 머묾)
+                    trace.fixate(iconCenterX(col), iconCenterY(row), 5f, (long) (dwellMs * 1.7f), true);
+                    intended++;
+                    break;
+                default:
+                    // 훑어보기 - 기본 응시 시간 0.9~1.25배
+                    trace.fixate(iconCenterX(col), iconCenterY(row), 6f,
+                            (long) (dwellMs * (0.9f + random.nextFloat() * 0.35f)));
+                    break;
+            }
+            // 다음 대상으로 이동하는 동안 AOI 밖 (단속 운동)
+            trace.fixate(40, 2250, 2f, 100);
+        }
+
+        Result fixed = trace.replayFixed();
+        Result adaptive = trace.replayAdaptive();
+
+        assertEquals("기존 방식 의도 클릭", intended, fixed.hits);
+        assertEquals("적응형도 의도한 클릭은 모두 유지", intended, adaptive.hits);
+        assertTrue("기존 방식은 훑어보기에서 오클릭 발생: " + fixed.falseClicks, fixed.falseClicks > 0);
+        assertTrue("오클릭 감소: " + adaptive.falseClicks + " vs " + fixed.falseClicks,
+                adaptive.falseClicks < fixed.falseClicks);
+    }
+
+    private float iconCenterX(int col) {
+        return GRID_LEFT + col * PITCH + ICON / 2;
+    }
+
+    private float iconCenterY(int row) {
+        return GRID_TOP + row * PITCH + ICON / 2;
+    }
+
+    private static final class Result {
+        int clicks = 0;
+        int hits = 0;           // 의도한 구간의 첫 클릭
+        int repeats = 0;        // 의도한 구간에서 계속 머물러 다시 난 클릭
+        int falseClicks = 0;    // 의도하지 않은 구간(훑어보기)의 클릭
+        long firstClickMs = -1; // 첫 클릭까지 걸린 시간 (궤적 시작 기준)
+    }
+
+    /**
+     * 구간별 합성 궤적 (시각, 좌표, 의도 여부)
+     */
+    private final class Trace {
+        private final Random noise;
+        private final ArrayList<float[]> samples = new ArrayList<>();
+        private long timeMs = 0;
+        private int segment = 0;
+
+        Trace(long seed) {
+            this.noise = new Random(seed);
+        }
+
+        void fixate(float x, float y, float sigma, long durationMs) {
+            fixate(x, y, sigma, durationMs, false);
+        }
+
+        void fixate(float x, float y, float sigma, long durationMs, boolean intended) {
+            segment++;
+            for (long t = 0; t < durationMs; t += FRAME_MS) {
+                samples.add(new float[] {
+                        timeMs,
+                        x + (float) noise.nextGaussian() * sigma,
+                        y + (float) noise.nextGaussian() * sigma,
+                        segment,
+                        intended ? 1 : 0 });
+                timeMs += FRAME_MS;
+            }
+        }
+
+        // 기존 동작: 설정된 응시 시간 고정
+        Result replayFixed() {
+            Result result = new Result();
+            float aoi = settings.getAoiRadius();
+            float cx = -1, cy = -1;
+            long start = 0;
+            int clickedSegment = -1;
+            for (float[] s : samples) {
+                long now = (long) s[0];
+                boolean inside = cx >= 0 && Math.abs(s[1] - cx) < aoi && Math.abs(s[2] - cy) < aoi;
+                if (!inside) {
+                    cx = s[1];
+                    cy = s[2];
+                    start = now;
+                    continue;
+                }
+                if (now - start >= dwellMs) {
+                    clickedSegment = record(result, s, clickedSegment);
+                    cx = -1;
+                    cy = -1;
+                }
+            }
+            return result;
+        }
+
+        Result replayAdaptive() {
+            Result result = new Result();
+            ClickDetector detector = new ClickDetector(settings);
+            detector.setTargetIndex(index, 0f);
+            int clickedSegment = -1;
+            for (float[] s : samples) {
+                if (detector.update(s[1], s[2], (long) s[0])) {
+                    clickedSegment = record(result, s, clickedSegment);
+                }
+            }
+            return result;
+        }
+
+        private int record(Result result, float[] sample, int clickedSegment) {
+            int segmentId = (int) sample[3];
+            result.clicks++;
+            if (result.firstClickMs < 0) {
+                result.firstClickMs = (long) sample[0];
+            }
+            if (sample[4] == 0) {
+                result.falseClicks++;
+            } else if (segmentId != clickedSegment) {
+                result.hits++;
+            } else {
+                result.repeats++;
+            }
+            return segmentId;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 합성 부하 곡선으로 FpsGovernor 폐루프 검증
+ * - 부하 모델: 이 앱의 CPU 사용률 = 프레임당 비용 × 현재 FPS (예산 25%)
+ * - 서비스와 같은 주기로 update (GOVERNOR_SIGNIFICANCE - 매 성능 샘플, 5초)
+ * - 배터리/메모리/발열 상한 없음 (충전 중)
+ */
+public class FpsGovernorTest {
+
+    private static final long TICK_MS = 5_000;
+    private static final float CPU_BUDGET = 25f;
+
+    private FpsGovernor governor;
+    private List<FpsGovernor.Decision> decisions;
+    private long nowMs;
+
+    @Before
+    public void setUp() {
+        governor = new FpsGovernor();
+        decisions = new ArrayList<>();
+        governor.setDecisionListener(new FpsGovernor.DecisionListener() {
+            @Override
+            public void onFpsDecision(FpsGovernor.Decision decision) {
+                decisions.add(decision);
+            }
+        });
+        nowMs = 0;
+        governor.setCurrentFps(30, nowMs);
+    }
+
+    @Test
+    public void stepLoadLowersFpsUntilUnderBudget() {
+        run(60_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                return 0.5f;    // 30 FPS에서 15%
+            }
+        });
+        assertEquals("가벼운 부하에서는 유지", 30, governor.getCurrentFps());
+        assertTrue(decisions.isEmpty());
+
+        long stepAt = nowMs;
+        run(120_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                return 1.6f;    // 30 FPS에서 48%
+            }
+        });
+
+        assertTrue("부하 급증 후 낮춰야 함", !decisions.isEmpty());
+        FpsGovernor.Decision first = decisions.get(0);
+        assertEquals(FpsGovernor.Reason.OVER_BUDGET, first.reason);
+        assertTrue("내림 최소 유지 시간 + 몇 주기 안에 반응: " + (first.timestampMs - stepAt),
+                first.timestampMs - stepAt <= 20_000);
+        assertTrue("예산 안으로 수렴: " + cpuAt(1.6f), cpuAt(1.6f) <= CPU_BUDGET);
+        assertAllDown();
+    }
+
+    @Test
+    public void rampLoadStepsDownMonotonically() {
+        final long start = nowMs;
+        final long duration = 300_000;
+        run(duration, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                // 5분 동안 0.5 → 2.0 (30 FPS 기준 15% → 60%)
+                return 0.5f + 1.5f * (t - start) / duration;
+            }
+        });
+
+        assertTrue("부하 증가에 따라 낮춰야 함", !decisions.isEmpty());
+        assertAllDown();
+        assertTrue("마지막 부하에서 예산 근처: " + cpuAt(2.0f), cpuAt(2.0f) <= CPU_BUDGET * 1.25f);
+    }
+
+    @Test
+    public void oscillatingLoadNearBudgetDoesNotFlap() {
+        final float base = CPU_BUDGET / 30f;
+        run(600_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                // 예산 ±15% 사이를 주기마다 오감 (불감대보다 크고 히스테리시스로 흡수되어야 함)
+                return (t / TICK_MS) % 2 == 0 ? base * 1.15f : base * 0.85f;
+            }
+        });
+
+        assertTrue("10분 동안 단계 변경 최대 1회: " + decisions, decisions.size() <= 1);
+        assertNoFlapping();
+    }
+
+    @Test
+    public void oscillatingLoadAcrossLevelBoundaryDoesNotFlap() {
+        // 24 FPS에서는 예산 안, 30 FPS에서는 예산 초과인 부하가 흔들릴 때
+        final float base = CPU_BUDGET / 27f;
+        run(900_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                return base * (1f + 0.1f * (float) Math.sin(2 * Math.PI * t / 40_000.0));
+            }
+        });
+
+        assertEquals("평균적으로 예산 안인 단계에 머묾", 24, governor.getCurrentFps());
+        assertNoFlapping();
+        assertRetriesBackOff(6);
+    }
+
+    @Test
+    public void loadBetweenTwoLevelsBacksOffRetries() {
+        // 10 FPS는 20%, 15 FPS는 30% - 어느 단계도 불감대 안에 들지 않음
+        run(900_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                return 2.0f;
+            }
+        });
+
+        assertEquals(10, governor.getCurrentFps());
+        assertNoFlapping();
+        assertRetriesBackOff(5);
+    }
+
+    @Test
+    public void recoversOneLevelAtATimeAfterLoadEnds() {
+        run(120_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                return 2.0f;
+            }
+        });
+        int lowest = governor.getCurrentFps();
+        assertTrue("과부하에서 낮아짐: " + lowest, lowest <= 15);
+
+        decisions.clear();
+        run(600_000, new Load() {
+            @Override
+            public float costPerFrame(long t) {
+                return 0.3f;    // 30 FPS에서 9%
+            }
+        });
+
+        assertEquals("부하가 사라지면 최대 단계로 복귀", 30, governor.getCurrentFps());
+        assertTrue(!decisions.isEmpty());
+        int previousFps = lowest;
+        long previousMs = -1;
+        for (FpsGovernor.Decision decision : decisions) {
+            assertEquals(FpsGovernor.Reason.HEADROOM, decision.reason);
+            assertEquals("한 번에 한 단계씩", previousFps, decision.fromFps);
+            assertTrue(decision.toFps > decision.fromFps);
+            if (previousMs >= 0) {
+                assertTrue("올림 최소 유지 시간: " + (decision.timestampMs - previousMs),
+                        decision.timestampMs - previousMs >= 30_000);
+            }
+            previousFps = decision.toFps;
+            previousMs = decision.timestampMs;
+        }
+    }
+
+    @Test
+    public void latencyOverrunLowersFpsWithSteadyCpu() {
+        // CPU는 예산 안(15%)으로 고정, 프레임 지연만 p95 예산(60ms) 초과
+        long start = nowMs;
+        runWithLatency(60_000, 15f, 90f);
+
+        assertTrue("지연 초과로 낮춰야 함", !decisions.isEmpty());
+        FpsGovernor.Decision first = decisions.get(0);
+        assertEquals(FpsGovernor.Reason.OVER_BUDGET, first.reason);
+        assertTrue("내림 최소 유지 시간 + 한 주기 안에 반응: " + (first.timestampMs - start),
+                first.timestampMs - start <= 10_000);
+        assertAllDown();
+    }
+
+    @Test
+    public void energyCeilingBudgetsMarginalCostOverLowestLevel() {
+        // 기기 전체 전력 (화면 등 포함) - FPS 간 차이는 10 → 30 FPS에 40 J/분
+        EnergyCostTable table = new EnergyCostTable();
+        table.add(10, 0, 240, 120);    // 120 J/분
+        table.add(15, 0, 260, 120);    // 130 J/분
+        table.add(20, 0, 280, 120);    // 140 J/분
+        table.add(24, 0, 296, 120);    // 148 J/분
+        table.add(30, 0, 320, 120);    // 160 J/분
+        governor.setEnergyCostTable(table);
+
+        // 남은 40 kJ: 추가 예산 40000 × 0.2 / 180 ≈ 44 J/분 → 30 FPS 허용
+        // (기기 전체 160 J/분을 40000 / 180 ≈ 222와 비교하던 방식과 같은 결과)
+        assertEquals(30, updateWithEnergy(40_000f));
+        assertEquals(44.4f, governor.getLastEnergyBudget(), 0.1f);
+
+        // 남은 12 kJ: 추가 예산 ≈ 13 J/분 → 15 FPS (절대값 비교였다면 67 J/분으로 최저 단계 고정)
+        assertEquals(15, updateWithEnergy(12_000f));
+        assertEquals(13.3f, governor.getLastEnergyBudget(), 0.1f);
+
+        // 남은 에너지를 모르면 비용표 기준을 쓰지 않고 배터리 % 단계로
+        updateWithEnergy(Float.NaN);
+        assertTrue(Float.isNaN(governor.getLastEnergyBudget()));
+    }
+
+    private int updateWithEnergy(float remainingEnergyJ) {
+        nowMs += TICK_MS;
+        return governor.update(nowMs, 10f, 80, false, 0, 30, remainingEnergyJ);
+    }
+
+    private interface Load {
+        float costPerFrame(long nowMs);
+    }
+
+    private void run(long durationMs, Load load) {
+        long end = nowMs + durationMs;
+        while (nowMs < end) {
+            nowMs += TICK_MS;
+            float cpu = load.costPerFrame(nowMs) * governor.getCurrentFps();
+            governor.update(nowMs, cpu, 100, true, 0);
+        }
+    }
+
+    // 주기 사이에 현재 FPS만큼 프레임 지연 기록
+    private void runWithLatency(long durationMs, float cpu, float latencyMs) {
+        long end = nowMs + durationMs;
+        while (nowMs < end) {
+            int frames = (int) (governor.getCurrentFps() * TICK_MS / 1000);
+            for (int i = 1; i <= frames; i++) {
+                governor.recordFrame(nowMs + i * TICK_MS / frames, latencyMs);
+            }
+            nowMs += TICK_MS;
+            governor.update(nowMs, cpu, 100, true, 0);
+        }
+    }
+
+    private float cpuAt(float costPerFrame) {
+        return costPerFrame * governor.getCurrentFps();
+    }
+
+    private void assertAllDown() {
+        for (FpsGovernor.Decision decision : decisions) {
+            assertTrue("올라가면 안 됨: " + decision, decision.toFps < decision.fromFps);
+        }
+    }
+
+    // 내린 뒤 다시 올리기까지는 올림 최소 유지 시간(30초) 이상
+    // (올린 단계가 초과면 바로 내리는 것은 정상 - 대신 재시도 간격이 늘어남)
+    private void assertNoFlapping() {
+        for (int i = 1; i < decisions.size(); i++) {
+            FpsGovernor.Decision a = decisions.get(i - 1);
+            FpsGovernor.Decision b = decisions.get(i);
+            if (a.toFps < a.fromFps && b.toFps > b.fromFps) {
+                assertTrue("흔들림: " + a + " / " + b, b.timestampMs - a.timestampMs >= 30_000);
+            }
+        }
+    }
+
+    // 실패한 올림을 다시 시도하는 간격은 줄지 않고, 시도 횟수는 제한됨
+    private void assertRetriesBackOff(int maxRaises) {
+        List<Long> raises = new ArrayList<>();
+        for (FpsGovernor.Decision decision : decisions) {
+            if (decision.reason == FpsGovernor.Reason.HEADROOM) {
+                raises.add(decision.timestampMs);
+            }
+        }
+        assertTrue("다시 올려 보는 횟수 제한: " + decisions, raises.size() <= maxRaises);
+        for (int i = 2; i < raises.size(); i++) {
+            long previousGap = raises.get(i - 1) - raises.get(i - 2);
+            long gap = raises.get(i) - raises.get(i - 1);
+            assertTrue("재시도 간격이 줄지 않음: " + gap + " < " + previousGap, gap >= previousGap);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package camp.visual.android.sdk.sample.domain.performance;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 가짜 ThermalSource로 ThermalPolicy 검증
+ * - 예측 여유 → 최대 FPS 상한
+ * - 여유를 지원하지 않는 기기(NaN)에서는 OS 발열 상태로 판단
+ * - 해제는 최소 유지 시간 + 여유 폭을 지나 한 단계씩
+ */
+public class ThermalPolicyTest {
+
+    private static final int FORECAST_SECONDS = 10;
+    private static final long SAMPLE_MS = 5_000;
+
+    private FakeThermalSource source;
+    private ThermalPolicy policy;
+    private long nowMs;
+
+    @Before
+    public void setUp() {
+        source = new FakeThermalSource();
+        policy = new ThermalPolicy();
+        nowMs = 0;
+    }
+
+    @Test
+    public void headroomMapsToFpsCeiling() {
+        assertCeiling(0.5f, 30);
+        assertCeiling(0.74f, 30);
+        assertCeiling(0.75f, 20);
+        assertCeiling(0.89f, 20);
+        assertCeiling(0.9f, 15);
+        assertCeiling(0.99f, 15);
+        assertCeiling(1.0f, 10);
+        assertCeiling(1.3f, 10);
+    }
+
+    @Test
+    public void headroomEscalatesBeforeOsStatus() {
+        source.status = ThermalSource.STATUS_NONE;
+        source.headroom = 0.8f;
+
+        assertEquals(ThermalPolicy.Level.WARM, sample());
+        assertEquals(20, policy.getLevel().maxFps);
+    }
+
+    @Test
+    public void statusFallbackWhenHeadroomUnavailable() {
+        source.headroom = Float.NaN;
+        assertStatusCeiling(ThermalSource.STATUS_NONE, 30);
+        assertStatusCeiling(ThermalSource.STATUS_LIGHT, 20);
+        assertStatusCeiling(ThermalSource.STATUS_MODERATE, 15);
+        assertStatusCeiling(ThermalSource.STATUS_SEVERE, 10);
+        assertStatusCeiling(ThermalSource.STATUS_CRITICAL, 10);
+        assertStatusCeiling(ThermalSource.STATUS_EMERGENCY, 10);
+        assertStatusCeiling(ThermalSource.STATUS_SHUTDOWN, 10);
+    }
+
+    @Test
+    public void statusFallbackReleasesOneLevelPerHold() {
+        source.headroom = Float.NaN;
+        source.status = ThermalSource.STATUS_MODERATE;
+        assertEquals(ThermalPolicy.Level.HOT, sample());
+
+        source.status = ThermalSource.STATUS_NONE;
+        advance(25_000);
+        assertEquals("최소 유지 시간 전에는 유지", ThermalPolicy.Level.HOT, policy.getLevel());
+        advance(10_000);
+        assertEquals("한 단계만 완화", ThermalPolicy.Level.WARM, policy.getLevel());
+        advance(30_000);
+        assertEquals(ThermalPolicy.Level.NORMAL, policy.getLevel());
+    }
+
+    @Test
+    public void worseOfStatusAndHeadroomWins() {
+        source.status = ThermalSource.STATUS_SEVERE;
+        source.headroom = 0.5f;
+        assertEquals(ThermalPolicy.Level.CRITICAL, sample());
+
+        policy.reset();
+        source.status = ThermalSource.STATUS_LIGHT;
+        source.headroom = 0.95f;
+        assertEquals(ThermalPolicy.Level.HOT, sample());
+    }
+
+    @Test
+    public void releaseNeedsMarginBelowThreshold() {
+        source.status = ThermalSource.STATUS_NONE;
+        source.headroom = 0.95f;
+        assertEquals(ThermalPolicy.Level.HOT, sample());
+
+        // HOT 기준(0.9) 아래지만 해제 여유 폭(0.05) 안 → 유지
+        source.headroom = 0.88f;
+        advance(120_000);
+        assertEquals(ThermalPolicy.Level.HOT, policy.getLevel());
+
+        source.headroom = 0.8f;
+        advance(30_000);
+        assertEquals(ThermalPolicy.Level.WARM, policy.getLevel());
+        // WARM 기준(0.75)에서 여유 폭 안 → 더 내려가지 않음
+        advance(120_000);
+        assertEquals(ThermalPolicy.Level.WARM, policy.getLevel());
+    }
+
+    @Test
+    public void escalationIgnoresHoldTime() {
+        source.status = ThermalSource.STATUS_NONE;
+        source.headroom = 0.8f;
+        assertEquals(ThermalPolicy.Level.WARM, sample());
+
+        source.headroom = 1.02f;
+        assertEquals("올라갈 때는 바로", ThermalPolicy.Level.CRITICAL, sample());
+        assertNull(sample());
+    }
+
+    private void assertCeiling(float headroom, int expectedFps) {
+        policy.reset();
+        source.status = ThermalSource.STATUS_NONE;
+        source.headroom = headroom;
+        sample();
+        assertEquals("여유 " + headroom, expectedFps, policy.getLevel().maxFps);
+    }
+
+    private void assertStatusCeiling(int status, int expectedFps) {
+        policy.reset();
+        source.status = status;
+        sample();
+        assertEquals("상태 " + status, expectedFps, policy.getLevel().maxFps);
+    }
+
+    // 성능 샘플러와 같은 방식으로 공급원을 읽어 정책 갱신
+    private ThermalPolicy.Level sample() {
+        nowMs += SAMPLE_MS;
+        return policy.update(nowMs, source.getThermalStatus(), source.getThermalHeadroom(FORECAST_SECONDS));
+    }
+
+    private void advance(long durationMs) {
+        long end = nowMs + durationMs;
+        while (nowMs < end) {
+            sample();
+        }
+    }
+
+    private static final class FakeThermalSource implements ThermalSource {
+        int status = STATUS_NONE;
+        float headroom = Float.NaN;
+
+        @Override
+        public void start(Listener listener) {
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public int getThermalStatus() {
+            return status;
+        }
+
+        @Override
+        public float getThermalHeadroom(int forecastSeconds) {
+            return headroom;
+        }
+    }
+}